@@ -0,0 +1,14 @@
+package com.netcracker.assignment.algorithms;
+
+/**
+ * Thrown when assignment problem has no feasible solution, i.e. when persons can't all
+ * be assigned to distinct admissible items.
+ */
+public class InfeasibleProblemException extends IllegalArgumentException {
+
+    private static final long serialVersionUID = 1L;
+
+    public InfeasibleProblemException(String message) {
+        super(message);
+    }
+}
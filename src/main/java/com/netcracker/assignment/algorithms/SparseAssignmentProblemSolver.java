@@ -0,0 +1,17 @@
+package com.netcracker.assignment.algorithms;
+
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.SparseBenefitMatrix;
+
+/**
+ * Solver for problems, where most person/item pairs are forbidden.
+ * Only admissible pairs are present in the input, so no dense matrix is ever created.
+ */
+public interface SparseAssignmentProblemSolver {
+
+    /**
+     * @param benefitMatrix
+     * @return array, where each element represents person and contains index of its item
+     * @throws InfeasibleProblemException if persons can't all be assigned to distinct admissible items
+     */
+    int[] findMaxCostAssignment(SparseBenefitMatrix benefitMatrix);
+}
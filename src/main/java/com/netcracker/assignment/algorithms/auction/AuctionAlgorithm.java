@@ -4,11 +4,20 @@ import com.netcracker.assignment.algorithms.AssignmentProblemSolver;
 import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.Assignment;
 import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.BenefitMatrix;
 import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.PriceVector;
-import com.netcracker.assignment.algorithms.auction.auxillary.logic.epsilonscaling.DefaultEpsilonSequenceProducer;
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.basic.OptimalityCertificate;
+import com.netcracker.assignment.algorithms.auction.auxillary.logic.certificate.CertificateChecker;
+import com.netcracker.assignment.algorithms.auction.auxillary.logic.asymmetric.AsymmetricReverseAuction;
+import com.netcracker.assignment.algorithms.auction.auxillary.logic.epsilonscaling.AdaptiveEpsilonSequenceProducer;
+import com.netcracker.assignment.algorithms.auction.auxillary.logic.epsilonscaling.EpsilonSequence;
 import com.netcracker.assignment.algorithms.auction.auxillary.logic.epsilonscaling.EpsilonSequenceProducer;
+import com.netcracker.assignment.algorithms.auction.auxillary.logic.epsilonscaling.PhaseStatistics;
+import com.netcracker.assignment.algorithms.auction.auxillary.logic.epsilonscaling.PhaseTransition;
 import com.netcracker.assignment.algorithms.auction.implementation.AuctionImplementation;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.OptionalDouble;
+import java.util.concurrent.TimeUnit;
 
 import static com.netcracker.assignment.utils.AssertionMaker.makeAssertion;
 import static com.netcracker.assignment.utils.io.logging.StaticLoggerHolder.info;
@@ -22,36 +31,243 @@ import static com.netcracker.assignment.utils.io.logging.StaticLoggerHolder.info
  * This class is aware of the concept of "epsilon scaling phase" (via AuctionImplementation.
  * epsilonScalingPhase(...) method) but it is NOT aware of the concept of "auction round"
  * (because asynchronous implementations have no concept of "round").
+ *
+ * Number of persons can be less than number of items. In that case each phase is followed
+ * by the reverse stage of the asymmetric auction (see AsymmetricReverseAuction).
+ *
+ * Epsilon sequence is consumed lazily: statistics of each phase (see PhaseStatistics) are passed
+ * to the sequence before the next epsilon is requested, so adaptive producers can react to them.
+ *
+ * After each phase the assignment is checked against the dual bound (see CertificateChecker).
+ * Benefits are integers, so once the gap is less than 1 the assignment is optimal and the rest
+ * of the sequence is skipped: last phases often change nothing, but each of them makes all
+ * persons bid again. The check is a single pass over the matrix, which is not more than
+ * the first round of any phase. The gap is summed in double, so it has to be less than 1 together
+ * with its rounding error. Final epsilon of such result is the max slack of the certificate
+ * (but not less than 1 / (m + 1)) instead of the coarse epsilon of the last phase.
+ *
+ * Between phases persons, who are still epsilon-happy with their items at the new epsilon, keep them
+ * by default, and only the others bid again (see PhaseTransition).
  */
 public class AuctionAlgorithm implements AssignmentProblemSolver {
 
     private final AuctionImplementation implementation;
     private final EpsilonSequenceProducer epsilonProducer;
+    private final PhaseTransition phaseTransition;
 
+    /**
+     * Uses adaptive epsilon scaling (initial epsilon from the range of benefits).
+     */
     public AuctionAlgorithm(AuctionImplementation implementation) {
-        this(implementation, new DefaultEpsilonSequenceProducer(1.0, 0.25));
+        this(implementation, new AdaptiveEpsilonSequenceProducer());
     }
 
     public AuctionAlgorithm(AuctionImplementation implementation, EpsilonSequenceProducer epsilonProducer) {
+        this(implementation, epsilonProducer, PhaseTransition.KEEP_HAPPY_PERSONS);
+    }
+
+    public AuctionAlgorithm(AuctionImplementation implementation,
+                            EpsilonSequenceProducer epsilonProducer,
+                            PhaseTransition phaseTransition) {
         this.implementation = implementation;
         this.epsilonProducer = epsilonProducer;
+        this.phaseTransition = phaseTransition;
     }
 
     @Override
     public int[] findMaxCostAssignment(int[][] inputBenefitMatrix) {
-        final BenefitMatrix benefitMatrix = new BenefitMatrix(inputBenefitMatrix);
-        final int n = benefitMatrix.size();
-        info("Solving problem for size: %d", n);
+        return findMaxCostAssignment(BenefitMatrix.createRowMajor(inputBenefitMatrix));
+    }
+
+    /**
+     * Same as findMaxCostAssignment(int[][]), but allows caller to choose the layout of benefit matrix.
+     *
+     * @param benefitMatrix
+     * @return
+     */
+    public int[] findMaxCostAssignment(BenefitMatrix benefitMatrix) {
+        return solve(benefitMatrix).getAssignment();
+    }
+
+    /**
+     * Cold start: initial prices and full epsilon sequence.
+     *
+     * @param benefitMatrix
+     * @return assignment together with final prices, which can be used as a warm start later
+     */
+    public AuctionResult solve(BenefitMatrix benefitMatrix) {
+        return solve(benefitMatrix, Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Same as findMaxCostAssignment(int[][]), but stops after the phase, which doesn't leave
+     * enough time for the next one (see solve(BenefitMatrix, long, TimeUnit)).
+     *
+     * @param inputBenefitMatrix
+     * @param timeout
+     * @param unit
+     * @return the best assignment, which was found in time
+     */
+    public int[] findMaxCostAssignment(int[][] inputBenefitMatrix, long timeout, TimeUnit unit) {
+        return solve(BenefitMatrix.createRowMajor(inputBenefitMatrix), timeout, unit).getAssignment();
+    }
+
+    /**
+     * Anytime solve: cold start, which stops before the phase, which is not expected to finish in time.
+     * <p>
+     * Phases can't be interrupted, so the duration of the next phase is predicted by the duration
+     * of the previous one. The first phase is always finished, because there is no complete
+     * assignment before that. Result of the last finished phase is returned, with the bound
+     * on its suboptimality (see AuctionResult.getMaxSuboptimality()).
+     *
+     * @param benefitMatrix
+     * @param timeout       time budget, measured from the call
+     * @param unit
+     * @return
+     */
+    public AuctionResult solve(BenefitMatrix benefitMatrix, long timeout, TimeUnit unit) {
+        checkDimensions(benefitMatrix);
+        final PriceVector priceVector = PriceVector.createInitialPriceVector(benefitMatrix.getNumberOfItems());
+        return runPhases(benefitMatrix, priceVector, epsilonProducer.createEpsilonSequence(benefitMatrix), unit.toNanos(timeout));
+    }
 
-        final PriceVector priceVector = PriceVector.createInitialPriceVector(n);
-        final List<Double> epsilonSequence = epsilonProducer.getEpsilonSequence(n);
+    /**
+     * Warm start from the result of the previous solve.
+     * <p>
+     * If benefits changed by at most delta, then the previous prices satisfy epsilon-complementary
+     * slackness for the new matrix with epsilon = previous final epsilon + 2 * delta, so scaling
+     * starts from this epsilon instead of the first one. If matrix didn't change at all, only
+     * one phase with the previous final epsilon is done (each person bids once).
+     *
+     * @param benefitMatrix new matrix with the same dimensions as the previous one
+     * @param warmStart     result of the previous solve
+     * @return
+     */
+    public AuctionResult solve(BenefitMatrix benefitMatrix, AuctionResult warmStart) {
+        final long maxDifference = benefitMatrix.findMaxDifference(warmStart.getBenefitMatrix());
+        return solve(benefitMatrix, warmStart, warmStart.getFinalEpsilon() + 2.0 * maxDifference);
+    }
+
+    /**
+     * Same as solve(BenefitMatrix, AuctionResult), but starting epsilon is chosen by caller
+     * (for example, when the bound on the change of benefits is known in advance).
+     *
+     * @param benefitMatrix
+     * @param warmStart
+     * @param startingEpsilon
+     * @return
+     */
+    public AuctionResult solve(BenefitMatrix benefitMatrix, AuctionResult warmStart, double startingEpsilon) {
+        checkDimensions(benefitMatrix);
+        final PriceVector priceVector = warmStart.getPriceVector();
+        if (priceVector.size() != benefitMatrix.getNumberOfItems()) {
+            throw new IllegalArgumentException(String.format(
+                    "Warm start has %d prices, but there are %d items", priceVector.size(), benefitMatrix.getNumberOfItems()));
+        }
+        final EpsilonSequence coldSequence = epsilonProducer.createEpsilonSequence(benefitMatrix);
+        return runPhases(benefitMatrix, priceVector, EpsilonSequence.startingFrom(coldSequence, startingEpsilon), Long.MAX_VALUE);
+    }
+
+    /**
+     * Same as the warm sequence, which is used by solve(BenefitMatrix, AuctionResult, double),
+     * but for the sequence, which is fixed in advance.
+     */
+    static List<Double> createWarmEpsilonSequence(List<Double> coldSequence, double startingEpsilon) {
+        final EpsilonSequence warmSequence = EpsilonSequence.startingFrom(EpsilonSequence.fromList(coldSequence), startingEpsilon);
+        final List<Double> warmList = new ArrayList<>();
+        for (OptionalDouble epsilon = warmSequence.next(null); epsilon.isPresent(); epsilon = warmSequence.next(null)) {
+            warmList.add(epsilon.getAsDouble());
+        }
+        return warmList;
+    }
+
+    private AuctionResult runPhases(BenefitMatrix benefitMatrix,
+                                    PriceVector priceVector,
+                                    EpsilonSequence epsilonSequence,
+                                    long timeoutNanos) {
+        final long startTime = System.nanoTime();
+        final int numberOfPersons = benefitMatrix.getNumberOfPersons();
+        final int numberOfItems = benefitMatrix.getNumberOfItems();
+        info("Solving problem for size: %d x %d", numberOfPersons, numberOfItems);
+
+        // structures, which the implementation derives from the matrix, live only during this solve
+        final AuctionImplementation boundImplementation = implementation.bind(benefitMatrix);
         Assignment assignment = null;
-        for(Double epsilon : epsilonSequence){
-            assignment = implementation.epsilonScalingPhase(benefitMatrix, priceVector, epsilon);
+        PhaseStatistics statistics = null;
+        int numberOfPhases = 0;
+        boolean finished = true;
+        double maxSuboptimality = Double.POSITIVE_INFINITY;
+        double finalEpsilon = Double.NaN;
+        for (OptionalDouble nextEpsilon = epsilonSequence.next(null);
+             nextEpsilon.isPresent();
+             nextEpsilon = epsilonSequence.next(statistics)) {
+            if (statistics != null && timeoutNanos - (System.nanoTime() - startTime) < statistics.getDurationNanos()) {
+                info("  Stopping before epsilon %s: not enough time for another phase", nextEpsilon.getAsDouble());
+                finished = false;
+                break;
+            }
+            final double epsilon = nextEpsilon.getAsDouble();
+            final double[] pricesBefore = priceVector.getPriceArray().clone();
+            final long phaseStartTime = System.nanoTime();
+
+            final Assignment startingAssignment = phaseTransition.createStartingAssignment(
+                    benefitMatrix, priceVector, assignment, epsilon);
+            assignment = boundImplementation.epsilonScalingPhase(benefitMatrix, priceVector, epsilon, startingAssignment);
+            if (numberOfPersons < numberOfItems) {
+                assignment = AsymmetricReverseAuction.run(benefitMatrix, priceVector, assignment, epsilon);
+            }
+
+            statistics = PhaseStatistics.create(
+                    numberOfPhases++,
+                    epsilon,
+                    numberOfPersons,
+                    System.nanoTime() - phaseStartTime,
+                    pricesBefore,
+                    priceVector.getPriceArray()
+            );
+            info("  Phase statistics: %s", statistics);
+
+            finalEpsilon = epsilon;
+            maxSuboptimality = numberOfPersons * epsilon;
+            if (maxSuboptimality >= 1.0) {
+                final OptimalityCertificate certificate = CertificateChecker.check(benefitMatrix, assignment, priceVector);
+                // the gap is summed in double, so its rounding error is a part of the proven bound
+                maxSuboptimality = Math.min(maxSuboptimality, certificate.getGap() + certificate.getTolerance());
+                if (maxSuboptimality < 1.0) {
+                    // report the epsilon, which the prices actually satisfy, so that warm starts and sessions
+                    // don't continue with the coarse one (any epsilon above the max slack is satisfied as well)
+                    finalEpsilon = Math.min(epsilon, Math.max(
+                            certificate.getMaxSlack() + certificate.getTolerance(), 1.0 / (numberOfPersons + 1)));
+                }
+            }
+            if (maxSuboptimality < 1.0) {
+                info("  Stopping after epsilon %s: assignment is optimal", epsilon);
+                break;
+            }
+        }
+        if (assignment == null) {
+            throw new IllegalStateException("Epsilon sequence is empty for problem size " + numberOfPersons);
         }
 
         makeAssertion(assignment.isComplete());
 
-        return assignment.getPersonAssignment();
+        return AuctionResult.create(
+                benefitMatrix,
+                assignment.getPersonAssignment(),
+                priceVector,
+                finalEpsilon,
+                numberOfPhases,
+                finished,
+                maxSuboptimality
+        );
+    }
+
+    private static void checkDimensions(BenefitMatrix benefitMatrix) {
+        final int numberOfPersons = benefitMatrix.getNumberOfPersons();
+        final int numberOfItems = benefitMatrix.getNumberOfItems();
+        if (numberOfPersons > numberOfItems) {
+            throw new IllegalArgumentException(String.format(
+                    "Number of persons (%d) is greater than number of items (%d)", numberOfPersons, numberOfItems));
+        }
     }
 }
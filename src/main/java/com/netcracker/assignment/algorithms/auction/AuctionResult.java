@@ -0,0 +1,141 @@
+package com.netcracker.assignment.algorithms.auction;
+
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.BenefitMatrix;
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.PriceVector;
+
+import java.util.Arrays;
+
+/**
+ * Result of the auction: assignment together with the final prices and the epsilon, for which
+ * they satisfy epsilon-complementary slackness.
+ * <p>
+ * It can be passed back to AuctionAlgorithm as a warm start for the next (slightly changed) problem,
+ * so the prices don't have to be rebuilt from scratch. Benefit matrix is kept to find out
+ * how much the next problem differs from this one.
+ * <p>
+ * If the solve was stopped by a deadline, the result is the one of the last finished phase,
+ * and its distance from the optimum is bounded by number of persons * final epsilon or by the gap
+ * of the optimality certificate, whichever is smaller (see getMaxSuboptimality()).
+ * <p>
+ * Immutable: prices are copied in and out.
+ */
+public class AuctionResult {
+
+    private final BenefitMatrix benefitMatrix;
+    private final int[] assignment;
+    private final PriceVector priceVector;
+    private final double finalEpsilon;
+    private final int numberOfPhases;
+    private final boolean finished;
+    private final double maxSuboptimality;
+
+    public static AuctionResult create(BenefitMatrix benefitMatrix,
+                                       int[] assignment,
+                                       PriceVector priceVector,
+                                       double finalEpsilon,
+                                       int numberOfPhases) {
+        return create(benefitMatrix, assignment, priceVector, finalEpsilon, numberOfPhases, true);
+    }
+
+    public static AuctionResult create(BenefitMatrix benefitMatrix,
+                                       int[] assignment,
+                                       PriceVector priceVector,
+                                       double finalEpsilon,
+                                       int numberOfPhases,
+                                       boolean finished) {
+        return create(benefitMatrix, assignment, priceVector, finalEpsilon, numberOfPhases, finished,
+                assignment.length * finalEpsilon);
+    }
+
+    /**
+     * @param finished         false, if the solve was stopped before the assignment was known to be optimal
+     *                         (for example, by a deadline)
+     * @param maxSuboptimality proven bound on the distance from the optimum
+     */
+    public static AuctionResult create(BenefitMatrix benefitMatrix,
+                                       int[] assignment,
+                                       PriceVector priceVector,
+                                       double finalEpsilon,
+                                       int numberOfPhases,
+                                       boolean finished,
+                                       double maxSuboptimality) {
+        return new AuctionResult(benefitMatrix, assignment.clone(), priceVector.copy(), finalEpsilon, numberOfPhases,
+                finished, Math.min(maxSuboptimality, assignment.length * finalEpsilon));
+    }
+
+    private AuctionResult(BenefitMatrix benefitMatrix,
+                          int[] assignment,
+                          PriceVector priceVector,
+                          double finalEpsilon,
+                          int numberOfPhases,
+                          boolean finished,
+                          double maxSuboptimality) {
+        this.benefitMatrix = benefitMatrix;
+        this.assignment = assignment;
+        this.priceVector = priceVector;
+        this.finalEpsilon = finalEpsilon;
+        this.numberOfPhases = numberOfPhases;
+        this.finished = finished;
+        this.maxSuboptimality = maxSuboptimality;
+    }
+
+    public BenefitMatrix getBenefitMatrix() {
+        return benefitMatrix;
+    }
+
+    /**
+     * @return item for each person
+     */
+    public int[] getAssignment() {
+        return assignment.clone();
+    }
+
+    /**
+     * @return copy of the final prices
+     */
+    public PriceVector getPriceVector() {
+        return priceVector.copy();
+    }
+
+    /**
+     * @return epsilon, for which assignment and prices satisfy epsilon-complementary slackness
+     * (usually the epsilon of the last phase, but smaller, if the solve stopped early with optimal assignment)
+     */
+    public double getFinalEpsilon() {
+        return finalEpsilon;
+    }
+
+    public int getNumberOfPhases() {
+        return numberOfPhases;
+    }
+
+    /**
+     * @return false, if the solve was stopped before the last epsilon of the sequence,
+     * without a proof that the assignment is already optimal
+     */
+    public boolean isFinished() {
+        return finished;
+    }
+
+    /**
+     * Assignment and prices satisfy epsilon-complementary slackness, so the total benefit
+     * of the assignment is at most this much less than the optimal one.
+     * For integer benefits the assignment is optimal, if it's less than 1.
+     *
+     * @return number of persons * final epsilon, or the gap of the optimality certificate, if it's smaller
+     */
+    public double getMaxSuboptimality() {
+        return maxSuboptimality;
+    }
+
+    @Override
+    public String toString() {
+        return "AuctionResult{" +
+                "assignment=" + Arrays.toString(assignment) +
+                ", finalEpsilon=" + finalEpsilon +
+                ", numberOfPhases=" + numberOfPhases +
+                ", finished=" + finished +
+                ", maxSuboptimality=" + maxSuboptimality +
+                '}';
+    }
+}
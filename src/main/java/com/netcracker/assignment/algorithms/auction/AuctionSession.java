@@ -0,0 +1,260 @@
+package com.netcracker.assignment.algorithms.auction;
+
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.Assignment;
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.BenefitMatrix;
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.PriceVector;
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.PrimitivePersonQueue;
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.basic.MutableSearchResult;
+import com.netcracker.assignment.algorithms.auction.auxillary.logic.asymmetric.AsymmetricReverseAuction;
+import com.netcracker.assignment.algorithms.auction.auxillary.logic.search.SearchKernel;
+
+import java.util.Arrays;
+
+import static com.netcracker.assignment.algorithms.auction.auxillary.logic.bids.BidMaker.computeBidValue;
+
+/**
+ * Stateful auction for a problem, which changes by small pieces (single benefits, rows or columns).
+ * <p>
+ * Problem is solved once from scratch, after that the session keeps the final prices and assignment,
+ * which satisfy epsilon-complementary slackness (every person is assigned to an item with value
+ * within epsilon of its best value). After each update only the persons, for which this condition
+ * no longer holds, are removed from the assignment, and only they bid again (Gauss-Seidel style,
+ * at the final epsilon). Other persons keep their items: their values are affected only by
+ * increase of their own prices, which makes them bid anyway.
+ * <p>
+ * Re-auctioned assignment is optimal only if m * epsilon < 1. The initial solve may stop
+ * earlier (for example, by a deadline or on a custom epsilon sequence), so if its final epsilon
+ * is too coarse, the session runs one more phase at 1 / (m + 1) in the same incremental way.
+ * <p>
+ * So the cost of an update is proportional to the number of persons, which are re-auctioned,
+ * times the number of items, instead of the full solve.
+ * <p>
+ * Updates are applied lazily: violated persons are queued, and the auction runs
+ * when the assignment is requested.
+ * <p>
+ * Session is NOT thread-safe.
+ */
+public class AuctionSession {
+
+    private final BenefitMatrix benefitMatrix;
+    // backing storage of row-major benefit matrix, which is owned by the session and updated in place
+    private final int[] benefitStorage;
+    private final int numberOfPersons;
+    private final int numberOfItems;
+
+    private final PriceVector priceVector;
+    private final double[] priceArray;
+    private final double epsilon;
+
+    // each element represents item and contains index of its owner (or -1)
+    private final int[] ownerArray;
+    // each element represents person and contains index of its item (or -1)
+    private final int[] personItemArray;
+
+    private final PrimitivePersonQueue nonAssignedPersonQueue;
+    private final boolean[] personInQueueArray;
+
+    private final SearchKernel searchKernel;
+    private final MutableSearchResult result = new MutableSearchResult();
+
+    /**
+     * @param solver        used for the initial solve, its final epsilon is used for all following updates,
+     *                      if it's small enough for optimality, otherwise 1 / (m + 1) is used
+     * @param benefitMatrix copied
+     */
+    public static AuctionSession create(AuctionAlgorithm solver, int[][] benefitMatrix) {
+        return create(solver, benefitMatrix, SearchKernel.SCALAR);
+    }
+
+    public static AuctionSession create(AuctionAlgorithm solver, int[][] benefitMatrix, SearchKernel searchKernel) {
+        final BenefitMatrix ownMatrix = BenefitMatrix.createRowMajor(benefitMatrix);
+        return new AuctionSession(ownMatrix, solver.solve(ownMatrix), searchKernel);
+    }
+
+    private AuctionSession(BenefitMatrix benefitMatrix, AuctionResult initialResult, SearchKernel searchKernel) {
+        this.benefitMatrix = benefitMatrix;
+        this.benefitStorage = benefitMatrix.getStorage();
+        this.numberOfPersons = benefitMatrix.getNumberOfPersons();
+        this.numberOfItems = benefitMatrix.getNumberOfItems();
+
+        this.priceVector = initialResult.getPriceVector();
+        this.priceArray = priceVector.getPriceArray();
+        final double finalEpsilon = initialResult.getFinalEpsilon();
+        this.epsilon = numberOfPersons * finalEpsilon < 1.0 ? finalEpsilon : 1.0 / (numberOfPersons + 1);
+
+        this.personItemArray = initialResult.getAssignment();
+        this.ownerArray = new int[numberOfItems];
+        Arrays.fill(ownerArray, -1);
+        for (int person = 0; person < numberOfPersons; person++) {
+            ownerArray[personItemArray[person]] = person;
+        }
+
+        this.nonAssignedPersonQueue = PrimitivePersonQueue.createEmptyPersonQueue(numberOfPersons);
+        this.personInQueueArray = new boolean[numberOfPersons];
+        this.searchKernel = searchKernel;
+
+        if (finalEpsilon > epsilon) {
+            // final phase: persons, who are not happy at the smaller epsilon, bid again
+            for (int person = 0; person < numberOfPersons; person++) {
+                checkPerson(person);
+            }
+            restoreComplementarySlackness();
+        }
+    }
+
+    //==================== Updates
+
+    public void updateBenefit(int person, int item, int benefit) {
+        final int oldBenefit = setBenefit(person, item, benefit);
+        checkAfterUpdate(person, item, benefit < oldBenefit);
+    }
+
+    /**
+     * @param person
+     * @param benefits new benefits of the person for every item
+     */
+    public void updatePerson(int person, int[] benefits) {
+        if (benefits.length != numberOfItems) {
+            throw new IllegalArgumentException("Expected " + numberOfItems + " benefits, got " + benefits.length);
+        }
+        for (int item = 0; item < numberOfItems; item++) {
+            setBenefit(person, item, benefits[item]);
+        }
+        if (personItemArray[person] != -1) {
+            checkPerson(person);
+        }
+    }
+
+    /**
+     * @param item
+     * @param benefits new benefits of the item for every person
+     */
+    public void updateItem(int item, int[] benefits) {
+        if (benefits.length != numberOfPersons) {
+            throw new IllegalArgumentException("Expected " + numberOfPersons + " benefits, got " + benefits.length);
+        }
+        for (int person = 0; person < numberOfPersons; person++) {
+            final int oldBenefit = setBenefit(person, item, benefits[person]);
+            checkAfterUpdate(person, item, benefits[person] < oldBenefit);
+        }
+    }
+
+    //==================== Results
+
+    /**
+     * Re-auctions persons, which were affected by updates since the last call.
+     *
+     * @return item for each person
+     */
+    public int[] getAssignment() {
+        restoreComplementarySlackness();
+        return personItemArray.clone();
+    }
+
+    /**
+     * @return copy of the current prices
+     */
+    public PriceVector getPriceVector() {
+        restoreComplementarySlackness();
+        return priceVector.copy();
+    }
+
+    public double getEpsilon() {
+        return epsilon;
+    }
+
+    /**
+     * @return number of persons, which are waiting to be re-auctioned
+     */
+    public int getNumberOfPendingPersons() {
+        return nonAssignedPersonQueue.size();
+    }
+
+    //==================== Internals
+
+    private int setBenefit(int person, int item, int benefit) {
+        final int offset = benefitMatrix.getOffset(person, item);
+        final int oldBenefit = benefitStorage[offset];
+        benefitStorage[offset] = benefit;
+        return oldBenefit;
+    }
+
+    /**
+     * Benefit of (person, item) has changed, so epsilon-complementary slackness of the person
+     * has to be checked. If the item belongs to the person, only decrease can break it (and then all
+     * items have to be checked), otherwise it's enough to compare the item with the current one.
+     */
+    private void checkAfterUpdate(int person, int item, boolean decreased) {
+        final int currentItem = personItemArray[person];
+        if (currentItem == -1) {
+            return;
+        }
+        if (currentItem == item) {
+            if (decreased) {
+                checkPerson(person);
+            }
+        } else if (getValue(person, item) > getValue(person, currentItem) + epsilon) {
+            removeFromAssignment(person);
+        }
+    }
+
+    private void checkPerson(int person) {
+        searchKernel.searchRange(benefitMatrix, person, priceArray, 0, numberOfItems, result);
+        if (result.getBestValue() > getValue(person, personItemArray[person]) + epsilon) {
+            removeFromAssignment(person);
+        }
+    }
+
+    private double getValue(int person, int item) {
+        return benefitStorage[benefitMatrix.getOffset(person, item)] - priceArray[item];
+    }
+
+    private void removeFromAssignment(int person) {
+        ownerArray[personItemArray[person]] = -1;
+        personItemArray[person] = -1;
+        addToQueue(person);
+    }
+
+    private void addToQueue(int person) {
+        if (!personInQueueArray[person]) {
+            personInQueueArray[person] = true;
+            nonAssignedPersonQueue.add(person);
+        }
+    }
+
+    private void restoreComplementarySlackness() {
+        if (nonAssignedPersonQueue.isEmpty()) {
+            return;
+        }
+
+        for (int person = nonAssignedPersonQueue.poll(); person != -1; person = nonAssignedPersonQueue.poll()) {
+            personInQueueArray[person] = false;
+            searchKernel.searchRange(benefitMatrix, person, priceArray, 0, numberOfItems, result);
+            final int bestItem = result.getBestItem();
+            priceArray[bestItem] += computeBidValue(result.getBestValue(), result.getSecondBestValue(), epsilon);
+            final int oldOwner = ownerArray[bestItem];
+            if (oldOwner != -1) {
+                personItemArray[oldOwner] = -1;
+                addToQueue(oldOwner);
+            }
+            ownerArray[bestItem] = person;
+            personItemArray[person] = bestItem;
+        }
+
+        if (numberOfPersons < numberOfItems) {
+            // items, which lost their owners, may keep prices above the assigned ones
+            final Assignment assignment = AsymmetricReverseAuction.run(
+                    benefitMatrix,
+                    priceVector,
+                    Assignment.createFromOwnerArray(ownerArray, numberOfPersons),
+                    epsilon
+            );
+            System.arraycopy(assignment.getOwnerArray(), 0, ownerArray, 0, numberOfItems);
+            for (int item = 0; item < numberOfItems; item++) {
+                if (ownerArray[item] != -1) {
+                    personItemArray[ownerArray[item]] = item;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,353 @@
+package com.netcracker.assignment.algorithms.auction;
+
+import com.netcracker.assignment.algorithms.AssignmentProblemSolver;
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.BenefitMatrix;
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.PrimitivePersonQueue;
+import com.netcracker.assignment.algorithms.auction.auxillary.logic.asymmetric.AsymmetricReverseAuction;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import static com.netcracker.assignment.utils.io.logging.StaticLoggerHolder.info;
+
+/**
+ * Auction algorithm in exact integer arithmetic.
+ * <p>
+ * Benefits are multiplied by (m + 1), where m is the number of persons, so epsilon = 1 in scaled units
+ * is epsilon = 1 / (m + 1) in original ones, which is less than 1 / m, so the final assignment is optimal
+ * exactly, without any floating-point argument. Prices are longs and epsilons are integers, which are
+ * divided by the reduction factor in each phase (rounding up) down to 1. All compares are integer ones
+ * and there is no rounding drift, so the result is deterministic: on ties the item with the smallest
+ * index wins.
+ * <p>
+ * Persons bid one at a time (Gauss-Seidel). The rest follows AuctionAlgorithm:
+ * - Between phases persons, who are still epsilon-happy, keep their items (see PhaseTransition).
+ * - Problems with less persons than items are completed by the reverse stage of the asymmetric auction
+ * in integer arithmetic (see AsymmetricReverseAuction), without padding.
+ * - After each phase the gap between the assignment and the dual bound is found exactly: with lambda
+ * condition it's the sum of slacks of persons (see CertificateChecker), and the rest of the sequence
+ * is skipped once it's less than scale, i.e. less than 1 in original units.
+ * - Result can be used as a warm start for the next problem, and the solve can be stopped by a deadline.
+ * <p>
+ * Scaled benefits and prices must fit into long: problems, which don't, are rejected
+ * with IllegalArgumentException before the first phase.
+ * <p>
+ * All state is created per call, so one instance can be used by several threads.
+ */
+public class IntegerAuctionAlgorithm implements AssignmentProblemSolver {
+
+    public final static int DEFAULT_REDUCTION_FACTOR = 5;
+
+    // headroom for price growth above the scaled range of benefits
+    private final static long PRICE_HEADROOM = 4;
+
+    private final int reductionFactor;
+
+    public IntegerAuctionAlgorithm() {
+        this(DEFAULT_REDUCTION_FACTOR);
+    }
+
+    /**
+     * @param reductionFactor each epsilon is the previous one divided by this factor
+     */
+    public IntegerAuctionAlgorithm(int reductionFactor) {
+        if (reductionFactor < 2) {
+            throw new IllegalArgumentException("Reduction factor must be at least 2, got " + reductionFactor);
+        }
+        this.reductionFactor = reductionFactor;
+    }
+
+    public int getReductionFactor() {
+        return reductionFactor;
+    }
+
+    @Override
+    public int[] findMaxCostAssignment(int[][] benefitMatrix) {
+        return findMaxCostAssignment(BenefitMatrix.createRowMajor(benefitMatrix));
+    }
+
+    public int[] findMaxCostAssignment(BenefitMatrix benefitMatrix) {
+        return solve(benefitMatrix).getAssignment();
+    }
+
+    /**
+     * Cold start: zero prices and full epsilon sequence.
+     *
+     * @param benefitMatrix
+     * @return
+     */
+    public IntegerAuctionResult solve(BenefitMatrix benefitMatrix) {
+        return solve(benefitMatrix, Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Anytime solve, same as AuctionAlgorithm.solve(BenefitMatrix, long, TimeUnit): the first phase is always
+     * finished, and the solve stops before the phase, which is not expected to finish in time.
+     *
+     * @param benefitMatrix
+     * @param timeout       time budget, measured from the call
+     * @param unit
+     * @return
+     */
+    public IntegerAuctionResult solve(BenefitMatrix benefitMatrix, long timeout, TimeUnit unit) {
+        final Workspace workspace = new Workspace(benefitMatrix, new long[benefitMatrix.getNumberOfItems()]);
+        return workspace.runPhases(workspace.getInitialEpsilon(), unit.toNanos(timeout));
+    }
+
+    /**
+     * Warm start from the result of the previous solve.
+     * <p>
+     * If benefits changed by at most delta, then the previous prices satisfy epsilon-complementary
+     * slackness for the new matrix with epsilon = previous final epsilon + 2 * delta * scale,
+     * so scaling starts from this epsilon (but not above the cold initial one). Persons, who are
+     * happy with their previous items at this epsilon, keep them, so an unchanged matrix needs a single phase.
+     *
+     * @param benefitMatrix new matrix with the same dimensions as the previous one
+     * @param warmStart     result of the previous solve
+     * @return
+     */
+    public IntegerAuctionResult solve(BenefitMatrix benefitMatrix, IntegerAuctionResult warmStart) {
+        final BenefitMatrix previousMatrix = warmStart.getBenefitMatrix();
+        if (previousMatrix.getNumberOfPersons() != benefitMatrix.getNumberOfPersons()
+                || previousMatrix.getNumberOfItems() != benefitMatrix.getNumberOfItems()) {
+            throw new IllegalArgumentException(String.format(
+                    "Warm start is for %dx%d problem, but benefit matrix is %dx%d",
+                    previousMatrix.getNumberOfPersons(), previousMatrix.getNumberOfItems(),
+                    benefitMatrix.getNumberOfPersons(), benefitMatrix.getNumberOfItems()));
+        }
+        final Workspace workspace = new Workspace(benefitMatrix, warmStart.getScaledPriceArray());
+        final long maxDifference = benefitMatrix.findMaxDifference(previousMatrix);
+        final long initialEpsilon = workspace.getInitialEpsilon();
+        // difference above the range of benefits means that the cold initial epsilon is smaller anyway
+        final long startingEpsilon = maxDifference * workspace.scale > workspace.scaledRange
+                ? initialEpsilon
+                : Math.min(initialEpsilon, warmStart.getFinalEpsilon() + 2 * maxDifference * workspace.scale);
+        // persons, who are still happy with their previous items, keep them like between phases
+        workspace.keepAssignment(warmStart.getAssignment());
+        workspace.releaseUnhappyPersons(Math.max(1, startingEpsilon));
+        return workspace.runPhases(Math.max(1, startingEpsilon), Long.MAX_VALUE);
+    }
+
+    private long reduce(long epsilon) {
+        return (epsilon + reductionFactor - 1) / reductionFactor;
+    }
+
+    /**
+     * State of a single solve.
+     */
+    private class Workspace {
+
+        private final BenefitMatrix benefitMatrix;
+        private final int numberOfPersons;
+        private final int numberOfItems;
+        private final long scale;
+        private final long scaledRange;
+        private final long[] priceArray;
+        // each element represents item and contains index of its owner (or -1)
+        private final int[] ownerArray;
+        private final PrimitivePersonQueue nonAssignedPersonQueue;
+        // the smallest epsilon, for which the current assignment is epsilon-happy, found by findGap()
+        private long maxSlack;
+
+        private Workspace(BenefitMatrix benefitMatrix, long[] priceArray) {
+            this.benefitMatrix = benefitMatrix;
+            this.numberOfPersons = benefitMatrix.getNumberOfPersons();
+            this.numberOfItems = benefitMatrix.getNumberOfItems();
+            if (numberOfPersons > numberOfItems) {
+                throw new IllegalArgumentException(String.format(
+                        "Number of persons (%d) is greater than number of items (%d)", numberOfPersons, numberOfItems));
+            }
+            if (priceArray.length != numberOfItems) {
+                throw new IllegalArgumentException(String.format(
+                        "There are %d prices, but %d items", priceArray.length, numberOfItems));
+            }
+            this.scale = numberOfPersons + 1L;
+            this.scaledRange = checkMagnitudes(benefitMatrix, priceArray, scale);
+            this.priceArray = priceArray;
+            this.ownerArray = new int[numberOfItems];
+            Arrays.fill(ownerArray, -1);
+            this.nonAssignedPersonQueue = PrimitivePersonQueue.createFullPersonQueue(numberOfPersons);
+        }
+
+        /**
+         * Initial epsilon is a fraction of the scaled range of benefits: larger epsilon
+         * would only make the first phase less informative.
+         */
+        private long getInitialEpsilon() {
+            return Math.max(1, scaledRange / reductionFactor);
+        }
+
+        private IntegerAuctionResult runPhases(long initialEpsilon, long timeoutNanos) {
+            final long startTime = System.nanoTime();
+            info("Solving problem for size: %d x %d (integer, scale %d)", numberOfPersons, numberOfItems, scale);
+
+            int numberOfPhases = 0;
+            boolean finished = true;
+            long phaseDuration = 0;
+            long epsilon = initialEpsilon;
+            long maxScaledSuboptimality;
+            while (true) {
+                final long phaseStartTime = System.nanoTime();
+                if (numberOfPhases > 0) {
+                    releaseUnhappyPersons(epsilon);
+                }
+                runPhase(epsilon);
+                if (numberOfPersons < numberOfItems) {
+                    AsymmetricReverseAuction.run(benefitMatrix, scale, priceArray, ownerArray, epsilon);
+                }
+                phaseDuration = System.nanoTime() - phaseStartTime;
+                numberOfPhases++;
+                info("  Phase %d with epsilon %d took %d ns", numberOfPhases, epsilon, phaseDuration);
+
+                // every person is epsilon-happy, so the gap is at most m * epsilon, which is less than scale for epsilon = 1
+                maxScaledSuboptimality = epsilon == 1 ? numberOfPersons : findGap();
+                if (maxScaledSuboptimality < scale) {
+                    info("  Stopping after epsilon %d: assignment is optimal", epsilon);
+                    if (epsilon > 1) {
+                        // prices are tighter than the epsilon of the phase, which matters for warm starts
+                        epsilon = Math.max(1, maxSlack);
+                    }
+                    break;
+                }
+                if (timeoutNanos - (System.nanoTime() - startTime) < phaseDuration) {
+                    info("  Stopping before epsilon %d: not enough time for another phase", reduce(epsilon));
+                    finished = false;
+                    break;
+                }
+                epsilon = reduce(epsilon);
+            }
+
+            return IntegerAuctionResult.create(benefitMatrix, getAssignment(), priceArray, scale, epsilon,
+                    numberOfPhases, finished, maxScaledSuboptimality);
+        }
+
+        private void runPhase(long epsilon) {
+            for (int person = nonAssignedPersonQueue.poll(); person != -1; person = nonAssignedPersonQueue.poll()) {
+                int bestItem = 0;
+                long bestValue = benefitMatrix.getBenefit(person, 0) * scale - priceArray[0];
+                long secondBestValue = Long.MIN_VALUE;
+                for (int item = 1; item < numberOfItems; item++) {
+                    final long value = benefitMatrix.getBenefit(person, item) * scale - priceArray[item];
+                    if (value > bestValue) {
+                        secondBestValue = bestValue;
+                        bestValue = value;
+                        bestItem = item;
+                    } else if (value > secondBestValue) {
+                        secondBestValue = value;
+                    }
+                }
+                // without competing item the price is raised by epsilon only
+                priceArray[bestItem] += secondBestValue == Long.MIN_VALUE
+                        ? epsilon
+                        : bestValue - secondBestValue + epsilon;
+                final int oldOwner = ownerArray[bestItem];
+                if (oldOwner != -1) {
+                    nonAssignedPersonQueue.add(oldOwner);
+                }
+                ownerArray[bestItem] = person;
+            }
+        }
+
+        /**
+         * Same as PhaseTransition.KEEP_HAPPY_PERSONS: persons, whose items are still within
+         * the new epsilon of their best value, keep them, the others bid again.
+         */
+        private void keepAssignment(int[] assignment) {
+            nonAssignedPersonQueue.clear();
+            for (int person = 0; person < numberOfPersons; person++) {
+                final int item = assignment[person];
+                if (item == -1) {
+                    nonAssignedPersonQueue.add(person);
+                } else {
+                    ownerArray[item] = person;
+                }
+            }
+        }
+
+        private void releaseUnhappyPersons(long epsilon) {
+            for (int item = 0; item < numberOfItems; item++) {
+                final int owner = ownerArray[item];
+                if (owner != -1 && benefitMatrix.getBenefit(owner, item) * scale - priceArray[item] < findProfit(owner) - epsilon) {
+                    ownerArray[item] = -1;
+                    nonAssignedPersonQueue.add(owner);
+                }
+            }
+        }
+
+        /**
+         * With lambda condition (all assigned prices are not less than any non assigned one) the dual bound
+         * of CertificateChecker minus the total benefit of the assignment is exactly the sum of slacks of persons.
+         *
+         * Maximal slack is recorded on the way.
+         *
+         * @return scaled gap, Long.MAX_VALUE if it doesn't fit into long
+         */
+        private long findGap() {
+            long gap = 0;
+            maxSlack = 0;
+            for (int item = 0; item < numberOfItems; item++) {
+                final int owner = ownerArray[item];
+                if (owner != -1) {
+                    final long slack = findProfit(owner) - (benefitMatrix.getBenefit(owner, item) * scale - priceArray[item]);
+                    maxSlack = Math.max(maxSlack, slack);
+                    // slacks are not negative, so the sum can only overflow to a negative value
+                    gap += slack;
+                    if (gap < 0) {
+                        gap = Long.MAX_VALUE;
+                    }
+                }
+            }
+            return gap;
+        }
+
+        private long findProfit(int person) {
+            long profit = Long.MIN_VALUE;
+            for (int item = 0; item < numberOfItems; item++) {
+                profit = Math.max(profit, benefitMatrix.getBenefit(person, item) * scale - priceArray[item]);
+            }
+            return profit;
+        }
+
+        private int[] getAssignment() {
+            final int[] assignment = new int[numberOfPersons];
+            for (int item = 0; item < numberOfItems; item++) {
+                final int owner = ownerArray[item];
+                if (owner != -1) {
+                    assignment[owner] = item;
+                }
+            }
+            return assignment;
+        }
+    }
+
+    /**
+     * Prices stay within a few scaled ranges of benefits from the starting ones, so scaled benefits,
+     * prices and their differences fit into long, if (max |benefit| + range) * scale and the starting
+     * prices leave enough headroom.
+     *
+     * @return scaled range of benefits
+     * @throws IllegalArgumentException if there is not enough headroom
+     */
+    private static long checkMagnitudes(BenefitMatrix benefitMatrix, long[] priceArray, long scale) {
+        long maxAbsoluteBenefit = 0;
+        for (int person = 0; person < benefitMatrix.getNumberOfPersons(); person++) {
+            for (int item = 0; item < benefitMatrix.getNumberOfItems(); item++) {
+                maxAbsoluteBenefit = Math.max(maxAbsoluteBenefit, Math.abs((long) benefitMatrix.getBenefit(person, item)));
+            }
+        }
+        long maxAbsolutePrice = 0;
+        for (long price : priceArray) {
+            maxAbsolutePrice = Math.max(maxAbsolutePrice, Math.abs(price));
+        }
+        final long range = benefitMatrix.findBenefitRange();
+        try {
+            final long scaledRange = Math.multiplyExact(range, scale);
+            Math.multiplyExact(Math.addExact(Math.multiplyExact(maxAbsoluteBenefit + range, scale), maxAbsolutePrice),
+                    PRICE_HEADROOM);
+            return scaledRange;
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Benefits of " + benefitMatrix.getNumberOfPersons() + "x"
+                    + benefitMatrix.getNumberOfItems() + " matrix are too large for integer arithmetic", e);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.netcracker.assignment.algorithms.auction;
+
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.BenefitMatrix;
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.PriceVector;
+
+import java.util.Arrays;
+
+/**
+ * Result of the integer auction (see IntegerAuctionAlgorithm): assignment together with the final
+ * prices and epsilon, both in scaled units (original benefit * scale).
+ * <p>
+ * It can be passed back to IntegerAuctionAlgorithm as a warm start, or converted to AuctionResult
+ * (prices divided by scale), which can be checked by CertificateChecker like any other auction result.
+ * <p>
+ * Immutable: prices are copied in and out.
+ */
+public class IntegerAuctionResult {
+
+    private final BenefitMatrix benefitMatrix;
+    private final int[] assignment;
+    private final long[] priceArray;
+    private final long scale;
+    private final long finalEpsilon;
+    private final int numberOfPhases;
+    private final boolean finished;
+    private final long maxScaledSuboptimality;
+
+    /**
+     * @param priceArray             scaled prices
+     * @param scale                  multiplier of benefits
+     * @param finalEpsilon           scaled epsilon satisfied by the final prices
+     * @param finished               false, if the solve was stopped by a deadline
+     * @param maxScaledSuboptimality proven bound on the distance from the optimum in scaled units
+     */
+    public static IntegerAuctionResult create(BenefitMatrix benefitMatrix,
+                                              int[] assignment,
+                                              long[] priceArray,
+                                              long scale,
+                                              long finalEpsilon,
+                                              int numberOfPhases,
+                                              boolean finished,
+                                              long maxScaledSuboptimality) {
+        return new IntegerAuctionResult(benefitMatrix, assignment.clone(), priceArray.clone(), scale, finalEpsilon,
+                numberOfPhases, finished, maxScaledSuboptimality);
+    }
+
+    private IntegerAuctionResult(BenefitMatrix benefitMatrix,
+                                 int[] assignment,
+                                 long[] priceArray,
+                                 long scale,
+                                 long finalEpsilon,
+                                 int numberOfPhases,
+                                 boolean finished,
+                                 long maxScaledSuboptimality) {
+        this.benefitMatrix = benefitMatrix;
+        this.assignment = assignment;
+        this.priceArray = priceArray;
+        this.scale = scale;
+        this.finalEpsilon = finalEpsilon;
+        this.numberOfPhases = numberOfPhases;
+        this.finished = finished;
+        this.maxScaledSuboptimality = maxScaledSuboptimality;
+    }
+
+    public BenefitMatrix getBenefitMatrix() {
+        return benefitMatrix;
+    }
+
+    /**
+     * @return item for each person
+     */
+    public int[] getAssignment() {
+        return assignment.clone();
+    }
+
+    /**
+     * @return copy of the final prices in scaled units
+     */
+    public long[] getScaledPriceArray() {
+        return priceArray.clone();
+    }
+
+    public long getScale() {
+        return scale;
+    }
+
+    /**
+     * @return scaled epsilon, for which the final prices and assignment satisfy epsilon-CS:
+     * 1 after the last phase, the maximal slack, if the solve stopped early, and the epsilon of the last
+     * finished phase, if it was stopped by a deadline
+     */
+    public long getFinalEpsilon() {
+        return finalEpsilon;
+    }
+
+    public int getNumberOfPhases() {
+        return numberOfPhases;
+    }
+
+    /**
+     * @return false, if the solve was stopped by a deadline before the assignment was proven optimal
+     */
+    public boolean isFinished() {
+        return finished;
+    }
+
+    /**
+     * @return proven bound on the distance from the optimum in original units,
+     * the assignment is optimal, if it's less than 1
+     */
+    public double getMaxSuboptimality() {
+        return (double) maxScaledSuboptimality / scale;
+    }
+
+    /**
+     * Integer bound is exact, so optimality doesn't depend on floating-point arithmetic.
+     */
+    public boolean isOptimal() {
+        return maxScaledSuboptimality < scale;
+    }
+
+    /**
+     * @return the same result with prices and epsilon in original units
+     */
+    public AuctionResult toAuctionResult() {
+        final double[] unscaledPriceArray = new double[priceArray.length];
+        for (int item = 0; item < priceArray.length; item++) {
+            unscaledPriceArray[item] = (double) priceArray[item] / scale;
+        }
+        return AuctionResult.create(benefitMatrix, assignment, PriceVector.createFromPriceArray(unscaledPriceArray),
+                (double) finalEpsilon / scale, numberOfPhases, finished, getMaxSuboptimality());
+    }
+
+    @Override
+    public String toString() {
+        return "IntegerAuctionResult{" +
+                "assignment=" + Arrays.toString(assignment) +
+                ", scale=" + scale +
+                ", finalEpsilon=" + finalEpsilon +
+                ", numberOfPhases=" + numberOfPhases +
+                ", finished=" + finished +
+                ", maxSuboptimality=" + getMaxSuboptimality() +
+                '}';
+    }
+}
@@ -0,0 +1,68 @@
+package com.netcracker.assignment.algorithms.auction;
+
+import com.netcracker.assignment.algorithms.InfeasibleProblemException;
+import com.netcracker.assignment.algorithms.SparseAssignmentProblemSolver;
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.Assignment;
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.PriceVector;
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.SparseBenefitMatrix;
+import com.netcracker.assignment.algorithms.auction.auxillary.logic.epsilonscaling.AdaptiveEpsilonSequenceProducer;
+import com.netcracker.assignment.algorithms.auction.auxillary.logic.epsilonscaling.EpsilonSequenceProducer;
+import com.netcracker.assignment.algorithms.auction.implementation.sparse.SparseAuctionImplementation;
+
+import java.util.List;
+
+import static com.netcracker.assignment.algorithms.auction.auxillary.logic.feasibility.MaximumMatchingFinder.hasPerfectMatching;
+import static com.netcracker.assignment.utils.AssertionMaker.makeAssertion;
+import static com.netcracker.assignment.utils.io.logging.StaticLoggerHolder.info;
+
+/**
+ * Sparse counterpart of {@link AuctionAlgorithm}, uses the same epsilon scaling logic.
+ * <p>
+ * Before the auction starts, feasibility of the problem is checked using maximum matching
+ * on admissible pairs, because auction never terminates for infeasible problems.
+ */
+public class SparseAuctionAlgorithm implements SparseAssignmentProblemSolver {
+
+    /*
+        Sequence ends with epsilon = 1 / (n + 1), so the result is optimal for integer benefits
+        (there is no cross-check by other solvers for sparse problems).
+     */
+    public final static EpsilonSequenceProducer DEFAULT_EPSILON_PRODUCER = new AdaptiveEpsilonSequenceProducer();
+
+    private final SparseAuctionImplementation implementation;
+    private final EpsilonSequenceProducer epsilonProducer;
+
+    public SparseAuctionAlgorithm(SparseAuctionImplementation implementation) {
+        this(implementation, DEFAULT_EPSILON_PRODUCER);
+    }
+
+    public SparseAuctionAlgorithm(SparseAuctionImplementation implementation, EpsilonSequenceProducer epsilonProducer) {
+        this.implementation = implementation;
+        this.epsilonProducer = epsilonProducer;
+    }
+
+    @Override
+    public int[] findMaxCostAssignment(SparseBenefitMatrix benefitMatrix) {
+        final int n = benefitMatrix.getNumberOfPersons();
+        info("Solving sparse problem for size: %d, entries: %d", n, benefitMatrix.getNumberOfEntries());
+
+        if (benefitMatrix.getNumberOfItems() != n) {
+            throw new IllegalArgumentException(String.format(
+                    "Number of persons (%d) is not equal to number of items (%d)", n, benefitMatrix.getNumberOfItems()));
+        }
+        if (!hasPerfectMatching(benefitMatrix)) {
+            throw new InfeasibleProblemException("Persons can't all be assigned to distinct admissible items");
+        }
+
+        final PriceVector priceVector = PriceVector.createInitialPriceVector(n);
+        final List<Double> epsilonSequence = epsilonProducer.getEpsilonSequence(n);
+        Assignment assignment = null;
+        for (Double epsilon : epsilonSequence) {
+            assignment = implementation.epsilonScalingPhase(benefitMatrix, priceVector, epsilon);
+        }
+
+        makeAssertion(assignment.isComplete());
+
+        return assignment.getPersonAssignment();
+    }
+}
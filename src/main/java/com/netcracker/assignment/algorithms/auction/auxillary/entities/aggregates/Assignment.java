@@ -5,16 +5,51 @@ import com.netcracker.assignment.algorithms.auction.auxillary.entities.basic.Per
 
 import java.util.Arrays;
 
+/**
+ * Assignment of persons to items, where number of persons can be less than number of items.
+ * Assignment is complete when every person has an item (some items may stay without owner).
+ */
 public class Assignment {
 
     public final static Assignment createInitialAssignment(int n) {
-        return new Assignment(getFilledPersonArray(n, Person.NO_PERSON));
+        return createInitialAssignment(n, n);
+    }
+
+    public final static Assignment createInitialAssignment(int numberOfPersons, int numberOfItems) {
+        return new Assignment(getFilledPersonArray(numberOfItems, Person.NO_PERSON), numberOfPersons);
+    }
+
+    /**
+     * Creates assignment from primitive array, where each element represents item and
+     * contains index of its owner (or -1, if item has no owner).
+     *
+     * @param ownerArray
+     * @return
+     */
+    public final static Assignment createFromOwnerArray(int[] ownerArray) {
+        return createFromOwnerArray(ownerArray, ownerArray.length);
+    }
+
+    public final static Assignment createFromOwnerArray(int[] ownerArray, int numberOfPersons) {
+        final int n = ownerArray.length;
+        final Person[] assignmentArray = new Person[n];
+        for (int i = 0; i < n; i++) {
+            final int owner = ownerArray[i];
+            assignmentArray[i] = owner == -1 ? Person.NO_PERSON : new Person(owner);
+        }
+        return new Assignment(assignmentArray, numberOfPersons);
     }
 
     private final Person[] assignmentArray;
+    private final int numberOfPersons;
 
     public Assignment(Person[] assignmentArray) {
+        this(assignmentArray, assignmentArray.length);
+    }
+
+    public Assignment(Person[] assignmentArray, int numberOfPersons) {
         this.assignmentArray = assignmentArray;
+        this.numberOfPersons = numberOfPersons;
     }
 
     public Person getPersonForItem(Item item){
@@ -25,6 +60,28 @@ public class Assignment {
         assignmentArray[item.getItemIndex()] = person;
     }
 
+    public int getNumberOfPersons() {
+        return numberOfPersons;
+    }
+
+    public int getNumberOfItems() {
+        return assignmentArray.length;
+    }
+
+    /**
+     * Returns primitive array, where each element represents item and contains index
+     * of its owner (or -1, if item has no owner).
+     *
+     * @return new array
+     */
+    public int[] getOwnerArray() {
+        final int[] ownerArray = new int[assignmentArray.length];
+        for (int i = 0; i < assignmentArray.length; i++) {
+            ownerArray[i] = assignmentArray[i].getPersonIndex();
+        }
+        return ownerArray;
+    }
+
     /**
      * Returns array, where each element represent item.
      * Should be used only to get result.
@@ -43,15 +100,35 @@ public class Assignment {
      */
     public int[] getPersonAssignment() {
         if (isComplete()) {
-            return getReversedAssignment(assignmentArray);
+            return getReversedAssignment(assignmentArray, numberOfPersons);
         } else {
             throw new IllegalStateException("Unable to revert incomplete assignmentArray");
         }
     }
 
 
+    /**
+     * @return indices of persons, which don't own any item, in ascending order
+     */
+    public int[] getNonAssignedPersons() {
+        final boolean[] assignedArray = new boolean[numberOfPersons];
+        for (Person person : assignmentArray) {
+            if (person != Person.NO_PERSON) {
+                assignedArray[person.getPersonIndex()] = true;
+            }
+        }
+        final int[] nonAssignedPersons = new int[numberOfPersons - countAssigned(assignmentArray)];
+        int count = 0;
+        for (int person = 0; person < numberOfPersons; person++) {
+            if (!assignedArray[person]) {
+                nonAssignedPersons[count++] = person;
+            }
+        }
+        return nonAssignedPersons;
+    }
+
     public boolean isComplete() {
-        return !arrayContains(assignmentArray, Person.NO_PERSON);
+        return countAssigned(assignmentArray) == numberOfPersons;
     }
 
     @Override
@@ -60,23 +137,26 @@ public class Assignment {
     }
 
 
-    private static int[] getReversedAssignment(Person[] assignment) {
+    private static int[] getReversedAssignment(Person[] assignment, int numberOfPersons) {
         final int n = assignment.length;
-        final int[] reversedAssignment = new int[n];
+        final int[] reversedAssignment = new int[numberOfPersons];
         for (int i = 0; i < n; i++) {
             final Person value = assignment[i];
-            reversedAssignment[value.getPersonIndex()] = i;
+            if (value != Person.NO_PERSON) {
+                reversedAssignment[value.getPersonIndex()] = i;
+            }
         }
         return reversedAssignment;
     }
 
-    private static boolean arrayContains(Person[] array, Person value) {
+    private static int countAssigned(Person[] array) {
+        int count = 0;
         for (Person element : array) {
-            if (element == value) {
-                return true;
+            if (element != Person.NO_PERSON) {
+                count++;
             }
         }
-        return false;
+        return count;
     }
 
     private static Person[] getFilledPersonArray(int n, Person value) {
@@ -1,33 +1,201 @@
 package com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates;
 
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.benefit.ColumnMajorBenefitMatrix;
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.benefit.RowMajorBenefitMatrix;
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.benefit.TiledBenefitMatrix;
 import com.netcracker.assignment.algorithms.auction.auxillary.entities.basic.Item;
 import com.netcracker.assignment.algorithms.auction.auxillary.entities.basic.Person;
 
-public class BenefitMatrix {
+/**
+ * Matrix of benefits, where each row represents person and each column represents item.
+ * <p>
+ * All layouts store benefits in a single flat array, so rows don't scatter across the heap.
+ * Besides element access, each layout provides primitive access to the row slices:
+ * benefits of items from itemIndex (inclusive) to getSegmentEnd(itemIndex) (exclusive)
+ * for the same person are stored contiguously in getStorage(), starting at
+ * getOffset(personIndex, itemIndex). So the row can be scanned linearly, segment by segment
+ * (row-major layout has only one segment per row).
+ * <p>
+ * Optionally the index of rows sorted by benefit can be attached (see SortedRowIndex).
+ * <p>
+ * Immutable (attaching the index doesn't change benefits).
+ */
+public abstract class BenefitMatrix {
 
-    private final int[][] benefitMatrix;
+    public static BenefitMatrix createRowMajor(int[][] benefitMatrix) {
+        return RowMajorBenefitMatrix.create(benefitMatrix);
+    }
+
+    public static BenefitMatrix createTiled(int[][] benefitMatrix, int tileWidth) {
+        return TiledBenefitMatrix.create(benefitMatrix, tileWidth);
+    }
+
+    public static BenefitMatrix createColumnMajor(int[][] benefitMatrix) {
+        return ColumnMajorBenefitMatrix.create(benefitMatrix);
+    }
+
+    private final int numberOfPersons;
+    private final int numberOfItems;
+    private volatile SortedRowIndex sortedRowIndex;
+
+    protected BenefitMatrix(int numberOfPersons, int numberOfItems) {
+        this.numberOfPersons = numberOfPersons;
+        this.numberOfItems = numberOfItems;
+    }
+
+    public abstract int getBenefit(int personIndex, int itemIndex);
+
+    public final int getBenefit(Person person, Item item) {
+        return getBenefit(person.getPersonIndex(), item.getItemIndex());
+    }
+
+    /**
+     * @return flat array, which contains all benefits, must not be modified
+     */
+    public abstract int[] getStorage();
+
+    /**
+     * @param personIndex
+     * @param itemIndex
+     * @return position of the benefit within the storage
+     */
+    public abstract int getOffset(int personIndex, int itemIndex);
+
+    /**
+     * @param itemIndex
+     * @return exclusive end of the row segment, which starts at specified item
+     */
+    public abstract int getSegmentEnd(int itemIndex);
+
+    /**
+     * Builds the index once (it takes as much memory as the matrix itself), so searches, which support it,
+     * can stop early. Following calls do nothing.
+     *
+     * @return this matrix
+     */
+    public BenefitMatrix attachSortedRowIndex() {
+        if (sortedRowIndex == null) {
+            synchronized (this) {
+                if (sortedRowIndex == null) {
+                    sortedRowIndex = SortedRowIndex.create(this);
+                }
+            }
+        }
+        return this;
+    }
+
+    /**
+     * @return attached index or null
+     */
+    public SortedRowIndex getSortedRowIndex() {
+        return sortedRowIndex;
+    }
 
-    public BenefitMatrix(int[][] benefitMatrix) {
-        this.benefitMatrix = benefitMatrix;
+    /**
+     * Creates transposed copy in row-major layout, so columns of this matrix
+     * can be scanned as rows of the returned one.
+     *
+     * @return
+     */
+    public BenefitMatrix transpose() {
+        final int[][] transposed = new int[numberOfItems][numberOfPersons];
+        for (int person = 0; person < numberOfPersons; person++) {
+            for (int item = 0; item < numberOfItems; item++) {
+                transposed[item][person] = getBenefit(person, item);
+            }
+        }
+        return createRowMajor(transposed);
+    }
+
+    /**
+     * Used for warm starts: tells how far the prices, which were computed for one matrix,
+     * can be from epsilon-complementary slackness for another one.
+     *
+     * @param other matrix with the same dimensions (layout can be different)
+     * @return maximal absolute difference between corresponding benefits
+     */
+    public long findMaxDifference(BenefitMatrix other) {
+        if (other.getNumberOfPersons() != numberOfPersons || other.getNumberOfItems() != numberOfItems) {
+            throw new IllegalArgumentException("Benefit matrices have different dimensions");
+        }
+        long maxDifference = 0;
+        for (int person = 0; person < numberOfPersons; person++) {
+            for (int item = 0; item < numberOfItems; item++) {
+                maxDifference = Math.max(maxDifference, Math.abs((long) getBenefit(person, item) - other.getBenefit(person, item)));
+            }
+        }
+        return maxDifference;
+    }
+
+    /**
+     * @return difference between the maximal and minimal benefits (0 for empty matrix)
+     */
+    public long findBenefitRange() {
+        long minBenefit = Long.MAX_VALUE;
+        long maxBenefit = Long.MIN_VALUE;
+        for (int person = 0; person < numberOfPersons; person++) {
+            for (int item = 0; item < numberOfItems; item++) {
+                final int benefit = getBenefit(person, item);
+                minBenefit = Math.min(minBenefit, benefit);
+                maxBenefit = Math.max(maxBenefit, benefit);
+            }
+        }
+        return maxBenefit < minBenefit ? 0 : maxBenefit - minBenefit;
+    }
+
+    public int getNumberOfPersons() {
+        return numberOfPersons;
     }
 
-    public int getBenefit(Person person, Item item){
-        return benefitMatrix[person.getPersonIndex()][item.getItemIndex()];
+    public int getNumberOfItems() {
+        return numberOfItems;
     }
 
-    public int size(){
-        return benefitMatrix.length;
+    public int size() {
+        return numberOfPersons;
     }
 
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder();
-        for(int[] line : benefitMatrix){
-            for(int element : line){
-                sb.append(String.format("%4d ", element));
+        for (int person = 0; person < numberOfPersons; person++) {
+            for (int item = 0; item < numberOfItems; item++) {
+                sb.append(String.format("%4d ", getBenefit(person, item)));
             }
             sb.append("\n");
         }
         return sb.toString();
     }
+
+    /**
+     * Allocates flat storage for all benefits. Offsets of all layouts are smaller than its length,
+     * so they can't overflow, once the storage is allocated.
+     *
+     * @param numberOfPersons
+     * @param numberOfItems
+     * @return
+     * @throws IllegalArgumentException if the matrix doesn't fit into a single array
+     */
+    protected static int[] createStorage(int numberOfPersons, int numberOfItems) {
+        return new int[getNumberOfCells(numberOfPersons, numberOfItems)];
+    }
+
+    /**
+     * @param numberOfPersons
+     * @param numberOfItems
+     * @return number of cells in the matrix of specified dimensions
+     * @throws IllegalArgumentException if the number of cells doesn't fit into int (i.e. into a single array)
+     */
+    public static int getNumberOfCells(int numberOfPersons, int numberOfItems) {
+        try {
+            return Math.multiplyExact(numberOfPersons, numberOfItems);
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Matrix " + numberOfPersons + "x" + numberOfItems
+                    + " is too large to be stored in a single array", e);
+        }
+    }
+
+    protected static int getNumberOfColumns(int[][] benefitMatrix) {
+        return benefitMatrix.length == 0 ? 0 : benefitMatrix[0].length;
+    }
 }
@@ -0,0 +1,163 @@
+package com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates;
+
+import com.netcracker.assignment.utils.ConcurrentUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+
+import static com.netcracker.assignment.utils.ConcurrentUtils.executeCallableList;
+
+/**
+ * For each person, k items with the largest benefits (in no particular order) together with
+ * the smallest benefit among them.
+ * <p>
+ * Any other item has benefit not greater than that smallest one, so its value is not greater than
+ * (k-th benefit - minimal price), which lets the search prove that the best and the second best items
+ * are among candidates (see CandidateSearch).
+ * <p>
+ * Lists depend only on benefits, so they are built once per matrix, in parallel over slices of persons.
+ * Immutable after creation.
+ */
+public class CandidateLists {
+
+    private final static int MIN_PERSONS_PER_TASK = 64;
+
+    private final int numberOfCandidates;
+    private final boolean complete;
+    // person's candidates are stored in [person * k, (person + 1) * k), length is checked, so offsets don't overflow
+    private final int[] candidateArray;
+    private final int[] kthBenefitArray;
+
+    public static CandidateLists create(BenefitMatrix benefitMatrix, int numberOfCandidates) {
+        return create(benefitMatrix, numberOfCandidates, ConcurrentUtils.getDefaultExecutorService());
+    }
+
+    /**
+     * @param benefitMatrix
+     * @param numberOfCandidates k, at least 2 (there must be the second best item), capped by number of items
+     * @param executorService    owned by the caller, never shut down here
+     * @return
+     */
+    public static CandidateLists create(BenefitMatrix benefitMatrix, int numberOfCandidates, ExecutorService executorService) {
+        if (numberOfCandidates < 2) {
+            throw new IllegalArgumentException("Number of candidates must be at least 2, got " + numberOfCandidates);
+        }
+        final int numberOfPersons = benefitMatrix.getNumberOfPersons();
+        final int numberOfItems = benefitMatrix.getNumberOfItems();
+        final int k = Math.min(numberOfCandidates, numberOfItems);
+        final CandidateLists candidateLists = new CandidateLists(k, k == numberOfItems, numberOfPersons);
+
+        final int numberOfTasks = Math.max(1, Math.min(
+                Runtime.getRuntime().availableProcessors(), numberOfPersons / MIN_PERSONS_PER_TASK));
+        if (numberOfTasks == 1) {
+            candidateLists.fill(benefitMatrix, 0, numberOfPersons);
+        } else {
+            final List<Callable<Void>> taskList = new ArrayList<>(numberOfTasks);
+            for (int task = 0; task < numberOfTasks; task++) {
+                final int fromPerson = (int) ((long) numberOfPersons * task / numberOfTasks);
+                final int toPerson = (int) ((long) numberOfPersons * (task + 1) / numberOfTasks);
+                taskList.add(() -> {
+                    candidateLists.fill(benefitMatrix, fromPerson, toPerson);
+                    return null;
+                });
+            }
+            executeCallableList(taskList, executorService);
+        }
+        return candidateLists;
+    }
+
+    private CandidateLists(int numberOfCandidates, boolean complete, int numberOfPersons) {
+        this.numberOfCandidates = numberOfCandidates;
+        this.complete = complete;
+        this.candidateArray = new int[BenefitMatrix.getNumberOfCells(numberOfPersons, numberOfCandidates)];
+        this.kthBenefitArray = new int[numberOfPersons];
+    }
+
+    public int getNumberOfCandidates() {
+        return numberOfCandidates;
+    }
+
+    /**
+     * @return true, if candidates are all items, so there is nothing outside of them
+     */
+    public boolean isComplete() {
+        return complete;
+    }
+
+    public int getCandidate(int person, int index) {
+        return candidateArray[person * numberOfCandidates + index];
+    }
+
+    /**
+     * @return the smallest benefit among candidates of the person, an upper bound on the benefit of any other item
+     */
+    public int getKthBenefit(int person) {
+        return kthBenefitArray[person];
+    }
+
+    /**
+     * Selects candidates of each person in the range with a min-heap of size k
+     * (root is the worst candidate so far), so the row is scanned once.
+     */
+    private void fill(BenefitMatrix benefitMatrix, int fromPerson, int toPerson) {
+        final int numberOfItems = benefitMatrix.getNumberOfItems();
+        final int k = numberOfCandidates;
+        final int[] heapBenefits = new int[k];
+        for (int person = fromPerson; person < toPerson; person++) {
+            final int offset = person * k;
+            for (int item = 0; item < k; item++) {
+                candidateArray[offset + item] = item;
+                heapBenefits[item] = benefitMatrix.getBenefit(person, item);
+                siftUp(heapBenefits, offset, item);
+            }
+            for (int item = k; item < numberOfItems; item++) {
+                final int benefit = benefitMatrix.getBenefit(person, item);
+                if (benefit > heapBenefits[0]) {
+                    heapBenefits[0] = benefit;
+                    candidateArray[offset] = item;
+                    siftDown(heapBenefits, offset, k);
+                }
+            }
+            kthBenefitArray[person] = heapBenefits[0];
+        }
+    }
+
+    private void siftUp(int[] heapBenefits, int offset, int index) {
+        while (index > 0) {
+            final int parent = (index - 1) / 2;
+            if (heapBenefits[parent] <= heapBenefits[index]) {
+                return;
+            }
+            swap(heapBenefits, offset, parent, index);
+            index = parent;
+        }
+    }
+
+    private void siftDown(int[] heapBenefits, int offset, int size) {
+        int index = 0;
+        while (true) {
+            final int left = 2 * index + 1;
+            if (left >= size) {
+                return;
+            }
+            final int right = left + 1;
+            final int smallest = right < size && heapBenefits[right] < heapBenefits[left] ? right : left;
+            if (heapBenefits[index] <= heapBenefits[smallest]) {
+                return;
+            }
+            swap(heapBenefits, offset, index, smallest);
+            index = smallest;
+        }
+    }
+
+    private void swap(int[] heapBenefits, int offset, int i, int j) {
+        final int benefit = heapBenefits[i];
+        heapBenefits[i] = heapBenefits[j];
+        heapBenefits[j] = benefit;
+        final int item = candidateArray[offset + i];
+        candidateArray[offset + i] = candidateArray[offset + j];
+        candidateArray[offset + j] = item;
+    }
+}
@@ -15,6 +15,17 @@ public class PersonQueue implements Iterable<Person> {
         return new PersonQueue(getQueueOfRange(n, implementation));
     }
 
+    /**
+     * @param persons initial content of the queue, in order
+     */
+    public static PersonQueue createPersonQueue(int[] persons) {
+        final Queue<Person> implementation = new ArrayDeque<>(persons.length);
+        for (int person : persons) {
+            implementation.add(new Person(person));
+        }
+        return new PersonQueue(implementation);
+    }
+
     private final Queue<Person> personQueue;
 
     private PersonQueue(Queue personQueue) {
@@ -4,6 +4,12 @@ import com.netcracker.assignment.algorithms.auction.auxillary.entities.basic.Ite
 
 import java.util.Arrays;
 
+/**
+ * Prices of items.
+ * <p>
+ * Besides prices it keeps their minimum (see getMinPrice()), which bounds the value of any item
+ * from above, so searches over rows sorted by benefit can stop early (see SortedRowIndex).
+ */
 public class PriceVector {
 
     public final static double INITIAL_PRICE = 1.0;
@@ -12,11 +18,28 @@ public class PriceVector {
         return new PriceVector(getFilledDoubleArray(n, INITIAL_PRICE));
     }
 
+    /**
+     * @param priceArray prices of items, copied
+     */
+    public final static PriceVector createFromPriceArray(double[] priceArray) {
+        return new PriceVector(priceArray.clone());
+    }
+
 
     private double priceArray[];
 
+    /*
+        Minimum is maintained lazily: it's marked as stale only when the price of the cheapest item grows,
+        and it's recomputed on the next read. Stale minimum is still a lower bound on all prices,
+        so concurrent readers may use it without locks (prices only grow during the phase).
+     */
+    private volatile double minPrice;
+    private volatile int minPriceItem;
+    private volatile boolean minPriceStale;
+
     private PriceVector(double[] priceArray) {
         this.priceArray = priceArray;
+        refreshMinPrice();
     }
 
     public double getPriceFor(Item item) {
@@ -24,7 +47,60 @@ public class PriceVector {
     }
 
     public void increasePrice(Item item, double amount) {
-        priceArray[item.getItemIndex()] += amount;
+        final int itemIndex = item.getItemIndex();
+        priceArray[itemIndex] += amount;
+        if (itemIndex == minPriceItem) {
+            minPriceStale = true;
+        }
+    }
+
+    /**
+     * @return lower bound on all prices, which is exact unless prices were changed
+     * through the backing array since the last refreshMinPrice()
+     */
+    public double getMinPrice() {
+        if (minPriceStale) {
+            refreshMinPrice();
+        }
+        return minPrice;
+    }
+
+    /**
+     * Must be called after prices were decreased through the backing array (for example,
+     * at the beginning of each phase, because the reverse auction lowers prices between phases).
+     * Increases through the backing array only make the minimum loose, not wrong.
+     */
+    public void refreshMinPrice() {
+        int cheapestItem = -1;
+        double cheapestPrice = Double.POSITIVE_INFINITY;
+        for (int i = 0; i < priceArray.length; i++) {
+            if (priceArray[i] < cheapestPrice) {
+                cheapestPrice = priceArray[i];
+                cheapestItem = i;
+            }
+        }
+        minPriceStale = false;
+        minPriceItem = cheapestItem;
+        minPrice = cheapestPrice;
+    }
+
+    /**
+     * Returns backing array of prices, where each element represents item.
+     * Used by primitive implementations, which read and update prices in place
+     * without Item wrappers (and don't maintain the minimal price).
+     *
+     * @return mutable backing array
+     */
+    public double[] getPriceArray() {
+        return priceArray;
+    }
+
+    public PriceVector copy() {
+        return createFromPriceArray(priceArray);
+    }
+
+    public int size() {
+        return priceArray.length;
     }
 
     @Override
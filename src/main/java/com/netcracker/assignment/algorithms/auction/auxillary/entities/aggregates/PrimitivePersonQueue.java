@@ -0,0 +1,117 @@
+package com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates;
+
+import java.util.Arrays;
+
+/**
+ * Queue of non assigned persons, which are represented by their indices.
+ * <p>
+ * Backed by a ring buffer, so adding and removing persons does not allocate anything.
+ * Capacity is equal to the number of persons, because each person can be present
+ * in the queue at most once (person is in the queue if and only if it is not assigned).
+ * <p>
+ * Not thread-safe.
+ */
+public class PrimitivePersonQueue {
+
+    public static PrimitivePersonQueue createFullPersonQueue(int n) {
+        final PrimitivePersonQueue queue = createEmptyPersonQueue(n);
+        for (int i = 0; i < n; i++) {
+            queue.add(i);
+        }
+        return queue;
+    }
+
+    /**
+     * @param persons  initial content of the queue, in order
+     * @param capacity usually the number of all persons
+     */
+    public static PrimitivePersonQueue createPersonQueue(int[] persons, int capacity) {
+        final PrimitivePersonQueue queue = createEmptyPersonQueue(capacity);
+        for (int person : persons) {
+            queue.add(person);
+        }
+        return queue;
+    }
+
+    public static PrimitivePersonQueue createEmptyPersonQueue(int capacity) {
+        return new PrimitivePersonQueue(new int[capacity]);
+    }
+
+    private final int[] buffer;
+    private int head;
+    private int size;
+
+    private PrimitivePersonQueue(int[] buffer) {
+        this.buffer = buffer;
+        this.head = 0;
+        this.size = 0;
+    }
+
+    public void add(int person) {
+        if (size == buffer.length) {
+            throw new IllegalStateException("Person queue is full");
+        }
+        int tail = head + size;
+        if (tail >= buffer.length) {
+            tail -= buffer.length;
+        }
+        buffer[tail] = person;
+        size++;
+    }
+
+    /**
+     * @return index of removed person or -1, if queue is empty
+     */
+    public int poll() {
+        if (size == 0) {
+            return -1;
+        }
+        final int person = buffer[head];
+        head++;
+        if (head == buffer.length) {
+            head = 0;
+        }
+        size--;
+        return person;
+    }
+
+    /**
+     * Removes all persons from the queue and copies them into specified array.
+     *
+     * @param destination array with length not less than size of the queue
+     * @return number of removed persons
+     */
+    public int drainTo(int[] destination) {
+        final int removed = size;
+        for (int i = 0; i < removed; i++) {
+            destination[i] = poll();
+        }
+        return removed;
+    }
+
+    public void clear() {
+        head = 0;
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int capacity() {
+        return buffer.length;
+    }
+
+    @Override
+    public String toString() {
+        final int[] content = new int[size];
+        for (int i = 0; i < size; i++) {
+            content[i] = buffer[(head + i) % buffer.length];
+        }
+        return Arrays.toString(content);
+    }
+}
@@ -0,0 +1,99 @@
+package com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates;
+
+import com.netcracker.assignment.utils.ConcurrentUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+
+import static com.netcracker.assignment.utils.ConcurrentUtils.executeCallableList;
+
+/**
+ * For each person, all items sorted by benefit in descending order.
+ * <p>
+ * Prices only grow during the phase, so value of any item is not greater than
+ * (benefit - minimal price). When the row is scanned in this order, the scan can stop as soon as
+ * (benefit - minimal price) is not greater than the second best value found so far: neither the best,
+ * nor the second best value can change after that point. Search stays exact, but for most bids
+ * it stops after a few items, as long as prices are close to each other.
+ * <p>
+ * Rows are sorted in parallel over slices of persons. Immutable after creation.
+ */
+public class SortedRowIndex {
+
+    private final static int MIN_PERSONS_PER_TASK = 16;
+
+    private final int numberOfItems;
+    // person's items are stored in [person * n, (person + 1) * n), length is checked, so offsets don't overflow
+    private final int[] itemArray;
+
+    public static SortedRowIndex create(BenefitMatrix benefitMatrix) {
+        return create(benefitMatrix, ConcurrentUtils.getDefaultExecutorService());
+    }
+
+    /**
+     * @param benefitMatrix
+     * @param executorService owned by the caller, never shut down here
+     * @return
+     */
+    public static SortedRowIndex create(BenefitMatrix benefitMatrix, ExecutorService executorService) {
+        final int numberOfPersons = benefitMatrix.getNumberOfPersons();
+        final SortedRowIndex index = new SortedRowIndex(numberOfPersons, benefitMatrix.getNumberOfItems());
+
+        final int numberOfTasks = Math.max(1, Math.min(
+                Runtime.getRuntime().availableProcessors(), numberOfPersons / MIN_PERSONS_PER_TASK));
+        if (numberOfTasks == 1) {
+            index.fill(benefitMatrix, 0, numberOfPersons);
+        } else {
+            final List<Callable<Void>> taskList = new ArrayList<>(numberOfTasks);
+            for (int task = 0; task < numberOfTasks; task++) {
+                final int fromPerson = (int) ((long) numberOfPersons * task / numberOfTasks);
+                final int toPerson = (int) ((long) numberOfPersons * (task + 1) / numberOfTasks);
+                taskList.add(() -> {
+                    index.fill(benefitMatrix, fromPerson, toPerson);
+                    return null;
+                });
+            }
+            executeCallableList(taskList, executorService);
+        }
+        return index;
+    }
+
+    private SortedRowIndex(int numberOfPersons, int numberOfItems) {
+        this.numberOfItems = numberOfItems;
+        this.itemArray = new int[BenefitMatrix.getNumberOfCells(numberOfPersons, numberOfItems)];
+    }
+
+    public int getNumberOfItems() {
+        return numberOfItems;
+    }
+
+    /**
+     * @param person
+     * @param rank   0 for the item with the largest benefit
+     * @return index of the item
+     */
+    public int getItem(int person, int rank) {
+        return itemArray[person * numberOfItems + rank];
+    }
+
+    /**
+     * Benefit and item are packed into one long (benefit in the high half), so each row
+     * is sorted as primitives, without boxing.
+     */
+    private void fill(BenefitMatrix benefitMatrix, int fromPerson, int toPerson) {
+        final long[] keyArray = new long[numberOfItems];
+        for (int person = fromPerson; person < toPerson; person++) {
+            for (int item = 0; item < numberOfItems; item++) {
+                keyArray[item] = ((long) benefitMatrix.getBenefit(person, item) << 32) | item;
+            }
+            Arrays.sort(keyArray);
+            final int offset = person * numberOfItems;
+            for (int rank = 0; rank < numberOfItems; rank++) {
+                itemArray[offset + rank] = (int) keyArray[numberOfItems - 1 - rank];
+            }
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates;
+
+import java.util.Arrays;
+
+/**
+ * Sparse benefit matrix in compressed sparse row (CSR) format.
+ * <p>
+ * Only admissible person/item pairs are stored. Admissible pairs of person p are stored at positions
+ * from getRowStart(p) (inclusive) to getRowEnd(p) (exclusive) of the column index array (which contains
+ * items) and of the value array (which contains benefits). All other pairs are forbidden.
+ * <p>
+ * Immutable.
+ */
+public class SparseBenefitMatrix {
+
+    /**
+     * @param numberOfItems
+     * @param rowOffsets    array with length (numberOfPersons + 1), entries of person p are stored
+     *                      at positions from rowOffsets[p] to rowOffsets[p + 1]
+     * @param columnIndices items of the entries, each item is present at most once within a row
+     * @param values        benefits of the entries
+     * @return
+     */
+    public static SparseBenefitMatrix create(int numberOfItems,
+                                             int[] rowOffsets,
+                                             int[] columnIndices,
+                                             int[] values) {
+        validate(numberOfItems, rowOffsets, columnIndices, values);
+        return new SparseBenefitMatrix(numberOfItems, rowOffsets, columnIndices, values);
+    }
+
+    /**
+     * Converts dense matrix into sparse one, skipping every element equal to forbiddenValue.
+     *
+     * @param benefitMatrix
+     * @param forbiddenValue
+     * @return
+     */
+    public static SparseBenefitMatrix createFromDense(int[][] benefitMatrix, int forbiddenValue) {
+        final int numberOfPersons = benefitMatrix.length;
+        final int numberOfItems = numberOfPersons == 0 ? 0 : benefitMatrix[0].length;
+        final int[] rowOffsets = new int[numberOfPersons + 1];
+        for (int person = 0; person < numberOfPersons; person++) {
+            int rowLength = 0;
+            for (int benefit : benefitMatrix[person]) {
+                if (benefit != forbiddenValue) {
+                    rowLength++;
+                }
+            }
+            rowOffsets[person + 1] = rowOffsets[person] + rowLength;
+        }
+        final int[] columnIndices = new int[rowOffsets[numberOfPersons]];
+        final int[] values = new int[rowOffsets[numberOfPersons]];
+        for (int person = 0; person < numberOfPersons; person++) {
+            int position = rowOffsets[person];
+            for (int item = 0; item < numberOfItems; item++) {
+                final int benefit = benefitMatrix[person][item];
+                if (benefit != forbiddenValue) {
+                    columnIndices[position] = item;
+                    values[position] = benefit;
+                    position++;
+                }
+            }
+        }
+        return new SparseBenefitMatrix(numberOfItems, rowOffsets, columnIndices, values);
+    }
+
+    private final int numberOfItems;
+    private final int[] rowOffsets;
+    private final int[] columnIndices;
+    private final int[] values;
+
+    private SparseBenefitMatrix(int numberOfItems, int[] rowOffsets, int[] columnIndices, int[] values) {
+        this.numberOfItems = numberOfItems;
+        this.rowOffsets = rowOffsets;
+        this.columnIndices = columnIndices;
+        this.values = values;
+    }
+
+    public int getNumberOfPersons() {
+        return rowOffsets.length - 1;
+    }
+
+    public int getNumberOfItems() {
+        return numberOfItems;
+    }
+
+    public int getNumberOfEntries() {
+        return rowOffsets[rowOffsets.length - 1];
+    }
+
+    public int getRowStart(int personIndex) {
+        return rowOffsets[personIndex];
+    }
+
+    public int getRowEnd(int personIndex) {
+        return rowOffsets[personIndex + 1];
+    }
+
+    /**
+     * @return items of all entries, must not be modified
+     */
+    public int[] getColumnIndices() {
+        return columnIndices;
+    }
+
+    /**
+     * @return benefits of all entries, must not be modified
+     */
+    public int[] getValues() {
+        return values;
+    }
+
+    /**
+     * @param personIndex
+     * @param itemIndex
+     * @return position of the entry or -1, if pair is forbidden
+     */
+    public int findEntry(int personIndex, int itemIndex) {
+        for (int position = getRowStart(personIndex); position < getRowEnd(personIndex); position++) {
+            if (columnIndices[position] == itemIndex) {
+                return position;
+            }
+        }
+        return -1;
+    }
+
+    public boolean isAdmissible(int personIndex, int itemIndex) {
+        return findEntry(personIndex, itemIndex) != -1;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        for (int person = 0; person < getNumberOfPersons(); person++) {
+            sb.append(person).append(":");
+            for (int position = getRowStart(person); position < getRowEnd(person); position++) {
+                sb.append(String.format(" %d=%d", columnIndices[position], values[position]));
+            }
+            sb.append("\n");
+        }
+        return sb.toString();
+    }
+
+    private static void validate(int numberOfItems, int[] rowOffsets, int[] columnIndices, int[] values) {
+        if (rowOffsets.length == 0 || rowOffsets[0] != 0) {
+            throw new IllegalArgumentException("Row offsets must start with 0");
+        }
+        final int numberOfEntries = rowOffsets[rowOffsets.length - 1];
+        if (columnIndices.length != numberOfEntries || values.length != numberOfEntries) {
+            throw new IllegalArgumentException(String.format(
+                    "Expected %d entries, but got %d column indices and %d values",
+                    numberOfEntries, columnIndices.length, values.length));
+        }
+        // contains the last person, which has used the item
+        final int[] lastPersonArray = new int[numberOfItems];
+        Arrays.fill(lastPersonArray, -1);
+        for (int person = 0; person < rowOffsets.length - 1; person++) {
+            if (rowOffsets[person] > rowOffsets[person + 1]) {
+                throw new IllegalArgumentException("Row offsets must not decrease, person: " + person);
+            }
+            for (int position = rowOffsets[person]; position < rowOffsets[person + 1]; position++) {
+                final int item = columnIndices[position];
+                if (item < 0 || item >= numberOfItems) {
+                    throw new IllegalArgumentException(String.format("Item %d of person %d is out of range", item, person));
+                }
+                if (lastPersonArray[item] == person) {
+                    throw new IllegalArgumentException(String.format("Item %d of person %d is duplicated", item, person));
+                }
+                lastPersonArray[item] = person;
+            }
+        }
+    }
+}
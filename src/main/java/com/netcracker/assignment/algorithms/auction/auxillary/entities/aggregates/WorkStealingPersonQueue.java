@@ -0,0 +1,121 @@
+package com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates;
+
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.basic.Person;
+
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pool of non assigned persons for asynchronous implementations: one deque per worker.
+ * <p>
+ * Worker takes persons from the head of its own deque and pushes persons, which it evicts,
+ * to the same head, so the evicted person is usually processed by the same thread right away.
+ * When its own deque is empty, worker steals from the tails of the other deques.
+ * <p>
+ * Emptiness of the deques doesn't mean the end of the phase: persons can be in flight
+ * (taken from a deque, but not assigned yet), and their bids may evict other persons.
+ * So the pool also counts persons, which don't own any item. Person, which is taken from
+ * a deque, stays counted until its bid takes a free item (eviction keeps the count unchanged),
+ * and the phase is over when the count drops to zero.
+ * <p>
+ * Unlike other aggregates, this one IS thread-safe.
+ */
+public class WorkStealingPersonQueue {
+
+    private final List<Deque<Person>> dequeList;
+    private final AtomicInteger numberOfNonAssignedPersons;
+
+    /**
+     * @param numberOfPersons all persons are non assigned at the beginning
+     * @param numberOfDeques  one for each worker, persons are split between them in contiguous slices
+     */
+    public static WorkStealingPersonQueue createFullPersonQueue(int numberOfPersons, int numberOfDeques) {
+        final int[] persons = new int[numberOfPersons];
+        for (int person = 0; person < numberOfPersons; person++) {
+            persons[person] = person;
+        }
+        return createPersonQueue(persons, numberOfDeques);
+    }
+
+    /**
+     * @param persons        non assigned persons, all other persons own items at the beginning
+     * @param numberOfDeques one for each worker, persons are split between them in contiguous slices
+     */
+    public static WorkStealingPersonQueue createPersonQueue(int[] persons, int numberOfDeques) {
+        final List<Deque<Person>> dequeList = new ArrayList<>(numberOfDeques);
+        for (int i = 0; i < numberOfDeques; i++) {
+            final Deque<Person> deque = new ConcurrentLinkedDeque<>();
+            final int from = (int) ((long) persons.length * i / numberOfDeques);
+            final int to = (int) ((long) persons.length * (i + 1) / numberOfDeques);
+            for (int j = from; j < to; j++) {
+                deque.addLast(new Person(persons[j]));
+            }
+            dequeList.add(deque);
+        }
+        return new WorkStealingPersonQueue(dequeList, persons.length);
+    }
+
+    private WorkStealingPersonQueue(List<Deque<Person>> dequeList, int numberOfNonAssignedPersons) {
+        this.dequeList = dequeList;
+        this.numberOfNonAssignedPersons = new AtomicInteger(numberOfNonAssignedPersons);
+    }
+
+    /**
+     * @param dequeIndex index of the calling worker
+     * @param person     person, which was evicted by the worker
+     */
+    public void push(int dequeIndex, Person person) {
+        dequeList.get(dequeIndex).addFirst(person);
+    }
+
+    /**
+     * Takes person from the own deque or, if it's empty, steals from the others.
+     *
+     * @param dequeIndex index of the calling worker
+     * @return null, if all deques seem to be empty at the moment
+     */
+    public Person poll(int dequeIndex) {
+        final Person person = dequeList.get(dequeIndex).pollFirst();
+        if (person != null) {
+            return person;
+        }
+        final int numberOfDeques = dequeList.size();
+        for (int shift = 1; shift < numberOfDeques; shift++) {
+            final Person stolenPerson = dequeList.get((dequeIndex + shift) % numberOfDeques).pollLast();
+            if (stolenPerson != null) {
+                return stolenPerson;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Must be called, when the bid of a person takes an item, which had no owner.
+     */
+    public void onFreeItemTaken() {
+        numberOfNonAssignedPersons.decrementAndGet();
+    }
+
+    /**
+     * @return true, if every person owns an item, so no new persons will ever appear
+     */
+    public boolean isDone() {
+        return numberOfNonAssignedPersons.get() == 0;
+    }
+
+    public int getNumberOfDeques() {
+        return dequeList.size();
+    }
+
+    public boolean isEmpty() {
+        return dequeList.stream().allMatch(Deque::isEmpty);
+    }
+
+    @Override
+    public String toString() {
+        return dequeList.toString();
+    }
+}
@@ -0,0 +1,63 @@
+package com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.benefit;
+
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.BenefitMatrix;
+
+/**
+ * Transposed layout: columns are stored one after another, so benefits of all persons
+ * for the same item are contiguous (see getColumnOffset(...)).
+ * <p>
+ * Intended for column scans (i.e. when items look for persons). Row segments
+ * consist of only one element, so row scans should use other layouts.
+ */
+public class ColumnMajorBenefitMatrix extends BenefitMatrix {
+
+    public static ColumnMajorBenefitMatrix create(int[][] benefitMatrix) {
+        final int numberOfPersons = benefitMatrix.length;
+        final int numberOfItems = getNumberOfColumns(benefitMatrix);
+        final int[] storage = createStorage(numberOfPersons, numberOfItems);
+        for (int person = 0; person < numberOfPersons; person++) {
+            for (int item = 0; item < numberOfItems; item++) {
+                storage[item * numberOfPersons + person] = benefitMatrix[person][item];
+            }
+        }
+        return new ColumnMajorBenefitMatrix(numberOfPersons, numberOfItems, storage);
+    }
+
+    private final int[] storage;
+
+    private ColumnMajorBenefitMatrix(int numberOfPersons, int numberOfItems, int[] storage) {
+        super(numberOfPersons, numberOfItems);
+        this.storage = storage;
+    }
+
+    @Override
+    public int getBenefit(int personIndex, int itemIndex) {
+        return storage[itemIndex * getNumberOfPersons() + personIndex];
+    }
+
+    @Override
+    public int[] getStorage() {
+        return storage;
+    }
+
+    @Override
+    public int getOffset(int personIndex, int itemIndex) {
+        return itemIndex * getNumberOfPersons() + personIndex;
+    }
+
+    @Override
+    public int getSegmentEnd(int itemIndex) {
+        return itemIndex + 1;
+    }
+
+    /**
+     * Benefits of all persons for specified item are stored contiguously in getStorage(),
+     * starting at returned position.
+     *
+     * @param itemIndex
+     * @return
+     */
+    public int getColumnOffset(int itemIndex) {
+        return itemIndex * getNumberOfPersons();
+    }
+}
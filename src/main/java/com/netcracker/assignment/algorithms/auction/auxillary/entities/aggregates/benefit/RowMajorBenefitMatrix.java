@@ -0,0 +1,47 @@
+package com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.benefit;
+
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.BenefitMatrix;
+
+/**
+ * Default layout: rows are stored one after another in a single array,
+ * so each row is one contiguous segment.
+ */
+public class RowMajorBenefitMatrix extends BenefitMatrix {
+
+    public static RowMajorBenefitMatrix create(int[][] benefitMatrix) {
+        final int numberOfPersons = benefitMatrix.length;
+        final int numberOfItems = getNumberOfColumns(benefitMatrix);
+        final int[] storage = createStorage(numberOfPersons, numberOfItems);
+        for (int person = 0; person < numberOfPersons; person++) {
+            System.arraycopy(benefitMatrix[person], 0, storage, person * numberOfItems, numberOfItems);
+        }
+        return new RowMajorBenefitMatrix(numberOfPersons, numberOfItems, storage);
+    }
+
+    private final int[] storage;
+
+    private RowMajorBenefitMatrix(int numberOfPersons, int numberOfItems, int[] storage) {
+        super(numberOfPersons, numberOfItems);
+        this.storage = storage;
+    }
+
+    @Override
+    public int getBenefit(int personIndex, int itemIndex) {
+        return storage[personIndex * getNumberOfItems() + itemIndex];
+    }
+
+    @Override
+    public int[] getStorage() {
+        return storage;
+    }
+
+    @Override
+    public int getOffset(int personIndex, int itemIndex) {
+        return personIndex * getNumberOfItems() + itemIndex;
+    }
+
+    @Override
+    public int getSegmentEnd(int itemIndex) {
+        return getNumberOfItems();
+    }
+}
@@ -0,0 +1,75 @@
+package com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.benefit;
+
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.BenefitMatrix;
+
+/**
+ * Blocked layout: items are split into tiles (strips of columns) of the same width,
+ * and each tile is stored in row-major order, one tile after another.
+ * <p>
+ * Row segments are as wide as tiles. When search is split by item ranges, which
+ * are aligned to tiles, each thread reads one compact block of memory for all persons.
+ */
+public class TiledBenefitMatrix extends BenefitMatrix {
+
+    public static TiledBenefitMatrix create(int[][] benefitMatrix, int tileWidth) {
+        if (tileWidth <= 0) {
+            throw new IllegalArgumentException("Tile width must be positive: " + tileWidth);
+        }
+        final int numberOfPersons = benefitMatrix.length;
+        final int numberOfItems = getNumberOfColumns(benefitMatrix);
+        final TiledBenefitMatrix tiledMatrix = new TiledBenefitMatrix(
+                numberOfPersons,
+                numberOfItems,
+                tileWidth,
+                createStorage(numberOfPersons, numberOfItems)
+        );
+        for (int tileStart = 0; tileStart < numberOfItems; tileStart += tileWidth) {
+            final int currentTileWidth = Math.min(tileWidth, numberOfItems - tileStart);
+            for (int person = 0; person < numberOfPersons; person++) {
+                System.arraycopy(
+                        benefitMatrix[person],
+                        tileStart,
+                        tiledMatrix.storage,
+                        tiledMatrix.getOffset(person, tileStart),
+                        currentTileWidth
+                );
+            }
+        }
+        return tiledMatrix;
+    }
+
+    private final int tileWidth;
+    private final int[] storage;
+
+    private TiledBenefitMatrix(int numberOfPersons, int numberOfItems, int tileWidth, int[] storage) {
+        super(numberOfPersons, numberOfItems);
+        this.tileWidth = tileWidth;
+        this.storage = storage;
+    }
+
+    public int getTileWidth() {
+        return tileWidth;
+    }
+
+    @Override
+    public int getBenefit(int personIndex, int itemIndex) {
+        return storage[getOffset(personIndex, itemIndex)];
+    }
+
+    @Override
+    public int[] getStorage() {
+        return storage;
+    }
+
+    @Override
+    public int getOffset(int personIndex, int itemIndex) {
+        final int tileStart = itemIndex - itemIndex % tileWidth;
+        final int currentTileWidth = Math.min(tileWidth, getNumberOfItems() - tileStart);
+        return tileStart * getNumberOfPersons() + personIndex * currentTileWidth + (itemIndex - tileStart);
+    }
+
+    @Override
+    public int getSegmentEnd(int itemIndex) {
+        return Math.min(getNumberOfItems(), itemIndex - itemIndex % tileWidth + tileWidth);
+    }
+}
@@ -36,6 +36,14 @@ public class ItemList implements Iterable<Item> {
         return new ItemList(itemList.subList(fromIndex, toIndex));
     }
 
+    public Item get(int position) {
+        return itemList.get(position);
+    }
+
+    public int size() {
+        return itemList.size();
+    }
+
     @Override
     public Iterator<Item> iterator() {
         return itemList.iterator();
@@ -0,0 +1,84 @@
+package com.netcracker.assignment.algorithms.auction.auxillary.entities.basic;
+
+/**
+ * Mutable counterpart of {@link SearchTaskResult}, which is used by primitive implementations.
+ * <p>
+ * Each thread owns its own instance and reuses it for every search, so searching does not
+ * allocate anything. Items are represented by their indices (-1 means that no item was found).
+ * <p>
+ * Not thread-safe.
+ */
+public class MutableSearchResult {
+
+    private int bestItem;
+    private double bestValue;
+    private double secondBestValue;
+
+    public MutableSearchResult() {
+        reset();
+    }
+
+    public void reset() {
+        this.bestItem = -1;
+        this.bestValue = Double.NEGATIVE_INFINITY;
+        this.secondBestValue = Double.NEGATIVE_INFINITY;
+    }
+
+    public void set(int bestItem, double bestValue, double secondBestValue) {
+        this.bestItem = bestItem;
+        this.bestValue = bestValue;
+        this.secondBestValue = secondBestValue;
+    }
+
+    /**
+     * Merges another (partial) result into this one, so this result becomes the result
+     * of the search across both item ranges.
+     *
+     * @param other
+     */
+    public void merge(MutableSearchResult other) {
+        merge(other.bestItem, other.bestValue, other.secondBestValue);
+    }
+
+    /**
+     * Same as merge(MutableSearchResult), but takes partial result as primitives.
+     *
+     * @param otherBestItem
+     * @param otherBestValue
+     * @param otherSecondBestValue
+     */
+    public void merge(int otherBestItem, double otherBestValue, double otherSecondBestValue) {
+        if (otherBestValue > bestValue) {
+            secondBestValue = Math.max(bestValue, otherSecondBestValue);
+            bestValue = otherBestValue;
+            bestItem = otherBestItem;
+        } else {
+            secondBestValue = Math.max(secondBestValue, otherBestValue);
+        }
+    }
+
+    public boolean isFound() {
+        return bestItem != -1;
+    }
+
+    public int getBestItem() {
+        return bestItem;
+    }
+
+    public double getBestValue() {
+        return bestValue;
+    }
+
+    public double getSecondBestValue() {
+        return secondBestValue;
+    }
+
+    @Override
+    public String toString() {
+        return "MutableSearchResult{" +
+                "bestItem=" + bestItem +
+                ", bestValue=" + bestValue +
+                ", secondBestValue=" + secondBestValue +
+                '}';
+    }
+}
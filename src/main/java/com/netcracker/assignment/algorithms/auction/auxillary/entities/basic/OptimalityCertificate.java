@@ -0,0 +1,84 @@
+package com.netcracker.assignment.algorithms.auction.auxillary.entities.basic;
+
+/**
+ * Result of the primal-dual check of an assignment (see CertificateChecker).
+ * <p>
+ * Dual value is an upper bound on the total benefit of any assignment (weak duality),
+ * so gap = dual - primal bounds the suboptimality of the checked assignment,
+ * whichever way it was found.
+ */
+public class OptimalityCertificate {
+
+    private final long primalValue;
+    private final double dualValue;
+    private final double maxSlack;
+    private final double tolerance;
+
+    /**
+     * @param tolerance bound on the rounding error of dual value and slacks
+     */
+    public OptimalityCertificate(long primalValue, double dualValue, double maxSlack, double tolerance) {
+        this.primalValue = primalValue;
+        this.dualValue = dualValue;
+        this.maxSlack = maxSlack;
+        this.tolerance = tolerance;
+    }
+
+    /**
+     * @return total benefit of the assignment
+     */
+    public long getPrimalValue() {
+        return primalValue;
+    }
+
+    /**
+     * @return upper bound on the total benefit of the optimal assignment
+     */
+    public double getDualValue() {
+        return dualValue;
+    }
+
+    /**
+     * @return proven bound on suboptimality of the assignment (never negative)
+     */
+    public double getGap() {
+        return Math.max(0.0, dualValue - primalValue);
+    }
+
+    /**
+     * @return the smallest epsilon, for which assignment and prices satisfy epsilon-complementary slackness
+     */
+    public double getMaxSlack() {
+        return maxSlack;
+    }
+
+    /**
+     * @return bound on the rounding error of dual value and slacks
+     */
+    public double getTolerance() {
+        return tolerance;
+    }
+
+    public boolean satisfiesComplementarySlackness(double epsilon) {
+        return maxSlack <= epsilon;
+    }
+
+    /**
+     * Benefits are integers, so any assignment, which is less than 1 away from the bound, is optimal.
+     * Gap is computed in double, so it has to be below 1 by more than the rounding error.
+     */
+    public boolean isOptimal() {
+        return getGap() < 1.0 - tolerance;
+    }
+
+    @Override
+    public String toString() {
+        return "OptimalityCertificate{" +
+                "primalValue=" + primalValue +
+                ", dualValue=" + dualValue +
+                ", gap=" + getGap() +
+                ", maxSlack=" + maxSlack +
+                ", tolerance=" + tolerance +
+                '}';
+    }
+}
@@ -40,18 +40,20 @@ public class SearchTaskResult {
             throw new IllegalStateException("searchTaskResultList is empty");
         }
 
-        SearchTaskResult firstResult = resultList.iterator().next();
-        Item currentBestItem = firstResult.getBestItem();
-        double currentBestValue = firstResult.getBestValue();
-        double currentSecondBestValue = firstResult.getSecondBestValue();
+        // the second best value is the best among the second best values of all results
+        // and the best values of all results, except the winner
+        Item currentBestItem = null;
+        double currentBestValue = Double.NEGATIVE_INFINITY;
+        double currentSecondBestValue = Double.NEGATIVE_INFINITY;
 
         for (SearchTaskResult result : resultList) {
+            currentSecondBestValue = Math.max(currentSecondBestValue, result.getSecondBestValue());
             if (result.getBestValue() > currentBestValue) {
+                currentSecondBestValue = Math.max(currentSecondBestValue, currentBestValue);
                 currentBestItem = result.getBestItem();
                 currentBestValue = result.getBestValue();
-                currentSecondBestValue = currentBestValue;
-            } else if (result.getBestValue() > currentSecondBestValue) {
-                currentSecondBestValue = result.getBestValue();
+            } else {
+                currentSecondBestValue = Math.max(currentSecondBestValue, result.getBestValue());
             }
         }
 
@@ -16,6 +16,13 @@ import java.util.concurrent.ExecutorService;
 
 import static com.netcracker.assignment.algorithms.auction.auxillary.logic.bids.BidMaker.makeBid;
 
+/**
+ * Bid task, which searches for the best item of each person using several search tasks.
+ * <p>
+ * It blocks while waiting for its search tasks, so it must be executed from the calling thread
+ * (as in SynchronousGaussSeidel), never inside the same bounded pool: nested submission starves
+ * the pool once all its threads are waiting. For nested parallelism use {@link RecursiveBidTask}.
+ */
 public class ParallelBidTask extends BidTask {
 
     private final ExecutorService executorService;
@@ -0,0 +1,156 @@
+package com.netcracker.assignment.algorithms.auction.auxillary.entities.tasks;
+
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.BenefitMatrix;
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.PriceVector;
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.item.ItemList;
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.basic.Bid;
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.basic.Person;
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.basic.SearchTaskResult;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RecursiveTask;
+
+import static com.netcracker.assignment.algorithms.auction.auxillary.logic.bids.BidMaker.makeBid;
+
+/**
+ * Fork/join replacement of {@link ParallelBidTask}, which is parallel both across persons and within each bid.
+ * <p>
+ * Person list is split in halves until it is not larger than the person threshold, and the search
+ * for each person is split over item ranges (see {@link RecursiveSearchTask}). Unlike ParallelBidTask,
+ * which blocks a thread of a bounded pool while waiting for its search tasks, here the waiting threads
+ * execute pending subtasks, so any combination of thresholds and pool size is deadlock free.
+ * <p>
+ * Thresholds are chosen from the size of the pool and the problem (see create(...)),
+ * so there are a few tasks per thread for load balancing, and items are split only
+ * when there are not enough persons to keep all threads busy.
+ */
+public class RecursiveBidTask extends RecursiveTask<List<Bid>> {
+
+    private static final long serialVersionUID = 1L;
+
+    // number of tasks per thread of the pool, more tasks means better balance, but more overhead
+    private final static int TASKS_PER_THREAD = 4;
+    // searching smaller item ranges in parallel costs more than it saves
+    private final static int MIN_ITEMS_PER_SEARCH_TASK = 64;
+
+    private final BenefitMatrix benefitMatrix;
+    private final PriceVector priceVector;
+    private final List<Person> personList;
+    private final ItemList itemList;
+    private final double epsilon;
+    private final int personThreshold;
+    private final int itemThreshold;
+
+    /**
+     * @param personList                      persons, which make bids
+     * @param parallelism                     number of threads of the pool
+     * @param minNumberOfPersonsPerTask       lower bound of the person threshold
+     * @param maxNumberOfSearchTasksPerPerson upper bound of the number of item ranges per person
+     * @return task with adaptive thresholds
+     */
+    public static RecursiveBidTask create(BenefitMatrix benefitMatrix,
+                                          PriceVector priceVector,
+                                          List<Person> personList,
+                                          ItemList itemList,
+                                          double epsilon,
+                                          int parallelism,
+                                          int minNumberOfPersonsPerTask,
+                                          int maxNumberOfSearchTasksPerPerson) {
+        final int numberOfPersons = Math.max(1, personList.size());
+        final int numberOfItems = itemList.size();
+        final int targetNumberOfTasks = Math.max(1, parallelism) * TASKS_PER_THREAD;
+
+        final int personThreshold = Math.max(
+                Math.max(1, minNumberOfPersonsPerTask),
+                divideRoundingUp(numberOfPersons, targetNumberOfTasks)
+        );
+        final int numberOfPersonTasks = divideRoundingUp(numberOfPersons, personThreshold);
+        final int numberOfSearchTasksPerPerson = Math.min(
+                Math.max(1, maxNumberOfSearchTasksPerPerson),
+                Math.max(1, targetNumberOfTasks / numberOfPersonTasks)
+        );
+        final int itemThreshold = Math.max(
+                MIN_ITEMS_PER_SEARCH_TASK,
+                divideRoundingUp(numberOfItems, numberOfSearchTasksPerPerson)
+        );
+
+        return new RecursiveBidTask(
+                benefitMatrix,
+                priceVector,
+                new ArrayList<>(personList),
+                itemList,
+                epsilon,
+                personThreshold,
+                itemThreshold
+        );
+    }
+
+    private RecursiveBidTask(BenefitMatrix benefitMatrix,
+                             PriceVector priceVector,
+                             List<Person> personList,
+                             ItemList itemList,
+                             double epsilon,
+                             int personThreshold,
+                             int itemThreshold) {
+        this.benefitMatrix = benefitMatrix;
+        this.priceVector = priceVector;
+        this.personList = personList;
+        this.itemList = itemList;
+        this.epsilon = epsilon;
+        this.personThreshold = personThreshold;
+        this.itemThreshold = itemThreshold;
+    }
+
+    public int getPersonThreshold() {
+        return personThreshold;
+    }
+
+    public int getItemThreshold() {
+        return itemThreshold;
+    }
+
+    @Override
+    protected List<Bid> compute() {
+        final int numberOfPersons = personList.size();
+        if (numberOfPersons <= personThreshold) {
+            final List<Bid> bidList = new ArrayList<>(numberOfPersons);
+            for (Person person : personList) {
+                final SearchTaskResult result = new RecursiveSearchTask(
+                        benefitMatrix,
+                        priceVector,
+                        person,
+                        itemList,
+                        itemThreshold
+                ).compute();
+                bidList.add(makeBid(person, result, epsilon));
+            }
+            return bidList;
+        }
+
+        final int middle = numberOfPersons / 2;
+        final RecursiveBidTask left = createSubtask(personList.subList(0, middle));
+        final RecursiveBidTask right = createSubtask(personList.subList(middle, numberOfPersons));
+        left.fork();
+        final List<Bid> rightBidList = right.compute();
+        final List<Bid> bidList = left.join();
+        bidList.addAll(rightBidList);
+        return bidList;
+    }
+
+    private RecursiveBidTask createSubtask(List<Person> personListPart) {
+        return new RecursiveBidTask(
+                benefitMatrix,
+                priceVector,
+                personListPart,
+                itemList,
+                epsilon,
+                personThreshold,
+                itemThreshold
+        );
+    }
+
+    private static int divideRoundingUp(int dividend, int divisor) {
+        return (dividend + divisor - 1) / divisor;
+    }
+}
@@ -0,0 +1,59 @@
+package com.netcracker.assignment.algorithms.auction.auxillary.entities.tasks;
+
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.BenefitMatrix;
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.PriceVector;
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.item.ItemList;
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.basic.Person;
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.basic.SearchTaskResult;
+
+import java.util.Arrays;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Fork/join version of {@link SearchTask}: item list is split in halves until it is not larger
+ * than the threshold, then each part is searched by SearchTask, and results are merged.
+ * <p>
+ * Waiting for a forked half is done by helping (the waiting thread executes pending tasks),
+ * so nesting these tasks inside other fork/join tasks can't starve the pool.
+ */
+public class RecursiveSearchTask extends RecursiveTask<SearchTaskResult> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final BenefitMatrix benefitMatrix;
+    private final PriceVector priceVector;
+    private final Person person;
+    private final ItemList itemList;
+    private final int itemThreshold;
+
+    public RecursiveSearchTask(BenefitMatrix benefitMatrix,
+                               PriceVector priceVector,
+                               Person person,
+                               ItemList itemList,
+                               int itemThreshold) {
+        this.benefitMatrix = benefitMatrix;
+        this.priceVector = priceVector;
+        this.person = person;
+        this.itemList = itemList;
+        this.itemThreshold = Math.max(1, itemThreshold);
+    }
+
+    @Override
+    protected SearchTaskResult compute() {
+        final int numberOfItems = itemList.size();
+        if (numberOfItems <= itemThreshold) {
+            return new SearchTask(benefitMatrix, priceVector, person, itemList).call();
+        }
+        final int middle = numberOfItems / 2;
+        final RecursiveSearchTask left = createSubtask(itemList.getSublist(0, middle));
+        final RecursiveSearchTask right = createSubtask(itemList.getSublist(middle, numberOfItems));
+        left.fork();
+        final SearchTaskResult rightResult = right.compute();
+        final SearchTaskResult leftResult = left.join();
+        return SearchTaskResult.mergeResults(Arrays.asList(leftResult, rightResult));
+    }
+
+    private RecursiveSearchTask createSubtask(ItemList itemListPart) {
+        return new RecursiveSearchTask(benefitMatrix, priceVector, person, itemListPart, itemThreshold);
+    }
+}
@@ -3,6 +3,7 @@ package com.netcracker.assignment.algorithms.auction.auxillary.entities.tasks;
 import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.BenefitMatrix;
 import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.item.ItemList;
 import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.PriceVector;
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.SortedRowIndex;
 import com.netcracker.assignment.algorithms.auction.auxillary.entities.basic.Item;
 import com.netcracker.assignment.algorithms.auction.auxillary.entities.basic.Person;
 import com.netcracker.assignment.algorithms.auction.auxillary.entities.basic.SearchTaskResult;
@@ -42,19 +43,55 @@ public class SearchTask implements Callable<SearchTaskResult> {
         return itemList;
     }
 
+    /**
+     * Scans the list for the best and the second best items.
+     * <p>
+     * If the list covers all items and the sorted row index is attached to the matrix, items are scanned
+     * in descending order of benefit, and the scan stops as soon as no further item can beat
+     * the second best value (see SortedRowIndex). Otherwise every item of the list is scanned.
+     */
     @Override
     public SearchTaskResult call() {
+        final SortedRowIndex sortedRowIndex = benefitMatrix.getSortedRowIndex();
+        if (sortedRowIndex != null && itemList.size() == benefitMatrix.getNumberOfItems()) {
+            return searchInSortedOrder(sortedRowIndex);
+        }
         Item currentBestItem = null;
-        double currentBestValue = -1.0;
-        double currentSecondBestValue = -1.0;
+        double currentBestValue = Double.NEGATIVE_INFINITY;
+        double currentSecondBestValue = Double.NEGATIVE_INFINITY;
         for (Item item : itemList) {
             int benefit = benefitMatrix.getBenefit(person, item);
             double price = priceVector.getPriceFor(item);
             double value = benefit - price;
             if (value > currentBestValue) {
                 currentBestItem = item;
+                currentSecondBestValue = currentBestValue;
                 currentBestValue = value;
+            } else if (value > currentSecondBestValue) {
+                currentSecondBestValue = value;
+            }
+        }
+        return new SearchTaskResult(currentBestItem, currentBestValue, currentSecondBestValue);
+    }
+
+    private SearchTaskResult searchInSortedOrder(SortedRowIndex sortedRowIndex) {
+        final int personIndex = person.getPersonIndex();
+        final double minPrice = priceVector.getMinPrice();
+        Item currentBestItem = null;
+        double currentBestValue = Double.NEGATIVE_INFINITY;
+        double currentSecondBestValue = Double.NEGATIVE_INFINITY;
+        for (int rank = 0; rank < sortedRowIndex.getNumberOfItems(); rank++) {
+            final int itemIndex = sortedRowIndex.getItem(personIndex, rank);
+            final int benefit = benefitMatrix.getBenefit(personIndex, itemIndex);
+            if (benefit - minPrice <= currentSecondBestValue) {
+                break;
+            }
+            final Item item = itemList.get(itemIndex);
+            final double value = benefit - priceVector.getPriceFor(item);
+            if (value > currentBestValue) {
+                currentBestItem = item;
                 currentSecondBestValue = currentBestValue;
+                currentBestValue = value;
             } else if (value > currentSecondBestValue) {
                 currentSecondBestValue = value;
             }
@@ -0,0 +1,188 @@
+package com.netcracker.assignment.algorithms.auction.auxillary.logic.asymmetric;
+
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.Assignment;
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.BenefitMatrix;
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.PriceVector;
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.PrimitivePersonQueue;
+
+/**
+ * Reverse stage of the asymmetric auction (number of persons is less than number of items).
+ * <p>
+ * Forward auction alone is not enough for asymmetric problems: with epsilon scaling, an item,
+ * which was assigned during one of the previous phases, may end up without owner but with
+ * high price, so persons never consider it again. Assignment is optimal (up to persons * epsilon)
+ * only if there is lambda, such that prices of all non assigned items are not greater than lambda,
+ * and prices of all assigned items are not less than lambda.
+ * <p>
+ * Here lambda is the minimal price of assigned items. Each non assigned item with price above lambda
+ * makes a reverse bid: it finds the person with the best value (benefit - profit) and either lowers
+ * its own price to lambda (if it can't attract the person), or takes the person away, and the
+ * previous item of said person becomes non assigned. Person profits are kept alongside prices,
+ * so epsilon-complementary slackness holds throughout.
+ * <p>
+ * The same stage is available in exact integer arithmetic, with scaled benefits and long prices
+ * (see IntegerAuctionAlgorithm).
+ */
+public class AsymmetricReverseAuction {
+
+    /**
+     * @param benefitMatrix immutable
+     * @param priceVector   mutable, contains updated prices at the end
+     * @param assignment    complete assignment produced by forward auction
+     * @param epsilon
+     * @return new complete assignment, which satisfies lambda condition
+     */
+    public static Assignment run(BenefitMatrix benefitMatrix,
+                                 PriceVector priceVector,
+                                 Assignment assignment,
+                                 double epsilon) {
+        final int numberOfPersons = benefitMatrix.getNumberOfPersons();
+        final int numberOfItems = benefitMatrix.getNumberOfItems();
+        final double[] priceArray = priceVector.getPriceArray();
+        final int[] ownerArray = assignment.getOwnerArray();
+
+        if (numberOfPersons == 0) {
+            return assignment;
+        }
+
+        // profits of persons and lambda
+        final int[] personItemArray = new int[numberOfPersons];
+        final double[] profitArray = new double[numberOfPersons];
+        double lambda = Double.POSITIVE_INFINITY;
+        for (int item = 0; item < numberOfItems; item++) {
+            final int owner = ownerArray[item];
+            if (owner != -1) {
+                personItemArray[owner] = item;
+                profitArray[owner] = benefitMatrix.getBenefit(owner, item) - priceArray[item];
+                lambda = Math.min(lambda, priceArray[item]);
+            }
+        }
+
+        final PrimitivePersonQueue itemQueue = PrimitivePersonQueue.createEmptyPersonQueue(numberOfItems);
+        for (int item = 0; item < numberOfItems; item++) {
+            if (ownerArray[item] == -1 && priceArray[item] > lambda) {
+                itemQueue.add(item);
+            }
+        }
+
+        for (int item = itemQueue.poll(); item != -1; item = itemQueue.poll()) {
+            // search for the best and second best persons (column scan)
+            int bestPerson = -1;
+            double bestValue = Double.NEGATIVE_INFINITY;
+            double secondBestValue = Double.NEGATIVE_INFINITY;
+            for (int person = 0; person < numberOfPersons; person++) {
+                final double value = benefitMatrix.getBenefit(person, item) - profitArray[person];
+                if (value > bestValue) {
+                    secondBestValue = bestValue;
+                    bestValue = value;
+                    bestPerson = person;
+                } else if (value > secondBestValue) {
+                    secondBestValue = value;
+                }
+            }
+
+            if (lambda >= bestValue - epsilon) {
+                // item can't attract anyone, so it stays non assigned with lowest possible price
+                priceArray[item] = lambda;
+                continue;
+            }
+
+            final double newPrice = Math.max(lambda, secondBestValue - epsilon);
+            priceArray[item] = newPrice;
+            profitArray[bestPerson] = benefitMatrix.getBenefit(bestPerson, item) - newPrice;
+
+            final int oldItem = personItemArray[bestPerson];
+            ownerArray[oldItem] = -1;
+            ownerArray[item] = bestPerson;
+            personItemArray[bestPerson] = item;
+            if (priceArray[oldItem] > lambda) {
+                itemQueue.add(oldItem);
+            }
+        }
+
+        return Assignment.createFromOwnerArray(ownerArray, numberOfPersons);
+    }
+
+    /**
+     * Same as run(BenefitMatrix, PriceVector, Assignment, double), but in scaled integer units:
+     * value of the item for the person is benefit * scale - price.
+     *
+     * @param benefitMatrix immutable
+     * @param scale         multiplier of benefits
+     * @param priceArray    mutable, scaled prices, contains updated prices at the end
+     * @param ownerArray    mutable, complete assignment produced by forward auction (owner of each item or -1),
+     *                      contains new complete assignment, which satisfies lambda condition, at the end
+     * @param epsilon       scaled epsilon
+     */
+    public static void run(BenefitMatrix benefitMatrix,
+                           long scale,
+                           long[] priceArray,
+                           int[] ownerArray,
+                           long epsilon) {
+        final int numberOfPersons = benefitMatrix.getNumberOfPersons();
+        final int numberOfItems = benefitMatrix.getNumberOfItems();
+
+        if (numberOfPersons == 0) {
+            return;
+        }
+
+        // profits of persons and lambda
+        final int[] personItemArray = new int[numberOfPersons];
+        final long[] profitArray = new long[numberOfPersons];
+        long lambda = Long.MAX_VALUE;
+        for (int item = 0; item < numberOfItems; item++) {
+            final int owner = ownerArray[item];
+            if (owner != -1) {
+                personItemArray[owner] = item;
+                profitArray[owner] = benefitMatrix.getBenefit(owner, item) * scale - priceArray[item];
+                lambda = Math.min(lambda, priceArray[item]);
+            }
+        }
+
+        final PrimitivePersonQueue itemQueue = PrimitivePersonQueue.createEmptyPersonQueue(numberOfItems);
+        for (int item = 0; item < numberOfItems; item++) {
+            if (ownerArray[item] == -1 && priceArray[item] > lambda) {
+                itemQueue.add(item);
+            }
+        }
+
+        for (int item = itemQueue.poll(); item != -1; item = itemQueue.poll()) {
+            // search for the best and second best persons (column scan)
+            int bestPerson = -1;
+            long bestValue = Long.MIN_VALUE;
+            long secondBestValue = Long.MIN_VALUE;
+            for (int person = 0; person < numberOfPersons; person++) {
+                final long value = benefitMatrix.getBenefit(person, item) * scale - profitArray[person];
+                if (bestPerson == -1 || value > bestValue) {
+                    secondBestValue = bestValue;
+                    bestValue = value;
+                    bestPerson = person;
+                } else if (value > secondBestValue) {
+                    secondBestValue = value;
+                }
+            }
+
+            if (lambda >= bestValue - epsilon) {
+                // item can't attract anyone, so it stays non assigned with lowest possible price
+                priceArray[item] = lambda;
+                continue;
+            }
+
+            // without the second person there is no competition, so the price drops to lambda
+            final long newPrice = numberOfPersons == 1 ? lambda : Math.max(lambda, secondBestValue - epsilon);
+            priceArray[item] = newPrice;
+            profitArray[bestPerson] = benefitMatrix.getBenefit(bestPerson, item) * scale - newPrice;
+
+            final int oldItem = personItemArray[bestPerson];
+            ownerArray[oldItem] = -1;
+            ownerArray[item] = bestPerson;
+            personItemArray[bestPerson] = item;
+            if (priceArray[oldItem] > lambda) {
+                itemQueue.add(oldItem);
+            }
+        }
+    }
+
+    private AsymmetricReverseAuction() {
+    }
+}
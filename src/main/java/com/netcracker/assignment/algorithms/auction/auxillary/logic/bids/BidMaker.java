@@ -17,4 +17,23 @@ public class BidMaker {
         final double bidValue = bestValue - secondBestValue + epsilon;
         return new Bid(person, bestItem, bidValue);
     }
+
+    /**
+     * Computes bid value (i.e. price increment) from the best and second best values.
+     * If there is no second best item (only one item is available), then there is no
+     * competition for the best item and epsilon is used as bid value.
+     *
+     * @param bestValue
+     * @param secondBestValue
+     * @param epsilon
+     * @return
+     */
+    public static double computeBidValue(double bestValue,
+                                         double secondBestValue,
+                                         double epsilon) {
+        if (secondBestValue == Double.NEGATIVE_INFINITY) {
+            return epsilon;
+        }
+        return bestValue - secondBestValue + epsilon;
+    }
 }
@@ -0,0 +1,207 @@
+package com.netcracker.assignment.algorithms.auction.auxillary.logic.bids;
+
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.Assignment;
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.PersonQueue;
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.PriceVector;
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.basic.Bid;
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.basic.Item;
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.basic.Person;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+
+import static com.netcracker.assignment.utils.ConcurrentUtils.executeCallableList;
+
+/**
+ * Replacement of {@link BidAggregator} and {@link BidProcessor} for synchronous implementations,
+ * which runs in parallel and doesn't build a map of priority queues in every round.
+ * <p>
+ * Round is processed in two parallel stages:
+ * - Aggregation: bids are split into contiguous chunks, and each task keeps position of the
+ * highest bid for each item in its own primitive array (and list of items, which received its bids).
+ * - Reduction and assignment: items are split into contiguous partitions, and each task selects
+ * the highest bid for items of its partition among the arrays of all aggregation tasks
+ * (max-reduction), then updates price and owner of these items. Tasks write to disjoint items,
+ * so they don't need locks.
+ * <p>
+ * Only items, which received bids, are touched (i.e. there is no pass over the whole item list),
+ * and all arrays are reset on the way, so they are created once per epsilon scaling phase.
+ * Ties are resolved in favour of the earlier bid, so the result doesn't depend on the number of tasks.
+ * <p>
+ * Persons, which have to bid again (old owners and bidders, which didn't win), are added
+ * to the queue by the calling thread, because PersonQueue is not thread-safe.
+ */
+public class ParallelBidProcessor {
+
+    // smaller rounds are processed in the calling thread, hand-off costs more than the work
+    private final static int MIN_BIDS_PER_TASK = 512;
+
+    private final int maxNumberOfTasks;
+    private final ExecutorService executorService;
+    private final int numberOfItems;
+
+    // for each aggregation task, for each item: position of the highest bid of this task (or -1)
+    private final int[][] localHighestBidArrays;
+    // for each aggregation task: items, which received its bids
+    private final int[][] localBiddenItemArrays;
+    private final int[] localNumberOfBiddenItems;
+
+    // for each item: position of the highest bid of the round (or -1)
+    private final int[] highestBidArray;
+
+    /**
+     * @param maxNumberOfTasks maximal number of tasks per stage
+     * @param executorService  owned by the caller, never shut down here
+     */
+    public static ParallelBidProcessor create(int numberOfPersons,
+                                              int numberOfItems,
+                                              int maxNumberOfTasks,
+                                              ExecutorService executorService) {
+        return new ParallelBidProcessor(numberOfPersons, numberOfItems, Math.max(1, maxNumberOfTasks), executorService);
+    }
+
+    private ParallelBidProcessor(int numberOfPersons, int numberOfItems, int maxNumberOfTasks, ExecutorService executorService) {
+        this.maxNumberOfTasks = maxNumberOfTasks;
+        this.executorService = executorService;
+        this.numberOfItems = numberOfItems;
+        this.localHighestBidArrays = new int[maxNumberOfTasks][numberOfItems];
+        for (int[] localHighestBidArray : localHighestBidArrays) {
+            Arrays.fill(localHighestBidArray, -1);
+        }
+        this.localBiddenItemArrays = new int[maxNumberOfTasks][Math.min(numberOfPersons, numberOfItems)];
+        this.localNumberOfBiddenItems = new int[maxNumberOfTasks];
+        this.highestBidArray = new int[numberOfItems];
+        Arrays.fill(highestBidArray, -1);
+    }
+
+    /**
+     * Selects the highest bid for each item, increases its price and assigns it to the highest
+     * bidder. Previous owners and bidders, which didn't win, are added to the queue.
+     *
+     * @param bidCollection          at most one bid per person
+     * @param assignment             mutable
+     * @param priceVector            mutable
+     * @param nonAssignedPersonQueue mutable
+     */
+    public void processBids(Collection<Bid> bidCollection,
+                            Assignment assignment,
+                            PriceVector priceVector,
+                            PersonQueue nonAssignedPersonQueue) {
+        final Bid[] bidArray = bidCollection.toArray(new Bid[0]);
+        final int numberOfBids = bidArray.length;
+        final int numberOfTasks = Math.max(1, Math.min(maxNumberOfTasks, numberOfBids / MIN_BIDS_PER_TASK));
+
+        //==================== Aggregation within chunks of bids
+        final List<Callable<Void>> aggregationTaskList = new ArrayList<>(numberOfTasks);
+        for (int task = 0; task < numberOfTasks; task++) {
+            final int taskIndex = task;
+            final int fromPosition = (int) ((long) numberOfBids * task / numberOfTasks);
+            final int toPosition = (int) ((long) numberOfBids * (task + 1) / numberOfTasks);
+            aggregationTaskList.add(() -> {
+                aggregateChunk(bidArray, taskIndex, fromPosition, toPosition);
+                return null;
+            });
+        }
+        execute(aggregationTaskList);
+
+        //==================== Reduction and assignment within partitions of items
+        final List<Callable<List<Person>>> assignmentTaskList = new ArrayList<>(numberOfTasks);
+        for (int task = 0; task < numberOfTasks; task++) {
+            final int fromItem = (int) ((long) numberOfItems * task / numberOfTasks);
+            final int toItem = (int) ((long) numberOfItems * (task + 1) / numberOfTasks);
+            assignmentTaskList.add(() -> reduceAndAssignPartition(bidArray, numberOfTasks, fromItem, toItem, assignment, priceVector));
+        }
+        for (List<Person> oldOwnerList : execute(assignmentTaskList)) {
+            oldOwnerList.forEach(nonAssignedPersonQueue::add);
+        }
+
+        //==================== Failed bids
+        for (int position = 0; position < numberOfBids; position++) {
+            final Bid bid = bidArray[position];
+            final int item = bid.getItem().getItemIndex();
+            if (highestBidArray[item] == position) {
+                // later bids for this item see -1 and fail as well
+                highestBidArray[item] = -1;
+            } else {
+                nonAssignedPersonQueue.add(bid.getPerson());
+            }
+        }
+    }
+
+    private void aggregateChunk(Bid[] bidArray, int taskIndex, int fromPosition, int toPosition) {
+        final int[] localHighestBidArray = localHighestBidArrays[taskIndex];
+        final int[] localBiddenItemArray = localBiddenItemArrays[taskIndex];
+        int numberOfBiddenItems = 0;
+        for (int position = fromPosition; position < toPosition; position++) {
+            final int item = bidArray[position].getItem().getItemIndex();
+            final int highestBid = localHighestBidArray[item];
+            if (highestBid == -1) {
+                localHighestBidArray[item] = position;
+                localBiddenItemArray[numberOfBiddenItems++] = item;
+            } else if (bidArray[position].getBidValue() > bidArray[highestBid].getBidValue()) {
+                localHighestBidArray[item] = position;
+            }
+        }
+        localNumberOfBiddenItems[taskIndex] = numberOfBiddenItems;
+    }
+
+    /**
+     * @return old owners of the items, which were reassigned
+     */
+    private List<Person> reduceAndAssignPartition(Bid[] bidArray,
+                                                  int numberOfAggregationTasks,
+                                                  int fromItem,
+                                                  int toItem,
+                                                  Assignment assignment,
+                                                  PriceVector priceVector) {
+        final List<Item> biddenItemList = new ArrayList<>();
+        // aggregation tasks are visited in order of their chunks, so the earliest of equal bids wins
+        for (int task = 0; task < numberOfAggregationTasks; task++) {
+            final int[] localHighestBidArray = localHighestBidArrays[task];
+            final int[] localBiddenItemArray = localBiddenItemArrays[task];
+            for (int i = 0; i < localNumberOfBiddenItems[task]; i++) {
+                final int item = localBiddenItemArray[i];
+                if (item < fromItem || item >= toItem) {
+                    continue;
+                }
+                final int localHighestBid = localHighestBidArray[item];
+                localHighestBidArray[item] = -1;
+                final int highestBid = highestBidArray[item];
+                if (highestBid == -1) {
+                    highestBidArray[item] = localHighestBid;
+                    biddenItemList.add(bidArray[localHighestBid].getItem());
+                } else if (bidArray[localHighestBid].getBidValue() > bidArray[highestBid].getBidValue()) {
+                    highestBidArray[item] = localHighestBid;
+                }
+            }
+        }
+
+        final List<Person> oldOwnerList = new ArrayList<>();
+        for (Item item : biddenItemList) {
+            final Bid highestBid = bidArray[highestBidArray[item.getItemIndex()]];
+            final Person oldOwner = assignment.getPersonForItem(item);
+            if (oldOwner != Person.NO_PERSON) {
+                oldOwnerList.add(oldOwner);
+            }
+            assignment.setPersonForItem(item, highestBid.getPerson());
+            priceVector.increasePrice(item, highestBid.getBidValue());
+        }
+        return oldOwnerList;
+    }
+
+    private <T> List<T> execute(List<Callable<T>> taskList) {
+        if (taskList.size() > 1) {
+            return executeCallableList(taskList, executorService);
+        }
+        try {
+            return Collections.singletonList(taskList.get(0).call());
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
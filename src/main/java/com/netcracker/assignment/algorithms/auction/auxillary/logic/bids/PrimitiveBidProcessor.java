@@ -0,0 +1,100 @@
+package com.netcracker.assignment.algorithms.auction.auxillary.logic.bids;
+
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.PrimitivePersonQueue;
+
+import java.util.Arrays;
+
+/**
+ * Primitive counterpart of {@link BidAggregator} and {@link BidProcessor}, used by
+ * synchronous (Jacobi-like) primitive implementations.
+ * <p>
+ * Bids of one round are stored in primitive arrays: bidder, item and value of each bid are
+ * stored at the same position. Bids can be written by several threads at once, as long as
+ * they write to disjoint positions. Highest bid for each item is selected using primitive
+ * array as well, and only items, which have received bids, are touched.
+ * <p>
+ * All arrays are created once (usually per epsilon scaling phase) and reused in every round.
+ */
+public class PrimitiveBidProcessor {
+
+    private final int[] bidderArray;
+    private final int[] bidItemArray;
+    private final double[] bidValueArray;
+
+    // for each item contains position of its highest bid (or -1, if there are no bids)
+    private final int[] highestBidArray;
+    private final int[] biddenItemArray;
+
+    public PrimitiveBidProcessor(int numberOfPersons, int numberOfItems) {
+        this.bidderArray = new int[numberOfPersons];
+        this.bidItemArray = new int[numberOfPersons];
+        this.bidValueArray = new double[numberOfPersons];
+        this.highestBidArray = new int[numberOfItems];
+        Arrays.fill(highestBidArray, -1);
+        this.biddenItemArray = new int[Math.min(numberOfPersons, numberOfItems)];
+    }
+
+    /**
+     * Moves all non assigned persons into the bidder array.
+     *
+     * @param nonAssignedPersonQueue
+     * @return number of bids in this round
+     */
+    public int collectBidders(PrimitivePersonQueue nonAssignedPersonQueue) {
+        return nonAssignedPersonQueue.drainTo(bidderArray);
+    }
+
+    public int getBidder(int position) {
+        return bidderArray[position];
+    }
+
+    public void setBid(int position, int item, double bidValue) {
+        bidItemArray[position] = item;
+        bidValueArray[position] = bidValue;
+    }
+
+    /**
+     * Selects the highest bid for each item, increases its price and assigns it to the highest
+     * bidder. Previous owners and bidders, which didn't win, are added to the queue.
+     *
+     * @param numberOfBids
+     * @param ownerArray             mutable, each element represents item and contains index of its owner
+     * @param priceArray             mutable
+     * @param nonAssignedPersonQueue mutable
+     */
+    public void processBids(int numberOfBids,
+                            int[] ownerArray,
+                            double[] priceArray,
+                            PrimitivePersonQueue nonAssignedPersonQueue) {
+        //==================== Bid aggregation
+        int numberOfBiddenItems = 0;
+        for (int position = 0; position < numberOfBids; position++) {
+            final int item = bidItemArray[position];
+            final int highestBid = highestBidArray[item];
+            if (highestBid == -1) {
+                highestBidArray[item] = position;
+                biddenItemArray[numberOfBiddenItems++] = item;
+            } else if (bidValueArray[position] > bidValueArray[highestBid]) {
+                highestBidArray[item] = position;
+            }
+        }
+
+        //==================== Bid processing and assignment
+        for (int position = 0; position < numberOfBids; position++) {
+            if (highestBidArray[bidItemArray[position]] != position) {
+                nonAssignedPersonQueue.add(bidderArray[position]);
+            }
+        }
+        for (int i = 0; i < numberOfBiddenItems; i++) {
+            final int item = biddenItemArray[i];
+            final int highestBid = highestBidArray[item];
+            final int oldOwner = ownerArray[item];
+            if (oldOwner != -1) {
+                nonAssignedPersonQueue.add(oldOwner);
+            }
+            ownerArray[item] = bidderArray[highestBid];
+            priceArray[item] += bidValueArray[highestBid];
+            highestBidArray[item] = -1;
+        }
+    }
+}
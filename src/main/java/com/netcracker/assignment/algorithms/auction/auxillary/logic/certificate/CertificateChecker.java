@@ -0,0 +1,165 @@
+package com.netcracker.assignment.algorithms.auction.auxillary.logic.certificate;
+
+import com.netcracker.assignment.algorithms.auction.AuctionResult;
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.Assignment;
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.BenefitMatrix;
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.PriceVector;
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.basic.OptimalityCertificate;
+import com.netcracker.assignment.utils.ConcurrentUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+
+import static com.netcracker.assignment.utils.ConcurrentUtils.executeCallableList;
+
+/**
+ * Checks an assignment against prices in a single pass over the benefit matrix,
+ * instead of solving the problem once more with another solver.
+ * <p>
+ * Profit of each person is max over items of (benefit - price). Profits and prices form a feasible
+ * dual solution, so by weak duality the dual value (sum of profits + sum of prices) is an upper
+ * bound on the total benefit of any assignment. When there are less persons than items, prices
+ * can be shifted down by any lambda (and profits up by the same lambda), as long as negative
+ * shifted prices are replaced by zero. The bound is then sum of profits + m * lambda +
+ * sum of max(price - lambda, 0), which is the smallest for lambda = m-th largest price.
+ * <p>
+ * In the same pass the slack of each person (profit - value of own item) is found: maximal slack
+ * is the smallest epsilon, for which epsilon-complementary slackness holds.
+ * <p>
+ * Sums are accumulated in double, so the certificate carries a bound on their rounding error:
+ * each of about (m + n) operations is off by at most one ulp of the largest partial sum.
+ * <p>
+ * Persons are split into chunks, which are checked in parallel.
+ */
+public class CertificateChecker {
+
+    private final static int MIN_PERSONS_PER_TASK = 64;
+
+    public static OptimalityCertificate check(AuctionResult result) {
+        return check(result.getBenefitMatrix(), result.getAssignment(), result.getPriceVector());
+    }
+
+    public static OptimalityCertificate check(BenefitMatrix benefitMatrix, Assignment assignment, PriceVector priceVector) {
+        return check(benefitMatrix, assignment.getPersonAssignment(), priceVector);
+    }
+
+    public static OptimalityCertificate check(BenefitMatrix benefitMatrix, int[] assignment, PriceVector priceVector) {
+        return check(benefitMatrix, assignment, priceVector, ConcurrentUtils.getDefaultExecutorService());
+    }
+
+    /**
+     * @param benefitMatrix
+     * @param assignment      item for each person, must not contain duplicates
+     * @param priceVector     any prices (certificate is valid for any, but tight only for the final ones)
+     * @param executorService owned by the caller, never shut down here
+     * @return
+     */
+    public static OptimalityCertificate check(BenefitMatrix benefitMatrix,
+                                              int[] assignment,
+                                              PriceVector priceVector,
+                                              ExecutorService executorService) {
+        final int numberOfPersons = benefitMatrix.getNumberOfPersons();
+        final int numberOfItems = benefitMatrix.getNumberOfItems();
+        final double[] priceArray = priceVector.getPriceArray();
+        checkAssignment(assignment, numberOfPersons, numberOfItems);
+        if (priceArray.length != numberOfItems) {
+            throw new IllegalArgumentException(String.format(
+                    "There are %d prices, but %d items", priceArray.length, numberOfItems));
+        }
+
+        final double lambda = findShift(priceArray, numberOfPersons);
+        double totalShiftedPrice = 0.0;
+        double maxAbsPrice = 0.0;
+        for (double price : priceArray) {
+            totalShiftedPrice += Math.max(price - lambda, 0.0);
+            maxAbsPrice = Math.max(maxAbsPrice, Math.abs(price));
+        }
+
+        final int numberOfTasks = Math.max(1, Math.min(
+                Runtime.getRuntime().availableProcessors(), numberOfPersons / MIN_PERSONS_PER_TASK));
+        final List<ChunkResult> chunkResultList;
+        if (numberOfTasks == 1) {
+            chunkResultList = Collections.singletonList(checkChunk(benefitMatrix, assignment, priceArray, 0, numberOfPersons));
+        } else {
+            final List<Callable<ChunkResult>> taskList = new ArrayList<>(numberOfTasks);
+            for (int task = 0; task < numberOfTasks; task++) {
+                final int fromPerson = (int) ((long) numberOfPersons * task / numberOfTasks);
+                final int toPerson = (int) ((long) numberOfPersons * (task + 1) / numberOfTasks);
+                taskList.add(() -> checkChunk(benefitMatrix, assignment, priceArray, fromPerson, toPerson));
+            }
+            chunkResultList = executeCallableList(taskList, executorService);
+        }
+
+        long primalValue = 0;
+        double totalProfit = 0.0;
+        double maxSlack = 0.0;
+        double maxAbsProfit = 0.0;
+        for (ChunkResult chunkResult : chunkResultList) {
+            primalValue += chunkResult.primalValue;
+            totalProfit += chunkResult.totalProfit;
+            maxSlack = Math.max(maxSlack, chunkResult.maxSlack);
+            maxAbsProfit = Math.max(maxAbsProfit, chunkResult.maxAbsProfit);
+        }
+        final double dualValue = totalProfit + totalShiftedPrice + lambda * numberOfPersons;
+        final double numberOfOperations = 2.0 * (numberOfPersons + numberOfItems);
+        final double tolerance = numberOfOperations * Math.ulp(numberOfOperations * Math.max(maxAbsPrice, maxAbsProfit));
+        return new OptimalityCertificate(primalValue, dualValue, maxSlack, tolerance);
+    }
+
+    /**
+     * @return m-th largest price (for square problems it's the minimal one, and any shift
+     * not above it gives the same bound)
+     */
+    private static double findShift(double[] priceArray, int numberOfPersons) {
+        final double[] sortedPriceArray = priceArray.clone();
+        Arrays.sort(sortedPriceArray);
+        return sortedPriceArray[priceArray.length - numberOfPersons];
+    }
+
+    private static ChunkResult checkChunk(BenefitMatrix benefitMatrix,
+                                          int[] assignment,
+                                          double[] priceArray,
+                                          int fromPerson,
+                                          int toPerson) {
+        final ChunkResult chunkResult = new ChunkResult();
+        for (int person = fromPerson; person < toPerson; person++) {
+            double profit = Double.NEGATIVE_INFINITY;
+            for (int item = 0; item < priceArray.length; item++) {
+                profit = Math.max(profit, benefitMatrix.getBenefit(person, item) - priceArray[item]);
+            }
+            final int ownItem = assignment[person];
+            final int ownBenefit = benefitMatrix.getBenefit(person, ownItem);
+            chunkResult.primalValue += ownBenefit;
+            chunkResult.totalProfit += profit;
+            chunkResult.maxAbsProfit = Math.max(chunkResult.maxAbsProfit, Math.abs(profit));
+            chunkResult.maxSlack = Math.max(chunkResult.maxSlack, profit - (ownBenefit - priceArray[ownItem]));
+        }
+        return chunkResult;
+    }
+
+    private static void checkAssignment(int[] assignment, int numberOfPersons, int numberOfItems) {
+        if (assignment.length != numberOfPersons) {
+            throw new IllegalArgumentException(String.format(
+                    "Assignment has %d persons, but benefit matrix has %d", assignment.length, numberOfPersons));
+        }
+        final boolean[] taken = new boolean[numberOfItems];
+        for (int person = 0; person < numberOfPersons; person++) {
+            final int item = assignment[person];
+            if (item < 0 || item >= numberOfItems || taken[item]) {
+                throw new IllegalArgumentException("Invalid or duplicate item " + item + " of person " + person);
+            }
+            taken[item] = true;
+        }
+    }
+
+    private static class ChunkResult {
+        private long primalValue;
+        private double totalProfit;
+        private double maxSlack;
+        private double maxAbsProfit;
+    }
+}
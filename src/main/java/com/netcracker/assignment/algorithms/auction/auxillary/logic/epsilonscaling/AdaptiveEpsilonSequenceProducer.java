@@ -0,0 +1,112 @@
+package com.netcracker.assignment.algorithms.auction.auxillary.logic.epsilonscaling;
+
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.BenefitMatrix;
+
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.OptionalDouble;
+
+/**
+ * Epsilon sequence producer, which adapts to the problem and to the course of the auction.
+ * <p>
+ * Initial epsilon is a fraction of the range of benefits (max - min): with fixed initial epsilon
+ * the first phase of a problem with benefits in millions takes about range / epsilon bids per person.
+ * <p>
+ * Each next epsilon is the previous one multiplied by a factor, which depends on the cost
+ * of the previous phase (estimated number of bids per person, see {@link PhaseStatistics}):
+ * - cheap phase (at most CHEAP_BIDS_PER_PERSON bids per person) means that prices are already close
+ * to the final ones, so epsilon is reduced by the minimal multiplier (the most aggressive one);
+ * - expensive phase (at least EXPENSIVE_BIDS_PER_PERSON) is followed by the maximal multiplier,
+ * so the next phase doesn't have to do too much work at once;
+ * - in between the multiplier is interpolated (on logarithmic scale).
+ * <p>
+ * Sequence always ends with epsilon = 1 / (number of persons + 1), so the assignment is optimal
+ * for integer benefits.
+ */
+public class AdaptiveEpsilonSequenceProducer implements EpsilonSequenceProducer {
+
+    public final static double DEFAULT_INITIAL_FRACTION = 0.2;
+    public final static double DEFAULT_MIN_MULTIPLIER = 0.1;
+    public final static double DEFAULT_MAX_MULTIPLIER = 0.5;
+
+    private final static double CHEAP_BIDS_PER_PERSON = 2.0;
+    private final static double EXPENSIVE_BIDS_PER_PERSON = 20.0;
+
+    private final double initialFraction;
+    private final double minMultiplier;
+    private final double maxMultiplier;
+
+    public AdaptiveEpsilonSequenceProducer() {
+        this(DEFAULT_INITIAL_FRACTION, DEFAULT_MIN_MULTIPLIER, DEFAULT_MAX_MULTIPLIER);
+    }
+
+    /**
+     * @param initialFraction initial epsilon as a fraction of the range of benefits
+     * @param minMultiplier   multiplier after the cheapest phases
+     * @param maxMultiplier   multiplier after the most expensive phases
+     */
+    public AdaptiveEpsilonSequenceProducer(double initialFraction, double minMultiplier, double maxMultiplier) {
+        if (initialFraction <= 0.0 || minMultiplier <= 0.0 || maxMultiplier >= 1.0 || minMultiplier > maxMultiplier) {
+            throw new IllegalArgumentException(String.format(
+                    "Invalid parameters: initial fraction %s, multipliers [%s, %s]", initialFraction, minMultiplier, maxMultiplier));
+        }
+        this.initialFraction = initialFraction;
+        this.minMultiplier = minMultiplier;
+        this.maxMultiplier = maxMultiplier;
+    }
+
+    /**
+     * Without benefit matrix (for example, in sparse algorithm) neither the range nor statistics
+     * are known, so it's a geometric sequence from 1.0 with the maximal multiplier.
+     */
+    @Override
+    public List<Double> getEpsilonSequence(int problemSize) {
+        final double finalEpsilon = getFinalEpsilon(problemSize);
+        final List<Double> epsilonSequence = new LinkedList<>();
+        for (double epsilon = 1.0; epsilon > finalEpsilon; epsilon *= maxMultiplier) {
+            epsilonSequence.add(epsilon);
+        }
+        epsilonSequence.add(finalEpsilon);
+        return Collections.unmodifiableList(epsilonSequence);
+    }
+
+    @Override
+    public EpsilonSequence createEpsilonSequence(BenefitMatrix benefitMatrix) {
+        final double finalEpsilon = getFinalEpsilon(benefitMatrix.getNumberOfPersons());
+        final double initialEpsilon = Math.max(finalEpsilon, initialFraction * benefitMatrix.findBenefitRange());
+        return new EpsilonSequence() {
+
+            private boolean finished = false;
+
+            @Override
+            public OptionalDouble next(PhaseStatistics previousPhase) {
+                if (finished) {
+                    return OptionalDouble.empty();
+                }
+                final double epsilon = previousPhase == null
+                        ? initialEpsilon
+                        : Math.max(finalEpsilon, previousPhase.getEpsilon() * chooseMultiplier(previousPhase));
+                finished = epsilon <= finalEpsilon;
+                return OptionalDouble.of(epsilon);
+            }
+        };
+    }
+
+    double chooseMultiplier(PhaseStatistics previousPhase) {
+        final double bidsPerPerson = previousPhase.getBidsPerPerson();
+        if (bidsPerPerson <= CHEAP_BIDS_PER_PERSON) {
+            return minMultiplier;
+        }
+        if (bidsPerPerson >= EXPENSIVE_BIDS_PER_PERSON) {
+            return maxMultiplier;
+        }
+        final double position = Math.log(bidsPerPerson / CHEAP_BIDS_PER_PERSON)
+                / Math.log(EXPENSIVE_BIDS_PER_PERSON / CHEAP_BIDS_PER_PERSON);
+        return minMultiplier * Math.pow(maxMultiplier / minMultiplier, position);
+    }
+
+    private static double getFinalEpsilon(int numberOfPersons) {
+        return 1.0 / (numberOfPersons + 1);
+    }
+}
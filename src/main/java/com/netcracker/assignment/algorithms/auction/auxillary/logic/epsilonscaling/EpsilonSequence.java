@@ -0,0 +1,59 @@
+package com.netcracker.assignment.algorithms.auction.auxillary.logic.epsilonscaling;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.OptionalDouble;
+
+/**
+ * Epsilon sequence, which is produced lazily, one epsilon per phase, so the next epsilon
+ * can depend on what happened during the previous phase.
+ * <p>
+ * Not thread-safe, a new sequence is created for each solve.
+ */
+@FunctionalInterface
+public interface EpsilonSequence {
+
+    /**
+     * @param previousPhase statistics of the previous phase, null before the first one
+     * @return epsilon for the next phase, empty if there are no more phases
+     */
+    OptionalDouble next(PhaseStatistics previousPhase);
+
+    /**
+     * Sequence, which is fixed in advance and ignores statistics.
+     */
+    static EpsilonSequence fromList(List<Double> epsilonList) {
+        final Iterator<Double> iterator = epsilonList.iterator();
+        return previousPhase -> iterator.hasNext()
+                ? OptionalDouble.of(iterator.next())
+                : OptionalDouble.empty();
+    }
+
+    /**
+     * Skips the beginning of the cold sequence, which is coarser than the starting epsilon
+     * (see warm start in AuctionAlgorithm). Starting epsilon itself is capped by the first
+     * epsilon of the cold sequence.
+     */
+    static EpsilonSequence startingFrom(EpsilonSequence coldSequence, double startingEpsilon) {
+        return new EpsilonSequence() {
+
+            private double firstEpsilon = Double.NaN;
+
+            @Override
+            public OptionalDouble next(PhaseStatistics previousPhase) {
+                if (Double.isNaN(firstEpsilon)) {
+                    final OptionalDouble coldFirst = coldSequence.next(null);
+                    firstEpsilon = coldFirst.isPresent()
+                            ? Math.min(startingEpsilon, coldFirst.getAsDouble())
+                            : startingEpsilon;
+                    return OptionalDouble.of(firstEpsilon);
+                }
+                OptionalDouble epsilon = coldSequence.next(previousPhase);
+                while (epsilon.isPresent() && epsilon.getAsDouble() >= firstEpsilon) {
+                    epsilon = coldSequence.next(previousPhase);
+                }
+                return epsilon;
+            }
+        };
+    }
+}
@@ -1,5 +1,7 @@
 package com.netcracker.assignment.algorithms.auction.auxillary.logic.epsilonscaling;
 
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.BenefitMatrix;
+
 import java.util.List;
 
 /**
@@ -10,7 +12,19 @@ import java.util.List;
  * transportation problem).
  * - The same problem solver can use different EpsilonSequenceProducer implementations (for example, which
  * produces exponentially instead of geometrically).
+ * <p>
+ * Producers, which need to see the benefits or the course of the auction, override
+ * createEpsilonSequence(BenefitMatrix) (see {@link AdaptiveEpsilonSequenceProducer}).
  */
 public interface EpsilonSequenceProducer {
+
     List<Double> getEpsilonSequence(int problemSize);
+
+    /**
+     * @param benefitMatrix problem, which is about to be solved
+     * @return lazy sequence, by default the one, which depends only on the number of persons
+     */
+    default EpsilonSequence createEpsilonSequence(BenefitMatrix benefitMatrix) {
+        return EpsilonSequence.fromList(getEpsilonSequence(benefitMatrix.getNumberOfPersons()));
+    }
 }
@@ -0,0 +1,92 @@
+package com.netcracker.assignment.algorithms.auction.auxillary.logic.epsilonscaling;
+
+/**
+ * What was observed during a single epsilon scaling phase.
+ * <p>
+ * Implementations don't report their bids (asynchronous ones don't even have rounds), so the cost
+ * of the phase is estimated from the growth of prices: every bid raises the price by at least epsilon,
+ * so total price increase divided by epsilon is an upper bound on the number of bids.
+ */
+public class PhaseStatistics {
+
+    private final int phaseIndex;
+    private final double epsilon;
+    private final int numberOfPersons;
+    private final long durationNanos;
+    private final double totalPriceIncrease;
+    private final double maxPriceIncrease;
+
+    public static PhaseStatistics create(int phaseIndex,
+                                         double epsilon,
+                                         int numberOfPersons,
+                                         long durationNanos,
+                                         double[] pricesBefore,
+                                         double[] pricesAfter) {
+        double totalPriceIncrease = 0.0;
+        double maxPriceIncrease = 0.0;
+        for (int item = 0; item < pricesAfter.length; item++) {
+            // prices can also decrease (reverse stage of asymmetric auction), which costs no bids
+            final double increase = Math.max(0.0, pricesAfter[item] - pricesBefore[item]);
+            totalPriceIncrease += increase;
+            maxPriceIncrease = Math.max(maxPriceIncrease, increase);
+        }
+        return new PhaseStatistics(phaseIndex, epsilon, numberOfPersons, durationNanos, totalPriceIncrease, maxPriceIncrease);
+    }
+
+    private PhaseStatistics(int phaseIndex,
+                            double epsilon,
+                            int numberOfPersons,
+                            long durationNanos,
+                            double totalPriceIncrease,
+                            double maxPriceIncrease) {
+        this.phaseIndex = phaseIndex;
+        this.epsilon = epsilon;
+        this.numberOfPersons = numberOfPersons;
+        this.durationNanos = durationNanos;
+        this.totalPriceIncrease = totalPriceIncrease;
+        this.maxPriceIncrease = maxPriceIncrease;
+    }
+
+    public int getPhaseIndex() {
+        return phaseIndex;
+    }
+
+    public double getEpsilon() {
+        return epsilon;
+    }
+
+    public int getNumberOfPersons() {
+        return numberOfPersons;
+    }
+
+    public long getDurationNanos() {
+        return durationNanos;
+    }
+
+    public double getTotalPriceIncrease() {
+        return totalPriceIncrease;
+    }
+
+    public double getMaxPriceIncrease() {
+        return maxPriceIncrease;
+    }
+
+    /**
+     * @return upper bound on the number of bids per person
+     */
+    public double getBidsPerPerson() {
+        return numberOfPersons == 0 ? 0.0 : totalPriceIncrease / epsilon / numberOfPersons;
+    }
+
+    @Override
+    public String toString() {
+        return "PhaseStatistics{" +
+                "phaseIndex=" + phaseIndex +
+                ", epsilon=" + epsilon +
+                ", durationNanos=" + durationNanos +
+                ", totalPriceIncrease=" + totalPriceIncrease +
+                ", maxPriceIncrease=" + maxPriceIncrease +
+                ", bidsPerPerson=" + getBidsPerPerson() +
+                '}';
+    }
+}
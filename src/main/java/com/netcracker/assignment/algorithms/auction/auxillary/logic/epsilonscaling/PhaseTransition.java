@@ -0,0 +1,72 @@
+package com.netcracker.assignment.algorithms.auction.auxillary.logic.epsilonscaling;
+
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.Assignment;
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.BenefitMatrix;
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.PriceVector;
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.basic.MutableSearchResult;
+import com.netcracker.assignment.algorithms.auction.auxillary.logic.search.PrimitiveSearch;
+
+/**
+ * Selects what is left of the previous assignment, when the next epsilon scaling phase starts.
+ */
+public enum PhaseTransition {
+
+    /**
+     * Every phase starts from the empty assignment, so all persons bid again.
+     */
+    REASSIGN_ALL {
+        @Override
+        public Assignment createStartingAssignment(BenefitMatrix benefitMatrix,
+                                                   PriceVector priceVector,
+                                                   Assignment previousAssignment,
+                                                   double epsilon) {
+            return Assignment.createInitialAssignment(benefitMatrix.getNumberOfPersons(), benefitMatrix.getNumberOfItems());
+        }
+    },
+
+    /**
+     * Persons, whose items are still within the new epsilon of their best value, keep them.
+     * <p>
+     * Prices only grow during the phase, and value of own item doesn't change until the person is evicted,
+     * so kept persons stay epsilon-happy, and the result is the same as if they bid first.
+     * Usually most persons are happy, so the phase makes a few bids instead of re-auctioning everyone.
+     * The check itself is a single pass over the matrix.
+     */
+    KEEP_HAPPY_PERSONS {
+        @Override
+        public Assignment createStartingAssignment(BenefitMatrix benefitMatrix,
+                                                   PriceVector priceVector,
+                                                   Assignment previousAssignment,
+                                                   double epsilon) {
+            if (previousAssignment == null) {
+                return REASSIGN_ALL.createStartingAssignment(benefitMatrix, priceVector, null, epsilon);
+            }
+            final int numberOfItems = benefitMatrix.getNumberOfItems();
+            final double[] priceArray = priceVector.getPriceArray();
+            final int[] ownerArray = previousAssignment.getOwnerArray();
+            final MutableSearchResult result = new MutableSearchResult();
+            for (int item = 0; item < numberOfItems; item++) {
+                final int owner = ownerArray[item];
+                if (owner != -1) {
+                    PrimitiveSearch.searchRange(benefitMatrix, owner, priceArray, 0, numberOfItems, result);
+                    if (benefitMatrix.getBenefit(owner, item) - priceArray[item] < result.getBestValue() - epsilon) {
+                        ownerArray[item] = -1;
+                    }
+                }
+            }
+            return Assignment.createFromOwnerArray(ownerArray, benefitMatrix.getNumberOfPersons());
+        }
+    };
+
+    /**
+     * @param benefitMatrix      immutable
+     * @param priceVector        immutable, prices at the end of the previous phase
+     * @param previousAssignment immutable, result of the previous phase (null before the first one)
+     * @param epsilon            epsilon of the next phase
+     * @return new (possibly partial) assignment, where every assigned person is epsilon-happy
+     */
+    public abstract Assignment createStartingAssignment(BenefitMatrix benefitMatrix,
+                                                        PriceVector priceVector,
+                                                        Assignment previousAssignment,
+                                                        double epsilon);
+}
@@ -0,0 +1,126 @@
+package com.netcracker.assignment.algorithms.auction.auxillary.logic.feasibility;
+
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.SparseBenefitMatrix;
+
+import java.util.Arrays;
+
+/**
+ * Finds maximum cardinality matching between persons and items using only admissible pairs
+ * (Hopcroft-Karp algorithm, O(E * sqrt(V))), ignoring benefits.
+ * <p>
+ * Auction algorithm never terminates for infeasible problems (prices of contested items grow
+ * forever), so feasibility has to be checked before the auction starts.
+ */
+public class MaximumMatchingFinder {
+
+    private static final int INFINITY = Integer.MAX_VALUE;
+
+    public static boolean hasPerfectMatching(SparseBenefitMatrix benefitMatrix) {
+        final int numberOfPersons = benefitMatrix.getNumberOfPersons();
+        return numberOfPersons <= benefitMatrix.getNumberOfItems()
+                && findMaximumMatchingSize(benefitMatrix) == numberOfPersons;
+    }
+
+    public static int findMaximumMatchingSize(SparseBenefitMatrix benefitMatrix) {
+        final int numberOfPersons = benefitMatrix.getNumberOfPersons();
+        final int[] columnIndices = benefitMatrix.getColumnIndices();
+
+        final int[] personItemArray = new int[numberOfPersons];
+        Arrays.fill(personItemArray, -1);
+        final int[] ownerArray = new int[benefitMatrix.getNumberOfItems()];
+        Arrays.fill(ownerArray, -1);
+
+        final int[] distanceArray = new int[numberOfPersons];
+        final int[] queue = new int[numberOfPersons];
+        final int[] stack = new int[numberOfPersons];
+        final int[] nextEntryArray = new int[numberOfPersons];
+
+        int matchingSize = 0;
+        while (true) {
+            //==================== BFS: layers of alternating paths from free persons
+            int queueHead = 0;
+            int queueTail = 0;
+            for (int person = 0; person < numberOfPersons; person++) {
+                if (personItemArray[person] == -1) {
+                    distanceArray[person] = 0;
+                    queue[queueTail++] = person;
+                } else {
+                    distanceArray[person] = INFINITY;
+                }
+            }
+            boolean freeItemReached = false;
+            while (queueHead < queueTail) {
+                final int person = queue[queueHead++];
+                for (int position = benefitMatrix.getRowStart(person); position < benefitMatrix.getRowEnd(person); position++) {
+                    final int owner = ownerArray[columnIndices[position]];
+                    if (owner == -1) {
+                        freeItemReached = true;
+                    } else if (distanceArray[owner] == INFINITY) {
+                        distanceArray[owner] = distanceArray[person] + 1;
+                        queue[queueTail++] = owner;
+                    }
+                }
+            }
+            if (!freeItemReached) {
+                return matchingSize;
+            }
+
+            //==================== DFS: vertex-disjoint shortest augmenting paths
+            for (int person = 0; person < numberOfPersons; person++) {
+                nextEntryArray[person] = benefitMatrix.getRowStart(person);
+            }
+            for (int root = 0; root < numberOfPersons; root++) {
+                if (personItemArray[root] == -1
+                        && augment(benefitMatrix, root, personItemArray, ownerArray, distanceArray, stack, nextEntryArray)) {
+                    matchingSize++;
+                }
+            }
+        }
+    }
+
+    /**
+     * Iterative depth-first search for augmenting path, which follows BFS layers.
+     */
+    private static boolean augment(SparseBenefitMatrix benefitMatrix,
+                                   int root,
+                                   int[] personItemArray,
+                                   int[] ownerArray,
+                                   int[] distanceArray,
+                                   int[] stack,
+                                   int[] nextEntryArray) {
+        final int[] columnIndices = benefitMatrix.getColumnIndices();
+        int stackSize = 0;
+        stack[stackSize++] = root;
+        while (stackSize > 0) {
+            final int person = stack[stackSize - 1];
+            if (nextEntryArray[person] == benefitMatrix.getRowEnd(person)) {
+                // dead end, never visit this person again during current iteration
+                distanceArray[person] = INFINITY;
+                stackSize--;
+                if (stackSize > 0) {
+                    nextEntryArray[stack[stackSize - 1]]++;
+                }
+                continue;
+            }
+            final int owner = ownerArray[columnIndices[nextEntryArray[person]]];
+            if (owner == -1) {
+                // each person on the stack takes the item of its current entry
+                for (int i = 0; i < stackSize; i++) {
+                    final int pathPerson = stack[i];
+                    final int item = columnIndices[nextEntryArray[pathPerson]];
+                    personItemArray[pathPerson] = item;
+                    ownerArray[item] = pathPerson;
+                }
+                return true;
+            } else if (distanceArray[owner] == distanceArray[person] + 1) {
+                stack[stackSize++] = owner;
+            } else {
+                nextEntryArray[person]++;
+            }
+        }
+        return false;
+    }
+
+    private MaximumMatchingFinder() {
+    }
+}
@@ -0,0 +1,49 @@
+package com.netcracker.assignment.algorithms.auction.auxillary.logic.search;
+
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.BenefitMatrix;
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.CandidateLists;
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.basic.MutableSearchResult;
+
+/**
+ * Search for the best and second best items among candidates of the person (see CandidateLists),
+ * which takes O(k) instead of O(n).
+ * <p>
+ * Value of any item outside of candidates is not greater than (k-th benefit - minimal price).
+ * If the second best value among candidates is not less than that bound, both the best and the second
+ * best values are exact. Otherwise the caller has to scan the full row.
+ */
+public class CandidateSearch {
+
+    /**
+     * @param benefitMatrix immutable
+     * @param candidateLists candidates for the same matrix
+     * @param person        index of the person
+     * @param priceArray    current prices of items
+     * @param minPrice      lower bound on every price
+     * @param result        reused holder for the result, overwritten by this method
+     * @return true, if the result is exact, false, if the full row must be scanned
+     */
+    public static boolean search(BenefitMatrix benefitMatrix,
+                                 CandidateLists candidateLists,
+                                 int person,
+                                 double[] priceArray,
+                                 double minPrice,
+                                 MutableSearchResult result) {
+        int bestItem = -1;
+        double bestValue = Double.NEGATIVE_INFINITY;
+        double secondBestValue = Double.NEGATIVE_INFINITY;
+        for (int index = 0; index < candidateLists.getNumberOfCandidates(); index++) {
+            final int item = candidateLists.getCandidate(person, index);
+            final double value = benefitMatrix.getBenefit(person, item) - priceArray[item];
+            if (value > bestValue) {
+                secondBestValue = bestValue;
+                bestValue = value;
+                bestItem = item;
+            } else if (value > secondBestValue) {
+                secondBestValue = value;
+            }
+        }
+        result.set(bestItem, bestValue, secondBestValue);
+        return candidateLists.isComplete() || secondBestValue >= candidateLists.getKthBenefit(person) - minPrice;
+    }
+}
@@ -0,0 +1,100 @@
+package com.netcracker.assignment.algorithms.auction.auxillary.logic.search;
+
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.BenefitMatrix;
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.basic.MutableSearchResult;
+
+/**
+ * Lane-parallel version of {@link PrimitiveSearch}.
+ * <p>
+ * Items are distributed between four independent lanes (item j goes to lane j % 4 within
+ * each row segment), and each lane keeps its own best item, best value and second best value.
+ * Lanes are merged only once, at the end of the scan.
+ * <p>
+ * Scalar search has a single chain of dependent compares, so each element has to wait for the
+ * previous one. Here four chains are independent, so CPU can process four elements at once.
+ * Plain Java is used instead of the incubating Vector API, so it runs on Java 8.
+ */
+public class MultiLaneSearch {
+
+    private static final int NUMBER_OF_LANES = 4;
+
+    /**
+     * Same contract as {@link PrimitiveSearch#searchRange}.
+     */
+    public static void searchRange(BenefitMatrix benefitMatrix,
+                                   int person,
+                                   double[] priceArray,
+                                   int fromIndex,
+                                   int toIndex,
+                                   MutableSearchResult result) {
+        final int[] storage = benefitMatrix.getStorage();
+
+        int bestItem0 = -1, bestItem1 = -1, bestItem2 = -1, bestItem3 = -1;
+        double best0 = Double.NEGATIVE_INFINITY, best1 = Double.NEGATIVE_INFINITY,
+                best2 = Double.NEGATIVE_INFINITY, best3 = Double.NEGATIVE_INFINITY;
+        double second0 = Double.NEGATIVE_INFINITY, second1 = Double.NEGATIVE_INFINITY,
+                second2 = Double.NEGATIVE_INFINITY, second3 = Double.NEGATIVE_INFINITY;
+
+        int item = fromIndex;
+        while (item < toIndex) {
+            final int segmentEnd = Math.min(toIndex, benefitMatrix.getSegmentEnd(item));
+            final int shift = benefitMatrix.getOffset(person, item) - item;
+
+            for (; item + NUMBER_OF_LANES <= segmentEnd; item += NUMBER_OF_LANES) {
+                final double value0 = storage[shift + item] - priceArray[item];
+                final double value1 = storage[shift + item + 1] - priceArray[item + 1];
+                final double value2 = storage[shift + item + 2] - priceArray[item + 2];
+                final double value3 = storage[shift + item + 3] - priceArray[item + 3];
+
+                if (value0 > best0) {
+                    second0 = best0;
+                    best0 = value0;
+                    bestItem0 = item;
+                } else if (value0 > second0) {
+                    second0 = value0;
+                }
+                if (value1 > best1) {
+                    second1 = best1;
+                    best1 = value1;
+                    bestItem1 = item + 1;
+                } else if (value1 > second1) {
+                    second1 = value1;
+                }
+                if (value2 > best2) {
+                    second2 = best2;
+                    best2 = value2;
+                    bestItem2 = item + 2;
+                } else if (value2 > second2) {
+                    second2 = value2;
+                }
+                if (value3 > best3) {
+                    second3 = best3;
+                    best3 = value3;
+                    bestItem3 = item + 3;
+                } else if (value3 > second3) {
+                    second3 = value3;
+                }
+            }
+
+            // tail of the segment goes to the first lane
+            for (; item < segmentEnd; item++) {
+                final double value = storage[shift + item] - priceArray[item];
+                if (value > best0) {
+                    second0 = best0;
+                    best0 = value;
+                    bestItem0 = item;
+                } else if (value > second0) {
+                    second0 = value;
+                }
+            }
+        }
+
+        result.set(bestItem0, best0, second0);
+        result.merge(bestItem1, best1, second1);
+        result.merge(bestItem2, best2, second2);
+        result.merge(bestItem3, best3, second3);
+    }
+
+    private MultiLaneSearch() {
+    }
+}
@@ -0,0 +1,58 @@
+package com.netcracker.assignment.algorithms.auction.auxillary.logic.search;
+
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.BenefitMatrix;
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.basic.MutableSearchResult;
+
+/**
+ * Allocation-free search for the best and second best items, working directly on
+ * primitive arrays of benefits and prices.
+ * <p>
+ * It is the primitive counterpart of {@link com.netcracker.assignment.algorithms.auction.auxillary.entities.tasks.SearchTask}.
+ */
+public class PrimitiveSearch {
+
+    /**
+     * Finds the best and the second best values of (benefit - price) among items
+     * within the specified range and stores them into result.
+     * <p>
+     * The row is scanned linearly, segment by segment, using the layout of the benefit matrix.
+     *
+     * @param benefitMatrix immutable
+     * @param person        index of the person
+     * @param priceArray    current prices of items
+     * @param fromIndex     first item of the range, inclusive
+     * @param toIndex       last item of the range, exclusive
+     * @param result        reused holder for the result, overwritten by this method
+     */
+    public static void searchRange(BenefitMatrix benefitMatrix,
+                                   int person,
+                                   double[] priceArray,
+                                   int fromIndex,
+                                   int toIndex,
+                                   MutableSearchResult result) {
+        final int[] storage = benefitMatrix.getStorage();
+        int bestItem = -1;
+        double bestValue = Double.NEGATIVE_INFINITY;
+        double secondBestValue = Double.NEGATIVE_INFINITY;
+        int item = fromIndex;
+        while (item < toIndex) {
+            final int segmentEnd = Math.min(toIndex, benefitMatrix.getSegmentEnd(item));
+            // position of item's benefit within the storage is (shift + item)
+            final int shift = benefitMatrix.getOffset(person, item) - item;
+            for (; item < segmentEnd; item++) {
+                final double value = storage[shift + item] - priceArray[item];
+                if (value > bestValue) {
+                    secondBestValue = bestValue;
+                    bestValue = value;
+                    bestItem = item;
+                } else if (value > secondBestValue) {
+                    secondBestValue = value;
+                }
+            }
+        }
+        result.set(bestItem, bestValue, secondBestValue);
+    }
+
+    private PrimitiveSearch() {
+    }
+}
@@ -0,0 +1,48 @@
+package com.netcracker.assignment.algorithms.auction.auxillary.logic.search;
+
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.BenefitMatrix;
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.basic.MutableSearchResult;
+
+/**
+ * Selects the implementation of the search for the best and second best items,
+ * which is used by primitive auction implementations.
+ */
+public enum SearchKernel {
+
+    /**
+     * Plain scan, see {@link PrimitiveSearch}.
+     */
+    SCALAR {
+        @Override
+        public void searchRange(BenefitMatrix benefitMatrix,
+                                int person,
+                                double[] priceArray,
+                                int fromIndex,
+                                int toIndex,
+                                MutableSearchResult result) {
+            PrimitiveSearch.searchRange(benefitMatrix, person, priceArray, fromIndex, toIndex, result);
+        }
+    },
+
+    /**
+     * Scan with several independent lanes, see {@link MultiLaneSearch}.
+     */
+    MULTI_LANE {
+        @Override
+        public void searchRange(BenefitMatrix benefitMatrix,
+                                int person,
+                                double[] priceArray,
+                                int fromIndex,
+                                int toIndex,
+                                MutableSearchResult result) {
+            MultiLaneSearch.searchRange(benefitMatrix, person, priceArray, fromIndex, toIndex, result);
+        }
+    };
+
+    public abstract void searchRange(BenefitMatrix benefitMatrix,
+                                     int person,
+                                     double[] priceArray,
+                                     int fromIndex,
+                                     int toIndex,
+                                     MutableSearchResult result);
+}
@@ -0,0 +1,46 @@
+package com.netcracker.assignment.algorithms.auction.auxillary.logic.search;
+
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.SparseBenefitMatrix;
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.basic.MutableSearchResult;
+
+/**
+ * Sparse counterpart of {@link PrimitiveSearch}: scans only admissible items of the person.
+ */
+public class SparseSearch {
+
+    /**
+     * Finds the best and the second best values of (benefit - price) among admissible
+     * items of the person and stores them into result.
+     *
+     * @param benefitMatrix immutable
+     * @param person        index of the person
+     * @param priceArray    current prices of items
+     * @param result        reused holder for the result, overwritten by this method
+     */
+    public static void searchRow(SparseBenefitMatrix benefitMatrix,
+                                 int person,
+                                 double[] priceArray,
+                                 MutableSearchResult result) {
+        final int[] columnIndices = benefitMatrix.getColumnIndices();
+        final int[] values = benefitMatrix.getValues();
+        final int rowEnd = benefitMatrix.getRowEnd(person);
+        int bestItem = -1;
+        double bestValue = Double.NEGATIVE_INFINITY;
+        double secondBestValue = Double.NEGATIVE_INFINITY;
+        for (int position = benefitMatrix.getRowStart(person); position < rowEnd; position++) {
+            final int item = columnIndices[position];
+            final double value = values[position] - priceArray[item];
+            if (value > bestValue) {
+                secondBestValue = bestValue;
+                bestValue = value;
+                bestItem = item;
+            } else if (value > secondBestValue) {
+                secondBestValue = value;
+            }
+        }
+        result.set(bestItem, bestValue, secondBestValue);
+    }
+
+    private SparseSearch() {
+    }
+}
@@ -23,4 +23,41 @@ public interface AuctionImplementation {
     Assignment epsilonScalingPhase(BenefitMatrix benefitMatrix,
                                    PriceVector priceVector,
                                    double epsilon);
+
+    /**
+     * Same phase, but it continues from the partial assignment instead of the empty one,
+     * so only persons without items bid (see PhaseTransition).
+     *
+     * Implementations, which can't continue from a partial assignment, just ignore it:
+     * any complete assignment, which satisfies epsilon-complementary slackness, is a valid result.
+     *
+     * @param benefitMatrix      immutable
+     * @param priceVector        mutable, contains updated prices at the end
+     * @param epsilon
+     * @param startingAssignment immutable, every assigned person must satisfy
+     *                           epsilon-complementary slackness for current prices
+     * @return new COMPLETE assigment
+     */
+    default Assignment epsilonScalingPhase(BenefitMatrix benefitMatrix,
+                                           PriceVector priceVector,
+                                           double epsilon,
+                                           Assignment startingAssignment) {
+        return epsilonScalingPhase(benefitMatrix, priceVector, epsilon);
+    }
+
+    /**
+     * Returns implementation for the single solve of specified matrix. AuctionAlgorithm calls it
+     * once per solve and drops the result, when the solve ends.
+     *
+     * Implementations, which need structures derived from the matrix (e.g. its transposed copy)
+     * in every phase, build them here, so they are shared by the phases of the same solve,
+     * but nothing is held by the implementation itself after the solve.
+     * Implementations without such structures return themselves.
+     *
+     * @param benefitMatrix immutable
+     * @return implementation, which is used for all phases of the solve
+     */
+    default AuctionImplementation bind(BenefitMatrix benefitMatrix) {
+        return this;
+    }
 }
@@ -2,32 +2,45 @@ package com.netcracker.assignment.algorithms.auction.implementation.asynchronous
 
 import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.Assignment;
 import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.BenefitMatrix;
-import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.PersonQueue;
 import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.PriceVector;
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.SortedRowIndex;
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.WorkStealingPersonQueue;
 import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.item.ItemList;
 import com.netcracker.assignment.algorithms.auction.auxillary.entities.basic.Item;
 import com.netcracker.assignment.algorithms.auction.auxillary.entities.basic.Person;
 import com.netcracker.assignment.algorithms.auction.implementation.AuctionImplementation;
+import com.netcracker.assignment.utils.ConcurrentUtils;
 import com.netcracker.assignment.utils.io.logging.Logger;
 import com.netcracker.assignment.utils.io.logging.SystemOutLogger;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
 
-import static com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.PersonQueue.createFullPersonQueue;
+import static com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.WorkStealingPersonQueue.createPersonQueue;
+import static com.netcracker.assignment.algorithms.auction.auxillary.logic.bids.BidMaker.computeBidValue;
 import static com.netcracker.assignment.utils.AssertionMaker.makeAssertion;
-import static com.netcracker.assignment.utils.ConcurrentUtils.executeRunnableInParallel;
+import static com.netcracker.assignment.utils.ConcurrentUtils.executeRunnableList;
 
 
 /**
  * Asynchronous Jacobi implementation of the auction algorithms for assignment problem.
  * At the beginning of epsilon scaling phase it launches specified number of threads,
- * each executing the same task
+ * each executing the same task with its own index
  * (see nested static class {@link AsynchronousJacobi.AsynchronousJacobiTask})
  * <p>
- * Uses one simple lock for the queue of unassigned persons and one read-write lock
- * for each item (read lock is taken during the searching phase, write lock is taken
- * during assignment and price update).
+ * Uses one read-write lock for each item (read lock is taken during the searching phase,
+ * write lock is taken during assignment and price update). Unassigned persons are kept
+ * in per-thread deques with work stealing (see {@link WorkStealingPersonQueue}), so there is
+ * no global lock, which all threads would contend for after each bid.
+ * <p>
+ * If the sorted row index is attached to the benefit matrix, search visits items in descending
+ * order of benefit and stops early (see {@link SortedRowIndex}). The minimal price may be stale,
+ * when it's read, but it's still a lower bound, so the search is as exact, as the full scan.
+ * <p>
+ * Tasks are executed by the injected executor, which lives across phases and solves
+ * (shared work-stealing pool by default) and is never shut down here.
  * <p>
  * P.S.: by convention, all used classes and structures (i.e. Person, Item, Assigment,
  * ItemList, etc.) are NOT thread-safe. All synchronization happens above them, explicitly.
@@ -36,42 +49,77 @@ import static com.netcracker.assignment.utils.ConcurrentUtils.executeRunnableInP
 public class AsynchronousJacobi implements AuctionImplementation {
 
     private final int numberOfThreads;
+    private final ExecutorService executorService;
     private final Logger logger = new SystemOutLogger(true);
 
     public AsynchronousJacobi(int numberOfThreads) {
+        this(numberOfThreads, ConcurrentUtils.getDefaultExecutorService());
+    }
+
+    /**
+     * @param numberOfThreads number of tasks, which are executed simultaneously
+     * @param executorService owned by the caller, never shut down here
+     */
+    public AsynchronousJacobi(int numberOfThreads, ExecutorService executorService) {
         this.numberOfThreads = numberOfThreads;
+        this.executorService = executorService;
     }
 
     public int getNumberOfThreads() {
         return numberOfThreads;
     }
 
+    public ExecutorService getExecutorService() {
+        return executorService;
+    }
+
     @Override
     public Assignment epsilonScalingPhase(BenefitMatrix benefitMatrix,
                                           PriceVector priceVector,
                                           double epsilon) {
-        final int n = benefitMatrix.size();
+        final int numberOfPersons = benefitMatrix.getNumberOfPersons();
+        final int numberOfItems = benefitMatrix.getNumberOfItems();
+        return epsilonScalingPhase(benefitMatrix, priceVector, epsilon,
+                Assignment.createInitialAssignment(numberOfPersons, numberOfItems));
+    }
+
+    @Override
+    public Assignment epsilonScalingPhase(BenefitMatrix benefitMatrix,
+                                          PriceVector priceVector,
+                                          double epsilon,
+                                          Assignment startingAssignment) {
+        final int numberOfPersons = benefitMatrix.getNumberOfPersons();
+        final int numberOfItems = benefitMatrix.getNumberOfItems();
+
+        // Reverse auction may lower prices between phases, so the minimum is recomputed
+        priceVector.refreshMinPrice();
 
         // Declaring new structures which are specific to this epsilon scaling phase.
-        final ItemList itemList = ItemList.createFullItemList(n);
-        final Assignment assignment = Assignment.createInitialAssignment(n);
-
-        final PersonQueue nonAssignedPersonQueue = createFullPersonQueue(n);
-        final Lock personQueueLock = new ReentrantLock();
-
-        // All threads have the same task
-        Runnable runnable = new AsynchronousJacobiTask(
-                benefitMatrix,
-                itemList,
-                epsilon,
-                priceVector,
-                assignment,
-                nonAssignedPersonQueue,
-                personQueueLock
+        // Persons, who are kept by the starting assignment, don't bid at all.
+        final ItemList itemList = ItemList.createFullItemList(numberOfItems);
+        final Assignment assignment = Assignment.createFromOwnerArray(startingAssignment.getOwnerArray(), numberOfPersons);
+
+        final WorkStealingPersonQueue nonAssignedPersonQueue = createPersonQueue(
+                startingAssignment.getNonAssignedPersons(),
+                numberOfThreads
         );
 
-        // Executing task in several threads simultaniously
-        executeRunnableInParallel(runnable, numberOfThreads);
+        // All threads have the same task, which differs only by the index of own deque
+        final List<Runnable> runnableList = new ArrayList<>(numberOfThreads);
+        for (int threadIndex = 0; threadIndex < numberOfThreads; threadIndex++) {
+            runnableList.add(new AsynchronousJacobiTask(
+                    benefitMatrix,
+                    itemList,
+                    epsilon,
+                    priceVector,
+                    assignment,
+                    nonAssignedPersonQueue,
+                    threadIndex
+            ));
+        }
+
+        // Executing tasks in several threads simultaniously
+        executeRunnableList(executorService, runnableList);
 
         // Makins several simple assertion at the end of current phase
         makeAssertion(assignment.isComplete());
@@ -83,8 +131,12 @@ public class AsynchronousJacobi implements AuctionImplementation {
     /**
      * Task, which is executed by every available thread.
      * <p>
-     * While unnassigned persons queue is not empty, a thread selects one person,
-     * finds the best item for him, computes a bid and updates price and assigment.
+     * While there are unassigned persons, a thread selects one person (from its own deque
+     * or stolen from the others), finds the best item for him, computes a bid and updates
+     * price and assigment. Evicted owner is pushed to the own deque of the thread.
+     * <p>
+     * Thread doesn't quit, when all deques are empty, because persons, which are being processed
+     * by other threads, may evict someone. It quits only when every person is assigned.
      * <p>
      * All of it happens asynchroniously, possibly using stale information about prices.
      * <p>
@@ -101,6 +153,7 @@ public class AsynchronousJacobi implements AuctionImplementation {
         */
         private final BenefitMatrix benefitMatrix;
         private final ItemList itemList;
+        private final int numberOfItems;
         private final double epsilon;
 
         /*
@@ -111,57 +164,72 @@ public class AsynchronousJacobi implements AuctionImplementation {
         private final Assignment assignment;
 
         /*
-            Person queue uses its own explicit lock
+            Person queue is thread-safe by itself, index of own deque is confined to the task
          */
-        private final PersonQueue nonAssignedPersonQueue;
-        private final Lock personQueueLock;
+        private final WorkStealingPersonQueue nonAssignedPersonQueue;
+        private final int threadIndex;
 
         public AsynchronousJacobiTask(BenefitMatrix benefitMatrix,
                                       ItemList itemList,
                                       double epsilon,
                                       PriceVector priceVector,
                                       Assignment assignment,
-                                      PersonQueue nonAssignedPersonQueue,
-                                      Lock personQueueLock) {
+                                      WorkStealingPersonQueue nonAssignedPersonQueue,
+                                      int threadIndex) {
             this.benefitMatrix = benefitMatrix;
             this.itemList = itemList;
+            this.numberOfItems = itemList.size();
             this.epsilon = epsilon;
             this.priceVector = priceVector;
             this.assignment = assignment;
             this.nonAssignedPersonQueue = nonAssignedPersonQueue;
-            this.personQueueLock = personQueueLock;
+            this.threadIndex = threadIndex;
         }
 
         @Override
         public void run() {
-            // execute the loop until run out of peole
-            while (true) {
+            // execute the loop until every person is assigned
+            while (!nonAssignedPersonQueue.isDone()) {
 
                 // select person
-                Person person = null;
-                personQueueLock.lock();
-                {
-                    person = nonAssignedPersonQueue.poll();
-                }
-                personQueueLock.unlock();
+                final Person person = nonAssignedPersonQueue.poll(threadIndex);
                 if (person == null) {
-                    break;
+                    // other threads are still bidding and may evict someone
+                    Thread.yield();
+                    continue;
                 }
 
-                // find best item
+                // find best item (starting from -infinity, so that the person always finds one:
+                // otherwise he would be lost, and the number of unassigned persons would never reach zero)
+                final SortedRowIndex sortedRowIndex = benefitMatrix.getSortedRowIndex();
+                final double minPrice = sortedRowIndex == null ? 0.0 : priceVector.getMinPrice();
                 Item bestItem = null;
-                double bestValue = -1.0;
-                double secondBestValue = -1.0;
-                for (Item item : itemList) {
+                double bestValue = Double.NEGATIVE_INFINITY;
+                double secondBestValue = Double.NEGATIVE_INFINITY;
+                for (int rank = 0; rank < numberOfItems; rank++) {
+
+                    // with the sorted row index items are visited in descending order of benefit,
+                    // so the search stops, when no further item can beat the second best value
+                    // (benefits are immutable, so they are read without locks)
+                    final Item item;
+                    final int benefit;
+                    if (sortedRowIndex == null) {
+                        item = itemList.get(rank);
+                        benefit = benefitMatrix.getBenefit(person, item);
+                    } else {
+                        item = itemList.get(sortedRowIndex.getItem(person.getPersonIndex(), rank));
+                        benefit = benefitMatrix.getBenefit(person, item);
+                        if (benefit - minPrice <= secondBestValue) {
+                            break;
+                        }
+                    }
 
-                    int benefit;
                     double price;
 
                     // use read lock for reading info about particular item
                     Lock itemReadLock = item.getReadWriteLock().readLock();
                     itemReadLock.lock();
                     {
-                        benefit = benefitMatrix.getBenefit(person, item);
                         price = priceVector.getPriceFor(item);
                     }
                     itemReadLock.unlock();
@@ -170,8 +238,8 @@ public class AsynchronousJacobi implements AuctionImplementation {
                     double value = benefit - price;
                     if (value > bestValue) {
                         bestItem = item;
-                        bestValue = value;
                         secondBestValue = bestValue;
+                        bestValue = value;
                     } else if (value > secondBestValue) {
                         secondBestValue = value;
                     }
@@ -180,7 +248,7 @@ public class AsynchronousJacobi implements AuctionImplementation {
                 // if found the best item, then make a bid for it and process it
                 if (bestItem != null) {
 
-                    final double bidValue = bestValue - secondBestValue + epsilon;
+                    final double bidValue = computeBidValue(bestValue, secondBestValue, epsilon);
 
                     // using write lock to update information about item
                     Lock itemWriteLock = bestItem.getReadWriteLock().writeLock();
@@ -188,11 +256,9 @@ public class AsynchronousJacobi implements AuctionImplementation {
                     {
                         final Person oldOwner = assignment.getPersonForItem(bestItem);
                         if (oldOwner != Person.NO_PERSON) {
-                            personQueueLock.lock();
-                            {
-                                nonAssignedPersonQueue.add(oldOwner);
-                            }
-                            personQueueLock.unlock();
+                            nonAssignedPersonQueue.push(threadIndex, oldOwner);
+                        } else {
+                            nonAssignedPersonQueue.onFreeItemTaken();
                         }
                         priceVector.increasePrice(bestItem, bidValue);
                         assignment.setPersonForItem(bestItem, person);
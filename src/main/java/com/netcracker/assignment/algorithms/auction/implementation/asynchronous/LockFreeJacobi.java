@@ -0,0 +1,348 @@
+package com.netcracker.assignment.algorithms.auction.implementation.asynchronous;
+
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.BenefitMatrix;
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.PrimitivePersonQueue;
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.basic.MutableSearchResult;
+import com.netcracker.assignment.algorithms.auction.auxillary.logic.search.SearchKernel;
+import com.netcracker.assignment.algorithms.auction.implementation.primitive.AbstractPrimitiveAuctionImplementation;
+import com.netcracker.assignment.utils.ConcurrentUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalInt;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static com.netcracker.assignment.algorithms.auction.auxillary.logic.bids.BidMaker.computeBidValue;
+import static com.netcracker.assignment.utils.ConcurrentUtils.executeCallableList;
+import static com.netcracker.assignment.utils.io.logging.StaticLoggerHolder.info;
+
+/**
+ * Asynchronous Jacobi implementation without locks.
+ * <p>
+ * Price and owner of each item are packed into one long (fixed-point price in the high bits,
+ * owner index + 1 in the low bits) and stored in AtomicLongArray, so a bid is a single
+ * compare-and-set. Slots of different items are padded to separate cache lines,
+ * so CAS on one item doesn't invalidate its neighbours.
+ * <p>
+ * Searches don't touch the atomic array at all: they do plain racy reads of the price array of
+ * PriceVector, which is a mirror of the packed prices (written after each successful CAS).
+ * Stale prices are fine for asynchronous auction, as long as every accepted bid raises the price:
+ * bid, which is not higher than the current price, is rejected, the mirror is refreshed from
+ * the packed state and the person searches again.
+ * <p>
+ * There is no shared queue of non assigned persons either: each worker starts with its own
+ * slice of persons, and when its bid evicts the previous owner of an item, the same worker
+ * continues with the evicted person.
+ * <p>
+ * Fixed-point bids are rounded down, so epsilon-complementary slackness holds exactly.
+ * Scale is chosen per phase: as fine as the range of prices allows, but at least 4 units per epsilon.
+ * If the range doesn't allow it (or there are too many persons for the owner bits), the phase
+ * uses double prices in immutable per-item states instead, which are also replaced by a single CAS.
+ */
+public class LockFreeJacobi extends AbstractPrimitiveAuctionImplementation {
+
+    // owner index + 1 is stored in the low bits, so up to 2^20 - 2 persons fit into packed state
+    private final static int OWNER_BITS = 20;
+    private final static long OWNER_MASK = (1L << OWNER_BITS) - 1;
+    private final static long MAX_FIXED_PRICE = (1L << (63 - OWNER_BITS)) - 1;
+    private final static int MAX_SCALE_EXPONENT = 30;
+    private final static int MIN_UNITS_PER_EPSILON = 4;
+
+    // 8 longs = 64 bytes, size of a typical cache line
+    private final static int PADDING = 8;
+
+    private final int numberOfThreads;
+    private final ExecutorService executorService;
+
+    public LockFreeJacobi(int numberOfThreads) {
+        this(numberOfThreads, SearchKernel.SCALAR);
+    }
+
+    public LockFreeJacobi(int numberOfThreads, SearchKernel searchKernel) {
+        this(numberOfThreads, searchKernel, ConcurrentUtils.getDefaultExecutorService());
+    }
+
+    /**
+     * @param numberOfThreads number of workers, which bid simultaneously
+     * @param searchKernel
+     * @param executorService owned by the caller, never shut down here
+     */
+    public LockFreeJacobi(int numberOfThreads, SearchKernel searchKernel, ExecutorService executorService) {
+        super(searchKernel);
+        this.numberOfThreads = numberOfThreads;
+        this.executorService = executorService;
+    }
+
+    public int getNumberOfThreads() {
+        return numberOfThreads;
+    }
+
+    public ExecutorService getExecutorService() {
+        return executorService;
+    }
+
+    @Override
+    protected void runPhase(BenefitMatrix benefitMatrix,
+                            double[] priceArray,
+                            int[] ownerArray,
+                            PrimitivePersonQueue nonAssignedPersonQueue,
+                            double epsilon) {
+        final ItemStates itemStates = createItemStates(benefitMatrix, priceArray, ownerArray, epsilon);
+
+        final int[] personArray = new int[nonAssignedPersonQueue.size()];
+        final int numberOfBidders = nonAssignedPersonQueue.drainTo(personArray);
+        final int numberOfTasks = Math.max(1, Math.min(numberOfThreads, numberOfBidders));
+        final List<BidWorker> workerList = new ArrayList<>(numberOfTasks);
+        for (int i = 0; i < numberOfTasks; i++) {
+            workerList.add(new BidWorker(
+                    getSearchKernel(),
+                    benefitMatrix,
+                    priceArray,
+                    itemStates,
+                    epsilon,
+                    personArray,
+                    (int) ((long) numberOfBidders * i / numberOfTasks),
+                    (int) ((long) numberOfBidders * (i + 1) / numberOfTasks)
+            ));
+        }
+        executeCallableList(workerList, executorService);
+
+        itemStates.copyTo(priceArray, ownerArray);
+    }
+
+    /**
+     * Packed fixed-point states are used, when owners fit into the low bits and the scale gives
+     * at least MIN_UNITS_PER_EPSILON units per epsilon (i.e. when neither the number of persons,
+     * nor the range of benefits is too large for the last epsilon). Otherwise the phase falls back
+     * to immutable states with double prices, which are swapped by CAS on references
+     * (one allocation per bid, but any valid problem is solved).
+     */
+    private static ItemStates createItemStates(BenefitMatrix benefitMatrix,
+                                               double[] priceArray,
+                                               int[] ownerArray,
+                                               double epsilon) {
+        final int numberOfItems = priceArray.length;
+        if (benefitMatrix.getNumberOfPersons() < OWNER_MASK && numberOfItems <= Integer.MAX_VALUE / PADDING) {
+            final OptionalInt scaleExponent = chooseScaleExponent(benefitMatrix, priceArray, epsilon);
+            if (scaleExponent.isPresent()) {
+                return new FixedPointItemStates(priceArray, ownerArray, Math.scalb(1.0, scaleExponent.getAsInt()));
+            }
+        }
+        info("  Epsilon %s doesn't fit fixed-point prices, using double prices", epsilon);
+        return new DoubleItemStates(priceArray, ownerArray);
+    }
+
+    /**
+     * During the phase each price can grow at most by the range of benefits plus the last bid,
+     * so the scale is chosen to keep twice that much (plus current prices) within the fixed-point range.
+     *
+     * @return exponent of the scale, or empty, if it gives less than MIN_UNITS_PER_EPSILON units per epsilon
+     */
+    private static OptionalInt chooseScaleExponent(BenefitMatrix benefitMatrix, double[] priceArray, double epsilon) {
+        double maxAbsolutePrice = 0.0;
+        for (double price : priceArray) {
+            maxAbsolutePrice = Math.max(maxAbsolutePrice, Math.abs(price));
+        }
+        final double bound = maxAbsolutePrice + 2.0 * (benefitMatrix.findBenefitRange() + epsilon) + 1.0;
+        final int scaleExponent = Math.min(MAX_SCALE_EXPONENT, Math.getExponent(MAX_FIXED_PRICE / bound));
+        if (Math.scalb(epsilon, scaleExponent) < MIN_UNITS_PER_EPSILON) {
+            return OptionalInt.empty();
+        }
+        return OptionalInt.of(scaleExponent);
+    }
+
+    /**
+     * Prices and owners of all items during the phase, shared by workers.
+     */
+    private interface ItemStates {
+
+        /**
+         * Bid is accepted only if it's higher than the current price of the item.
+         * Either way the price array (the mirror for searches) is updated with the latest price.
+         *
+         * @return evicted person (-1 if the item was free), or the bidder itself if the bid was rejected
+         */
+        int placeBid(int person, int item, double bidPrice);
+
+        /**
+         * Called after all workers are done.
+         */
+        void copyTo(double[] priceArray, int[] ownerArray);
+    }
+
+    /**
+     * Fixed-point price and owner of each item are packed into one long, slots are padded to cache lines.
+     */
+    private static class FixedPointItemStates implements ItemStates {
+
+        private final AtomicLongArray stateArray;
+        private final double[] priceArray;
+        private final double scale;
+
+        FixedPointItemStates(double[] priceArray, int[] ownerArray, double scale) {
+            final int numberOfItems = priceArray.length;
+            this.stateArray = new AtomicLongArray(Math.multiplyExact(numberOfItems, PADDING));
+            this.priceArray = priceArray;
+            this.scale = scale;
+            for (int item = 0; item < numberOfItems; item++) {
+                final long fixedPrice = (long) Math.floor(priceArray[item] * scale);
+                priceArray[item] = fixedPrice / scale;
+                stateArray.set(getIndex(item), pack(fixedPrice, ownerArray[item]));
+            }
+        }
+
+        @Override
+        public int placeBid(int person, int item, double bidPrice) {
+            final long bidFixedPrice = (long) Math.floor(bidPrice * scale);
+            if (bidFixedPrice > MAX_FIXED_PRICE) {
+                throw new IllegalStateException("Price of item " + item + " is out of fixed-point range");
+            }
+            final int index = getIndex(item);
+            while (true) {
+                final long state = stateArray.get(index);
+                final long currentFixedPrice = unpackFixedPrice(state);
+                if (bidFixedPrice <= currentFixedPrice) {
+                    // bid was made using stale price, so the mirror is refreshed and the person searches again
+                    priceArray[item] = currentFixedPrice / scale;
+                    return person;
+                }
+                if (stateArray.compareAndSet(index, state, pack(bidFixedPrice, person))) {
+                    priceArray[item] = bidFixedPrice / scale;
+                    return unpackOwner(state);
+                }
+            }
+        }
+
+        @Override
+        public void copyTo(double[] priceArray, int[] ownerArray) {
+            for (int item = 0; item < priceArray.length; item++) {
+                final long state = stateArray.get(getIndex(item));
+                ownerArray[item] = unpackOwner(state);
+                priceArray[item] = unpackFixedPrice(state) / scale;
+            }
+        }
+
+        // can't overflow: length of the array is checked in the constructor
+        private static int getIndex(int item) {
+            return item * PADDING;
+        }
+
+        private static long pack(long fixedPrice, int owner) {
+            return (fixedPrice << OWNER_BITS) | (owner + 1);
+        }
+
+        private static long unpackFixedPrice(long state) {
+            return state >> OWNER_BITS;
+        }
+
+        private static int unpackOwner(long state) {
+            return (int) (state & OWNER_MASK) - 1;
+        }
+    }
+
+    /**
+     * Immutable (price, owner) pairs, which are replaced by CAS on references.
+     */
+    private static class DoubleItemStates implements ItemStates {
+
+        private final AtomicReferenceArray<ItemState> stateArray;
+        private final double[] priceArray;
+
+        DoubleItemStates(double[] priceArray, int[] ownerArray) {
+            this.stateArray = new AtomicReferenceArray<>(priceArray.length);
+            this.priceArray = priceArray;
+            for (int item = 0; item < priceArray.length; item++) {
+                stateArray.set(item, new ItemState(priceArray[item], ownerArray[item]));
+            }
+        }
+
+        @Override
+        public int placeBid(int person, int item, double bidPrice) {
+            final ItemState bidState = new ItemState(bidPrice, person);
+            while (true) {
+                final ItemState state = stateArray.get(item);
+                if (bidPrice <= state.price) {
+                    priceArray[item] = state.price;
+                    return person;
+                }
+                if (stateArray.compareAndSet(item, state, bidState)) {
+                    priceArray[item] = bidPrice;
+                    return state.owner;
+                }
+            }
+        }
+
+        @Override
+        public void copyTo(double[] priceArray, int[] ownerArray) {
+            for (int item = 0; item < priceArray.length; item++) {
+                final ItemState state = stateArray.get(item);
+                ownerArray[item] = state.owner;
+                priceArray[item] = state.price;
+            }
+        }
+    }
+
+    private static class ItemState {
+
+        private final double price;
+        private final int owner;
+
+        ItemState(double price, int owner) {
+            this.price = price;
+            this.owner = owner;
+        }
+    }
+
+    /**
+     * Makes bids for its slice of persons and for every person, which it evicts.
+     */
+    private static class BidWorker implements Callable<Void> {
+
+        private final SearchKernel searchKernel;
+        private final BenefitMatrix benefitMatrix;
+        private final double[] priceArray;
+        private final ItemStates itemStates;
+        private final double epsilon;
+        private final int[] personArray;
+        private final int fromPosition;
+        private final int toPosition;
+        private final MutableSearchResult result = new MutableSearchResult();
+
+        BidWorker(SearchKernel searchKernel,
+                  BenefitMatrix benefitMatrix,
+                  double[] priceArray,
+                  ItemStates itemStates,
+                  double epsilon,
+                  int[] personArray,
+                  int fromPosition,
+                  int toPosition) {
+            this.searchKernel = searchKernel;
+            this.benefitMatrix = benefitMatrix;
+            this.priceArray = priceArray;
+            this.itemStates = itemStates;
+            this.epsilon = epsilon;
+            this.personArray = personArray;
+            this.fromPosition = fromPosition;
+            this.toPosition = toPosition;
+        }
+
+        @Override
+        public Void call() {
+            final int numberOfItems = priceArray.length;
+            for (int position = fromPosition; position < toPosition; position++) {
+                int person = personArray[position];
+                while (person != -1) {
+                    searchKernel.searchRange(benefitMatrix, person, priceArray, 0, numberOfItems, result);
+                    final int item = result.getBestItem();
+                    final double bidPrice = benefitMatrix.getBenefit(person, item) - result.getBestValue()
+                            + computeBidValue(result.getBestValue(), result.getSecondBestValue(), epsilon);
+                    person = itemStates.placeBid(person, item, bidPrice);
+                }
+            }
+            return null;
+        }
+    }
+}
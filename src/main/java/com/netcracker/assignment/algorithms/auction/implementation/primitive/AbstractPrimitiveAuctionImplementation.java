@@ -0,0 +1,88 @@
+package com.netcracker.assignment.algorithms.auction.implementation.primitive;
+
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.Assignment;
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.BenefitMatrix;
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.PrimitivePersonQueue;
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.PriceVector;
+import com.netcracker.assignment.algorithms.auction.auxillary.logic.search.SearchKernel;
+import com.netcracker.assignment.algorithms.auction.implementation.AuctionImplementation;
+
+import static com.netcracker.assignment.utils.AssertionMaker.makeAssertion;
+import static com.netcracker.assignment.utils.io.logging.StaticLoggerHolder.info;
+
+/**
+ * Common parent for primitive implementations of the auction algorithm.
+ * <p>
+ * Unlike other implementations, these ones never create Person, Item, Bid or SearchTaskResult
+ * objects during the epsilon scaling phase. Persons and items are represented by their indices,
+ * prices are read and updated directly in the backing array of PriceVector, and assignment is
+ * stored as a primitive array of owners (where each element represents item). Items also
+ * have no locks, because synchronous implementations do not need them.
+ * <p>
+ * Assignment object is created only once, at the end of the phase (and read once at the beginning,
+ * if the phase continues from a partial assignment).
+ * <p>
+ * Search kernel (i.e. the way the best and second best items are found) is a parameter
+ * of each implementation.
+ */
+public abstract class AbstractPrimitiveAuctionImplementation implements AuctionImplementation {
+
+    private final SearchKernel searchKernel;
+
+    public AbstractPrimitiveAuctionImplementation(SearchKernel searchKernel) {
+        this.searchKernel = searchKernel;
+    }
+
+    public SearchKernel getSearchKernel() {
+        return searchKernel;
+    }
+
+    @Override
+    public Assignment epsilonScalingPhase(BenefitMatrix benefitMatrix,
+                                          PriceVector priceVector,
+                                          double epsilon) {
+        final int numberOfPersons = benefitMatrix.getNumberOfPersons();
+        final int numberOfItems = benefitMatrix.getNumberOfItems();
+        return epsilonScalingPhase(benefitMatrix, priceVector, epsilon,
+                Assignment.createInitialAssignment(numberOfPersons, numberOfItems));
+    }
+
+    @Override
+    public Assignment epsilonScalingPhase(BenefitMatrix benefitMatrix,
+                                          PriceVector priceVector,
+                                          double epsilon,
+                                          Assignment startingAssignment) {
+        final int numberOfPersons = benefitMatrix.getNumberOfPersons();
+
+        final double[] priceArray = priceVector.getPriceArray();
+        final int[] ownerArray = startingAssignment.getOwnerArray();
+        final PrimitivePersonQueue nonAssignedPersonQueue = PrimitivePersonQueue.createPersonQueue(
+                startingAssignment.getNonAssignedPersons(),
+                numberOfPersons
+        );
+
+        runPhase(benefitMatrix, priceArray, ownerArray, nonAssignedPersonQueue, epsilon);
+
+        makeAssertion(nonAssignedPersonQueue.isEmpty());
+
+        info("  Prices at the end       of phase: %s", priceVector);
+
+        return Assignment.createFromOwnerArray(ownerArray, numberOfPersons);
+    }
+
+    /**
+     * Runs auction until every person is assigned.
+     *
+     * @param benefitMatrix          immutable
+     * @param priceArray             mutable, contains updated prices at the end
+     * @param ownerArray             mutable, each element represents item and contains index of its owner
+     *                               (or -1), persons with items are epsilon-happy
+     * @param nonAssignedPersonQueue mutable, contains exactly persons without items, must be empty at the end
+     * @param epsilon
+     */
+    protected abstract void runPhase(BenefitMatrix benefitMatrix,
+                                     double[] priceArray,
+                                     int[] ownerArray,
+                                     PrimitivePersonQueue nonAssignedPersonQueue,
+                                     double epsilon);
+}
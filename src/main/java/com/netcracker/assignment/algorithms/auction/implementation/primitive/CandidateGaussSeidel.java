@@ -0,0 +1,127 @@
+package com.netcracker.assignment.algorithms.auction.implementation.primitive;
+
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.BenefitMatrix;
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.CandidateLists;
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.PrimitivePersonQueue;
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.basic.MutableSearchResult;
+import com.netcracker.assignment.algorithms.auction.auxillary.logic.search.CandidateSearch;
+import com.netcracker.assignment.algorithms.auction.auxillary.logic.search.SearchKernel;
+import com.netcracker.assignment.algorithms.auction.implementation.AuctionImplementation;
+import com.netcracker.assignment.utils.ConcurrentUtils;
+
+import java.util.concurrent.ExecutorService;
+
+import static com.netcracker.assignment.algorithms.auction.auxillary.logic.bids.BidMaker.computeBidValue;
+import static com.netcracker.assignment.utils.io.logging.StaticLoggerHolder.info;
+
+/**
+ * Single threaded primitive implementation, where persons bid over their candidate lists
+ * (k items with the largest benefits, see CandidateLists), so most bids take O(k) instead of O(n).
+ * <p>
+ * Search over candidates is exact, when the second best candidate is not worse than any other item
+ * can be (see CandidateSearch). Otherwise the full row is scanned with the search kernel, so the
+ * result is the same as in PrimitiveGaussSeidel.
+ * <p>
+ * Bound uses the minimal price. Prices only grow during the phase, so the minimal price from the
+ * beginning of the phase stays a lower bound, and it is refreshed after each full scan
+ * (which is O(n) anyway), so the bound doesn't become too loose.
+ * <p>
+ * Candidate lists are built in parallel once per solve (see bind(...)) and reused for the following
+ * phases of the same problem. Unbound instance builds them in every phase.
+ */
+public class CandidateGaussSeidel extends AbstractPrimitiveAuctionImplementation {
+
+    public final static int DEFAULT_NUMBER_OF_CANDIDATES = 32;
+
+    private final int numberOfCandidates;
+    private final ExecutorService executorService;
+
+    /*
+        Matrix, which this instance is bound to, and its candidate lists (both null for unbound instance)
+     */
+    private final BenefitMatrix boundMatrix;
+    private final CandidateLists candidateLists;
+
+    public CandidateGaussSeidel() {
+        this(DEFAULT_NUMBER_OF_CANDIDATES);
+    }
+
+    public CandidateGaussSeidel(int numberOfCandidates) {
+        this(numberOfCandidates, SearchKernel.SCALAR, ConcurrentUtils.getDefaultExecutorService());
+    }
+
+    /**
+     * @param numberOfCandidates k, at least 2
+     * @param searchKernel       used for full scans
+     * @param executorService    used to build candidate lists, owned by the caller, never shut down here
+     */
+    public CandidateGaussSeidel(int numberOfCandidates, SearchKernel searchKernel, ExecutorService executorService) {
+        this(numberOfCandidates, searchKernel, executorService, null, null);
+        if (numberOfCandidates < 2) {
+            throw new IllegalArgumentException("Number of candidates must be at least 2, got " + numberOfCandidates);
+        }
+    }
+
+    private CandidateGaussSeidel(int numberOfCandidates,
+                                 SearchKernel searchKernel,
+                                 ExecutorService executorService,
+                                 BenefitMatrix boundMatrix,
+                                 CandidateLists candidateLists) {
+        super(searchKernel);
+        this.numberOfCandidates = numberOfCandidates;
+        this.executorService = executorService;
+        this.boundMatrix = boundMatrix;
+        this.candidateLists = candidateLists;
+    }
+
+    @Override
+    public AuctionImplementation bind(BenefitMatrix benefitMatrix) {
+        return new CandidateGaussSeidel(numberOfCandidates, getSearchKernel(), executorService, benefitMatrix,
+                CandidateLists.create(benefitMatrix, numberOfCandidates, executorService));
+    }
+
+    public int getNumberOfCandidates() {
+        return numberOfCandidates;
+    }
+
+    @Override
+    protected void runPhase(BenefitMatrix benefitMatrix,
+                            double[] priceArray,
+                            int[] ownerArray,
+                            PrimitivePersonQueue nonAssignedPersonQueue,
+                            double epsilon) {
+        final int n = priceArray.length;
+        final SearchKernel searchKernel = getSearchKernel();
+        final CandidateLists candidateLists = benefitMatrix == boundMatrix
+                ? this.candidateLists
+                : CandidateLists.create(benefitMatrix, numberOfCandidates, executorService);
+        final MutableSearchResult result = new MutableSearchResult();
+        double minPrice = findMinPrice(priceArray);
+        int numberOfBids = 0;
+        int numberOfFullScans = 0;
+        for (int person = nonAssignedPersonQueue.poll(); person != -1; person = nonAssignedPersonQueue.poll()) {
+            if (!CandidateSearch.search(benefitMatrix, candidateLists, person, priceArray, minPrice, result)) {
+                searchKernel.searchRange(benefitMatrix, person, priceArray, 0, n, result);
+                minPrice = findMinPrice(priceArray);
+                numberOfFullScans++;
+            }
+            numberOfBids++;
+            final int bestItem = result.getBestItem();
+            priceArray[bestItem] += computeBidValue(result.getBestValue(), result.getSecondBestValue(), epsilon);
+            final int oldOwner = ownerArray[bestItem];
+            if (oldOwner != -1) {
+                nonAssignedPersonQueue.add(oldOwner);
+            }
+            ownerArray[bestItem] = person;
+        }
+        info("  Full scans: %d of %d bids", numberOfFullScans, numberOfBids);
+    }
+
+    private static double findMinPrice(double[] priceArray) {
+        double minPrice = Double.POSITIVE_INFINITY;
+        for (double price : priceArray) {
+            minPrice = Math.min(minPrice, price);
+        }
+        return minPrice;
+    }
+}
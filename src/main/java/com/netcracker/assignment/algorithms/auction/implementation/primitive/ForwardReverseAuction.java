@@ -0,0 +1,208 @@
+package com.netcracker.assignment.algorithms.auction.implementation.primitive;
+
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.BenefitMatrix;
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.PrimitivePersonQueue;
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.basic.MutableSearchResult;
+import com.netcracker.assignment.algorithms.auction.auxillary.logic.search.SearchKernel;
+import com.netcracker.assignment.algorithms.auction.implementation.AuctionImplementation;
+
+import java.util.Arrays;
+
+import static com.netcracker.assignment.algorithms.auction.auxillary.logic.bids.BidMaker.computeBidValue;
+
+/**
+ * Single threaded forward-reverse implementation.
+ * <p>
+ * Besides prices of items it keeps profits of persons, and the pair satisfies
+ * epsilon-complementary slackness: profit[i] + price[j] >= benefit[i][j] - epsilon for every pair,
+ * and equality holds for every assigned pair.
+ * <p>
+ * Phase alternates between two directions:
+ * - Forward: non assigned persons bid for items (same as in other implementations), item prices
+ * increase, profit of the bidder is set to its benefit minus new price.
+ * - Reverse: non assigned items bid for persons using person profits, profits increase and
+ * price of the item is set to the benefit minus new profit.
+ * Direction is switched each time the number of assigned pairs increases by switchThreshold,
+ * so long price wars among the last non assigned persons are cut short by reverse bids.
+ * <p>
+ * Reverse bids scan columns of the benefit matrix, so transposed copy of the matrix is created
+ * once per solve (see bind(...)) and reused for the following phases of the same problem.
+ * Unbound instance transposes the matrix in every phase.
+ * <p>
+ * Only square problems are supported (reverse bids of free items would break lambda condition
+ * of the asymmetric auction).
+ */
+public class ForwardReverseAuction extends AbstractPrimitiveAuctionImplementation {
+
+    private final int switchThreshold;
+
+    /*
+        Matrix, which this instance is bound to, and its transposed copy (both null for unbound instance)
+     */
+    private final BenefitMatrix boundMatrix;
+    private final BenefitMatrix transposedMatrix;
+
+    public ForwardReverseAuction() {
+        this(1, SearchKernel.SCALAR);
+    }
+
+    public ForwardReverseAuction(int switchThreshold, SearchKernel searchKernel) {
+        this(switchThreshold, searchKernel, null, null);
+        if (switchThreshold <= 0) {
+            throw new IllegalArgumentException("Switch threshold must be positive: " + switchThreshold);
+        }
+    }
+
+    private ForwardReverseAuction(int switchThreshold,
+                                  SearchKernel searchKernel,
+                                  BenefitMatrix boundMatrix,
+                                  BenefitMatrix transposedMatrix) {
+        super(searchKernel);
+        this.switchThreshold = switchThreshold;
+        this.boundMatrix = boundMatrix;
+        this.transposedMatrix = transposedMatrix;
+    }
+
+    @Override
+    public AuctionImplementation bind(BenefitMatrix benefitMatrix) {
+        if (benefitMatrix.getNumberOfPersons() != benefitMatrix.getNumberOfItems()) {
+            // rejected by the first phase anyway
+            return this;
+        }
+        return new ForwardReverseAuction(switchThreshold, getSearchKernel(), benefitMatrix, benefitMatrix.transpose());
+    }
+
+    public int getSwitchThreshold() {
+        return switchThreshold;
+    }
+
+    @Override
+    protected void runPhase(BenefitMatrix benefitMatrix,
+                            double[] priceArray,
+                            int[] ownerArray,
+                            PrimitivePersonQueue nonAssignedPersonQueue,
+                            double epsilon) {
+        final int n = priceArray.length;
+        if (benefitMatrix.getNumberOfPersons() != n) {
+            throw new IllegalArgumentException("Forward-reverse implementation supports only square problems");
+        }
+        final SearchKernel searchKernel = getSearchKernel();
+        final MutableSearchResult result = new MutableSearchResult();
+        final BenefitMatrix transposedMatrix = benefitMatrix == boundMatrix ? this.transposedMatrix : benefitMatrix.transpose();
+
+        // each element represents person and contains index of its item (or -1)
+        final int[] personItemArray = new int[n];
+        Arrays.fill(personItemArray, -1);
+        final PrimitivePersonQueue nonAssignedItemQueue = PrimitivePersonQueue.createEmptyPersonQueue(n);
+        int numberOfAssigned = 0;
+        for (int item = 0; item < n; item++) {
+            final int owner = ownerArray[item];
+            if (owner == -1) {
+                nonAssignedItemQueue.add(item);
+            } else {
+                personItemArray[owner] = item;
+                numberOfAssigned++;
+            }
+        }
+
+        // initial profits satisfy epsilon-complementary slackness for current prices
+        // (persons, who keep their items from the starting assignment, are epsilon-happy with them)
+        final double[] profitArray = new double[n];
+        for (int person = 0; person < n; person++) {
+            final int item = personItemArray[person];
+            if (item == -1) {
+                searchKernel.searchRange(benefitMatrix, person, priceArray, 0, n, result);
+                profitArray[person] = result.getBestValue();
+            } else {
+                profitArray[person] = benefitMatrix.getBenefit(person, item) - priceArray[item];
+            }
+        }
+
+        /*
+            Element, which was assigned by the opposite direction, is not removed from its queue
+            right away. It is skipped when polled instead (see pollNonAssigned(...)), and these
+            flags guarantee that each element is present in its queue at most once.
+         */
+        final boolean[] personInQueueArray = new boolean[n];
+        for (int person = 0; person < n; person++) {
+            personInQueueArray[person] = personItemArray[person] == -1;
+        }
+        final boolean[] itemInQueueArray = new boolean[n];
+        for (int item = 0; item < n; item++) {
+            itemInQueueArray[item] = ownerArray[item] == -1;
+        }
+
+        while (numberOfAssigned < n) {
+
+            //==================== Forward: persons bid for items
+            final int forwardTarget = Math.min(n, numberOfAssigned + switchThreshold);
+            while (numberOfAssigned < forwardTarget) {
+                final int person = pollNonAssigned(nonAssignedPersonQueue, personInQueueArray, personItemArray);
+                searchKernel.searchRange(benefitMatrix, person, priceArray, 0, n, result);
+                final int item = result.getBestItem();
+                priceArray[item] += computeBidValue(result.getBestValue(), result.getSecondBestValue(), epsilon);
+                profitArray[person] = benefitMatrix.getBenefit(person, item) - priceArray[item];
+
+                final int oldOwner = ownerArray[item];
+                if (oldOwner != -1) {
+                    personItemArray[oldOwner] = -1;
+                    addNonAssigned(nonAssignedPersonQueue, personInQueueArray, oldOwner);
+                } else {
+                    numberOfAssigned++;
+                }
+                ownerArray[item] = person;
+                personItemArray[person] = item;
+            }
+
+            //==================== Reverse: items bid for persons
+            final int reverseTarget = Math.min(n, numberOfAssigned + switchThreshold);
+            while (numberOfAssigned < reverseTarget) {
+                final int item = pollNonAssigned(nonAssignedItemQueue, itemInQueueArray, ownerArray);
+                searchKernel.searchRange(transposedMatrix, item, profitArray, 0, n, result);
+                final int person = result.getBestItem();
+                profitArray[person] += computeBidValue(result.getBestValue(), result.getSecondBestValue(), epsilon);
+                priceArray[item] = benefitMatrix.getBenefit(person, item) - profitArray[person];
+
+                final int oldItem = personItemArray[person];
+                if (oldItem != -1) {
+                    ownerArray[oldItem] = -1;
+                    addNonAssigned(nonAssignedItemQueue, itemInQueueArray, oldItem);
+                } else {
+                    numberOfAssigned++;
+                }
+                ownerArray[item] = person;
+                personItemArray[person] = item;
+            }
+        }
+
+        // only persons, which were assigned by reverse bids, can be left in the queue
+        while (!nonAssignedPersonQueue.isEmpty()) {
+            nonAssignedPersonQueue.poll();
+        }
+    }
+
+    /**
+     * Polls queue until non assigned element is found.
+     *
+     * @param queue
+     * @param inQueueArray
+     * @param assignmentArray contains -1 for non assigned elements
+     * @return
+     */
+    private static int pollNonAssigned(PrimitivePersonQueue queue, boolean[] inQueueArray, int[] assignmentArray) {
+        while (true) {
+            final int element = queue.poll();
+            inQueueArray[element] = false;
+            if (assignmentArray[element] == -1) {
+                return element;
+            }
+        }
+    }
+
+    private static void addNonAssigned(PrimitivePersonQueue queue, boolean[] inQueueArray, int element) {
+        if (!inQueueArray[element]) {
+            inQueueArray[element] = true;
+            queue.add(element);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.netcracker.assignment.algorithms.auction.implementation.primitive;
+
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.BenefitMatrix;
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.PrimitivePersonQueue;
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.basic.MutableSearchResult;
+import com.netcracker.assignment.algorithms.auction.auxillary.logic.search.SearchKernel;
+
+import static com.netcracker.assignment.algorithms.auction.auxillary.logic.bids.BidMaker.computeBidValue;
+
+/**
+ * Single threaded primitive implementation.
+ * <p>
+ * Persons bid one at a time and each bid is processed immediately, so every search
+ * sees the most recent prices.
+ */
+public class PrimitiveGaussSeidel extends AbstractPrimitiveAuctionImplementation {
+
+    public PrimitiveGaussSeidel() {
+        this(SearchKernel.SCALAR);
+    }
+
+    public PrimitiveGaussSeidel(SearchKernel searchKernel) {
+        super(searchKernel);
+    }
+
+    @Override
+    protected void runPhase(BenefitMatrix benefitMatrix,
+                            double[] priceArray,
+                            int[] ownerArray,
+                            PrimitivePersonQueue nonAssignedPersonQueue,
+                            double epsilon) {
+        final int n = priceArray.length;
+        final SearchKernel searchKernel = getSearchKernel();
+        final MutableSearchResult result = new MutableSearchResult();
+        for (int person = nonAssignedPersonQueue.poll(); person != -1; person = nonAssignedPersonQueue.poll()) {
+            searchKernel.searchRange(benefitMatrix, person, priceArray, 0, n, result);
+            final int bestItem = result.getBestItem();
+            priceArray[bestItem] += computeBidValue(result.getBestValue(), result.getSecondBestValue(), epsilon);
+            final int oldOwner = ownerArray[bestItem];
+            if (oldOwner != -1) {
+                nonAssignedPersonQueue.add(oldOwner);
+            }
+            ownerArray[bestItem] = person;
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.netcracker.assignment.algorithms.auction.implementation.primitive;
+
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.BenefitMatrix;
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.PrimitivePersonQueue;
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.basic.MutableSearchResult;
+import com.netcracker.assignment.algorithms.auction.auxillary.logic.bids.PrimitiveBidProcessor;
+import com.netcracker.assignment.algorithms.auction.auxillary.logic.search.SearchKernel;
+import com.netcracker.assignment.utils.ConcurrentUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+
+import static com.netcracker.assignment.algorithms.auction.auxillary.logic.bids.BidMaker.computeBidValue;
+import static com.netcracker.assignment.utils.ConcurrentUtils.executeCallableList;
+
+/**
+ * Primitive Jacobi implementation.
+ * <p>
+ * Each auction round consists of two stages:
+ * - Bid making: all non assigned persons are split between bid workers, which are executed
+ * in parallel. Each worker writes best item and bid value of its persons into shared
+ * primitive arrays (different workers write into disjoint ranges of said arrays).
+ * - Bid processing: happens in the calling thread (see {@link PrimitiveBidProcessor}).
+ * <p>
+ * All arrays and workers are created once per epsilon scaling phase and reused in every round.
+ * Bid workers are executed by the injected executor, which is shared between phases and solves
+ * (see {@link ConcurrentUtils#getDefaultExecutorService()} for the default one).
+ */
+public class PrimitiveJacobi extends AbstractPrimitiveAuctionImplementation {
+
+    private final int numberOfThreads;
+    private final int minNumberOfPersonsPerBidTask;
+    private final ExecutorService executorService;
+
+    public PrimitiveJacobi(int numberOfThreads, int minNumberOfPersonsPerBidTask) {
+        this(numberOfThreads, minNumberOfPersonsPerBidTask, SearchKernel.SCALAR);
+    }
+
+    public PrimitiveJacobi(int numberOfThreads, int minNumberOfPersonsPerBidTask, SearchKernel searchKernel) {
+        this(numberOfThreads, minNumberOfPersonsPerBidTask, searchKernel, ConcurrentUtils.getDefaultExecutorService());
+    }
+
+    /**
+     * @param numberOfThreads              maximal number of bid tasks in one round
+     * @param minNumberOfPersonsPerBidTask
+     * @param searchKernel
+     * @param executorService              owned by the caller, never shut down here
+     */
+    public PrimitiveJacobi(int numberOfThreads,
+                           int minNumberOfPersonsPerBidTask,
+                           SearchKernel searchKernel,
+                           ExecutorService executorService) {
+        super(searchKernel);
+        if (numberOfThreads <= 0) {
+            throw new IllegalArgumentException("Number of threads must be positive: " + numberOfThreads);
+        }
+        this.numberOfThreads = numberOfThreads;
+        this.minNumberOfPersonsPerBidTask = minNumberOfPersonsPerBidTask;
+        this.executorService = executorService;
+    }
+
+    public int getNumberOfThreads() {
+        return numberOfThreads;
+    }
+
+    public int getMinNumberOfPersonsPerBidTask() {
+        return minNumberOfPersonsPerBidTask;
+    }
+
+    public ExecutorService getExecutorService() {
+        return executorService;
+    }
+
+    @Override
+    protected void runPhase(BenefitMatrix benefitMatrix,
+                            double[] priceArray,
+                            int[] ownerArray,
+                            PrimitivePersonQueue nonAssignedPersonQueue,
+                            double epsilon) {
+        final PrimitiveBidProcessor bidProcessor = new PrimitiveBidProcessor(
+                benefitMatrix.getNumberOfPersons(),
+                benefitMatrix.getNumberOfItems()
+        );
+
+        final List<BidWorker> workerList = new ArrayList<>(numberOfThreads);
+        for (int i = 0; i < numberOfThreads; i++) {
+            workerList.add(new BidWorker(getSearchKernel(), benefitMatrix, priceArray, bidProcessor, epsilon));
+        }
+
+        while (!nonAssignedPersonQueue.isEmpty()) {
+            final int numberOfBids = bidProcessor.collectBidders(nonAssignedPersonQueue);
+
+            //==================== Bid making, done in parallel
+            makeBids(workerList, numberOfBids);
+
+            //==================== Bid aggregation, processing and assignment
+            bidProcessor.processBids(numberOfBids, ownerArray, priceArray, nonAssignedPersonQueue);
+        }
+    }
+
+    private void makeBids(List<BidWorker> workerList, int numberOfBids) {
+        final int numberOfTasks = Math.max(1, Math.min(workerList.size(), numberOfBids / Math.max(1, minNumberOfPersonsPerBidTask)));
+        final int chunkSize = (numberOfBids + numberOfTasks - 1) / numberOfTasks;
+        if (numberOfTasks == 1) {
+            workerList.get(0).setRange(0, numberOfBids).call();
+            return;
+        }
+        final List<BidWorker> taskList = new ArrayList<>(numberOfTasks);
+        for (int i = 0; i < numberOfTasks; i++) {
+            final int fromPosition = i * chunkSize;
+            final int toPosition = Math.min(numberOfBids, fromPosition + chunkSize);
+            taskList.add(workerList.get(i).setRange(fromPosition, toPosition));
+        }
+        executeCallableList(taskList, executorService);
+    }
+
+    /**
+     * Makes bids for the persons within the specified range of bidder array.
+     * Each worker is used by only one thread at a time and has its own search result holder.
+     */
+    private static class BidWorker implements Callable<Void> {
+
+        private final SearchKernel searchKernel;
+        private final BenefitMatrix benefitMatrix;
+        private final double[] priceArray;
+        private final PrimitiveBidProcessor bidProcessor;
+        private final double epsilon;
+        private final MutableSearchResult result;
+
+        private int fromPosition;
+        private int toPosition;
+
+        BidWorker(SearchKernel searchKernel,
+                  BenefitMatrix benefitMatrix,
+                  double[] priceArray,
+                  PrimitiveBidProcessor bidProcessor,
+                  double epsilon) {
+            this.searchKernel = searchKernel;
+            this.benefitMatrix = benefitMatrix;
+            this.priceArray = priceArray;
+            this.bidProcessor = bidProcessor;
+            this.epsilon = epsilon;
+            this.result = new MutableSearchResult();
+        }
+
+        BidWorker setRange(int fromPosition, int toPosition) {
+            this.fromPosition = fromPosition;
+            this.toPosition = toPosition;
+            return this;
+        }
+
+        @Override
+        public Void call() {
+            final int n = priceArray.length;
+            for (int position = fromPosition; position < toPosition; position++) {
+                searchKernel.searchRange(benefitMatrix, bidProcessor.getBidder(position), priceArray, 0, n, result);
+                bidProcessor.setBid(
+                        position,
+                        result.getBestItem(),
+                        computeBidValue(result.getBestValue(), result.getSecondBestValue(), epsilon)
+                );
+            }
+            return null;
+        }
+    }
+}
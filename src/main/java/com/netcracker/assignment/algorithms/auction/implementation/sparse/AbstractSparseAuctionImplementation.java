@@ -0,0 +1,43 @@
+package com.netcracker.assignment.algorithms.auction.implementation.sparse;
+
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.Assignment;
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.PriceVector;
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.PrimitivePersonQueue;
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.SparseBenefitMatrix;
+
+import java.util.Arrays;
+
+import static com.netcracker.assignment.utils.AssertionMaker.makeAssertion;
+
+/**
+ * Common parent for sparse implementations. Same as
+ * {@link com.netcracker.assignment.algorithms.auction.implementation.primitive.AbstractPrimitiveAuctionImplementation},
+ * persons and items are represented by their indices and no objects are created during the phase.
+ */
+public abstract class AbstractSparseAuctionImplementation implements SparseAuctionImplementation {
+
+    @Override
+    public Assignment epsilonScalingPhase(SparseBenefitMatrix benefitMatrix,
+                                          PriceVector priceVector,
+                                          double epsilon) {
+        final int numberOfPersons = benefitMatrix.getNumberOfPersons();
+        final int numberOfItems = benefitMatrix.getNumberOfItems();
+
+        final double[] priceArray = priceVector.getPriceArray();
+        final int[] ownerArray = new int[numberOfItems];
+        Arrays.fill(ownerArray, -1);
+        final PrimitivePersonQueue nonAssignedPersonQueue = PrimitivePersonQueue.createFullPersonQueue(numberOfPersons);
+
+        runPhase(benefitMatrix, priceArray, ownerArray, nonAssignedPersonQueue, epsilon);
+
+        makeAssertion(nonAssignedPersonQueue.isEmpty());
+
+        return Assignment.createFromOwnerArray(ownerArray, numberOfPersons);
+    }
+
+    protected abstract void runPhase(SparseBenefitMatrix benefitMatrix,
+                                     double[] priceArray,
+                                     int[] ownerArray,
+                                     PrimitivePersonQueue nonAssignedPersonQueue,
+                                     double epsilon);
+}
@@ -0,0 +1,26 @@
+package com.netcracker.assignment.algorithms.auction.implementation.sparse;
+
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.Assignment;
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.PriceVector;
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.SparseBenefitMatrix;
+
+/**
+ * Sparse counterpart of {@link com.netcracker.assignment.algorithms.auction.implementation.AuctionImplementation}.
+ */
+public interface SparseAuctionImplementation {
+
+    /**
+     * Same as AuctionImplementation.epsilonScalingPhase(...), but persons bid only
+     * for their admissible items.
+     * <p>
+     * Problem must be feasible, otherwise phase never ends.
+     *
+     * @param benefitMatrix immutable
+     * @param priceVector   mutable, contains updated prices at the end
+     * @param epsilon
+     * @return new COMPLETE assigment
+     */
+    Assignment epsilonScalingPhase(SparseBenefitMatrix benefitMatrix,
+                                   PriceVector priceVector,
+                                   double epsilon);
+}
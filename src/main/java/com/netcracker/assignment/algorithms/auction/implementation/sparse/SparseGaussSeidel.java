@@ -0,0 +1,33 @@
+package com.netcracker.assignment.algorithms.auction.implementation.sparse;
+
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.PrimitivePersonQueue;
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.SparseBenefitMatrix;
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.basic.MutableSearchResult;
+
+import static com.netcracker.assignment.algorithms.auction.auxillary.logic.bids.BidMaker.computeBidValue;
+import static com.netcracker.assignment.algorithms.auction.auxillary.logic.search.SparseSearch.searchRow;
+
+/**
+ * Single threaded sparse implementation, each bid is processed immediately.
+ */
+public class SparseGaussSeidel extends AbstractSparseAuctionImplementation {
+
+    @Override
+    protected void runPhase(SparseBenefitMatrix benefitMatrix,
+                            double[] priceArray,
+                            int[] ownerArray,
+                            PrimitivePersonQueue nonAssignedPersonQueue,
+                            double epsilon) {
+        final MutableSearchResult result = new MutableSearchResult();
+        for (int person = nonAssignedPersonQueue.poll(); person != -1; person = nonAssignedPersonQueue.poll()) {
+            searchRow(benefitMatrix, person, priceArray, result);
+            final int bestItem = result.getBestItem();
+            priceArray[bestItem] += computeBidValue(result.getBestValue(), result.getSecondBestValue(), epsilon);
+            final int oldOwner = ownerArray[bestItem];
+            if (oldOwner != -1) {
+                nonAssignedPersonQueue.add(oldOwner);
+            }
+            ownerArray[bestItem] = person;
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.netcracker.assignment.algorithms.auction.implementation.sparse;
+
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.PrimitivePersonQueue;
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.SparseBenefitMatrix;
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.basic.MutableSearchResult;
+import com.netcracker.assignment.algorithms.auction.auxillary.logic.bids.PrimitiveBidProcessor;
+import com.netcracker.assignment.utils.ConcurrentUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+
+import static com.netcracker.assignment.algorithms.auction.auxillary.logic.bids.BidMaker.computeBidValue;
+import static com.netcracker.assignment.algorithms.auction.auxillary.logic.search.SparseSearch.searchRow;
+import static com.netcracker.assignment.utils.ConcurrentUtils.executeCallableList;
+
+/**
+ * Sparse Jacobi implementation, see
+ * {@link com.netcracker.assignment.algorithms.auction.implementation.primitive.PrimitiveJacobi}.
+ * Non assigned persons make bids in parallel (using the injected executor, which is shared
+ * between phases and solves), bids are processed in the calling thread.
+ */
+public class SparseJacobi extends AbstractSparseAuctionImplementation {
+
+    private final int numberOfThreads;
+    private final int minNumberOfPersonsPerBidTask;
+    private final ExecutorService executorService;
+
+    public SparseJacobi(int numberOfThreads, int minNumberOfPersonsPerBidTask) {
+        this(numberOfThreads, minNumberOfPersonsPerBidTask, ConcurrentUtils.getDefaultExecutorService());
+    }
+
+    /**
+     * @param numberOfThreads              maximal number of bid tasks in one round
+     * @param minNumberOfPersonsPerBidTask
+     * @param executorService              owned by the caller, never shut down here
+     */
+    public SparseJacobi(int numberOfThreads, int minNumberOfPersonsPerBidTask, ExecutorService executorService) {
+        if (numberOfThreads <= 0) {
+            throw new IllegalArgumentException("Number of threads must be positive: " + numberOfThreads);
+        }
+        this.numberOfThreads = numberOfThreads;
+        this.minNumberOfPersonsPerBidTask = minNumberOfPersonsPerBidTask;
+        this.executorService = executorService;
+    }
+
+    public int getNumberOfThreads() {
+        return numberOfThreads;
+    }
+
+    public int getMinNumberOfPersonsPerBidTask() {
+        return minNumberOfPersonsPerBidTask;
+    }
+
+    public ExecutorService getExecutorService() {
+        return executorService;
+    }
+
+    @Override
+    protected void runPhase(SparseBenefitMatrix benefitMatrix,
+                            double[] priceArray,
+                            int[] ownerArray,
+                            PrimitivePersonQueue nonAssignedPersonQueue,
+                            double epsilon) {
+        final PrimitiveBidProcessor bidProcessor = new PrimitiveBidProcessor(
+                benefitMatrix.getNumberOfPersons(),
+                benefitMatrix.getNumberOfItems()
+        );
+
+        final List<BidWorker> workerList = new ArrayList<>(numberOfThreads);
+        for (int i = 0; i < numberOfThreads; i++) {
+            workerList.add(new BidWorker(benefitMatrix, priceArray, bidProcessor, epsilon));
+        }
+
+        while (!nonAssignedPersonQueue.isEmpty()) {
+            final int numberOfBids = bidProcessor.collectBidders(nonAssignedPersonQueue);
+            makeBids(workerList, numberOfBids);
+            bidProcessor.processBids(numberOfBids, ownerArray, priceArray, nonAssignedPersonQueue);
+        }
+    }
+
+    private void makeBids(List<BidWorker> workerList, int numberOfBids) {
+        final int numberOfTasks = Math.max(1, Math.min(workerList.size(), numberOfBids / Math.max(1, minNumberOfPersonsPerBidTask)));
+        final int chunkSize = (numberOfBids + numberOfTasks - 1) / numberOfTasks;
+        if (numberOfTasks == 1) {
+            workerList.get(0).setRange(0, numberOfBids).call();
+            return;
+        }
+        final List<BidWorker> taskList = new ArrayList<>(numberOfTasks);
+        for (int i = 0; i < numberOfTasks; i++) {
+            final int fromPosition = i * chunkSize;
+            final int toPosition = Math.min(numberOfBids, fromPosition + chunkSize);
+            taskList.add(workerList.get(i).setRange(fromPosition, toPosition));
+        }
+        executeCallableList(taskList, executorService);
+    }
+
+    private static class BidWorker implements Callable<Void> {
+
+        private final SparseBenefitMatrix benefitMatrix;
+        private final double[] priceArray;
+        private final PrimitiveBidProcessor bidProcessor;
+        private final double epsilon;
+        private final MutableSearchResult result;
+
+        private int fromPosition;
+        private int toPosition;
+
+        BidWorker(SparseBenefitMatrix benefitMatrix,
+                  double[] priceArray,
+                  PrimitiveBidProcessor bidProcessor,
+                  double epsilon) {
+            this.benefitMatrix = benefitMatrix;
+            this.priceArray = priceArray;
+            this.bidProcessor = bidProcessor;
+            this.epsilon = epsilon;
+            this.result = new MutableSearchResult();
+        }
+
+        BidWorker setRange(int fromPosition, int toPosition) {
+            this.fromPosition = fromPosition;
+            this.toPosition = toPosition;
+            return this;
+        }
+
+        @Override
+        public Void call() {
+            for (int position = fromPosition; position < toPosition; position++) {
+                searchRow(benefitMatrix, bidProcessor.getBidder(position), priceArray, result);
+                bidProcessor.setBid(
+                        position,
+                        result.getBestItem(),
+                        computeBidValue(result.getBestValue(), result.getSecondBestValue(), epsilon)
+                );
+            }
+            return null;
+        }
+    }
+}
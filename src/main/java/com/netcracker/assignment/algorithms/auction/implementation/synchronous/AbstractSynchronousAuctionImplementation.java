@@ -3,17 +3,13 @@ package com.netcracker.assignment.algorithms.auction.implementation.synchronous;
 import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.*;
 import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.item.ItemList;
 import com.netcracker.assignment.algorithms.auction.auxillary.entities.basic.Bid;
-import com.netcracker.assignment.algorithms.auction.auxillary.entities.basic.Item;
+import com.netcracker.assignment.algorithms.auction.auxillary.logic.bids.ParallelBidProcessor;
 import com.netcracker.assignment.algorithms.auction.implementation.AuctionImplementation;
+import com.netcracker.assignment.utils.ConcurrentUtils;
 
 import java.util.List;
-import java.util.Map;
-import java.util.Queue;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 
-import static com.netcracker.assignment.algorithms.auction.auxillary.logic.bids.BidAggregator.aggregateBids;
-import static com.netcracker.assignment.algorithms.auction.auxillary.logic.bids.BidProcessor.processBidsAndUpdateAssignmentForItemList;
 import static com.netcracker.assignment.utils.AssertionMaker.makeAssertion;
 import static com.netcracker.assignment.utils.io.logging.StaticLoggerHolder.info;
 
@@ -34,32 +30,68 @@ import static com.netcracker.assignment.utils.io.logging.StaticLoggerHolder.info
  * has several search tasks (i.e. parallel within bid).
  * - Hybrid is parallel both within and across bids.
  * <p>
- * All other stages (i.e. bid aggregation, bid processing, price and assignment updating) happen
- * without any concurrency.
+ * All other stages (i.e. bid aggregation, bid processing, price and assignment updating) are common
+ * and also run in parallel, over chunks of bids and partitions of items
+ * (see {@link ParallelBidProcessor}, which is created once per epsilon scaling phase).
+ * <p>
+ * Tasks are executed by the injected executor, which lives across phases and solves and is never
+ * shut down here. By default it is the shared work-stealing pool
+ * (see {@link ConcurrentUtils#getDefaultExecutorService()}), so nested waiting of hybrid implementation
+ * is done by helping, and the number of threads is only a hint kept for reporting.
  */
 public abstract class AbstractSynchronousAuctionImplementation implements AuctionImplementation {
 
     private final int numberOfThreads;
+    private final ExecutorService executorService;
 
     public AbstractSynchronousAuctionImplementation(int numberOfThreads) {
+        this(numberOfThreads, ConcurrentUtils.getDefaultExecutorService());
+    }
+
+    public AbstractSynchronousAuctionImplementation(int numberOfThreads, ExecutorService executorService) {
         this.numberOfThreads = numberOfThreads;
+        this.executorService = executorService;
     }
 
     public int getNumberOfThreads() {
         return numberOfThreads;
     }
 
+    public ExecutorService getExecutorService() {
+        return executorService;
+    }
+
     @Override
     public Assignment epsilonScalingPhase(BenefitMatrix benefitMatrix,
                                           PriceVector priceVector,
                                           double epsilon) {
-        final int n = benefitMatrix.size();
+        final int numberOfPersons = benefitMatrix.getNumberOfPersons();
+        final int numberOfItems = benefitMatrix.getNumberOfItems();
+        return epsilonScalingPhase(benefitMatrix, priceVector, epsilon,
+                Assignment.createInitialAssignment(numberOfPersons, numberOfItems));
+    }
 
-        final PersonQueue nonAssignedPersonQueue = PersonQueue.createFullPersonQueue(n);
-        final ItemList itemList = ItemList.createFullItemList(n);
-        final Assignment assignment = Assignment.createInitialAssignment(n);
+    @Override
+    public Assignment epsilonScalingPhase(BenefitMatrix benefitMatrix,
+                                          PriceVector priceVector,
+                                          double epsilon,
+                                          Assignment startingAssignment) {
+        final int numberOfPersons = benefitMatrix.getNumberOfPersons();
+        final int numberOfItems = benefitMatrix.getNumberOfItems();
+
+        // Reverse auction may lower prices between phases, so the minimum is recomputed
+        priceVector.refreshMinPrice();
+
+        final PersonQueue nonAssignedPersonQueue = PersonQueue.createPersonQueue(startingAssignment.getNonAssignedPersons());
+        final ItemList itemList = ItemList.createFullItemList(numberOfItems);
+        final Assignment assignment = Assignment.createFromOwnerArray(startingAssignment.getOwnerArray(), numberOfPersons);
+        final ParallelBidProcessor bidProcessor = ParallelBidProcessor.create(
+                numberOfPersons,
+                numberOfItems,
+                numberOfThreads,
+                executorService
+        );
 
-        final ExecutorService executorService = createExecutorService(numberOfThreads);
         while (!nonAssignedPersonQueue.isEmpty()) {
             auctionRound(
                     benefitMatrix,
@@ -68,13 +100,13 @@ public abstract class AbstractSynchronousAuctionImplementation implements Auctio
                     nonAssignedPersonQueue,
                     itemList,
                     assignment,
+                    bidProcessor,
                     executorService
             );
             makeAssertion(!nonAssignedPersonQueue.containsDuplicates());
             info("    Non assigned at the end: %s", nonAssignedPersonQueue);
             info("    Assignment at the end of round: %s", assignment);
         }
-        executorService.shutdown();
 
         info("  Prices at the end       of phase: %s", priceVector);
         info("  Assignment at the end   of phase: %s", assignment);
@@ -88,6 +120,7 @@ public abstract class AbstractSynchronousAuctionImplementation implements Auctio
                              PersonQueue nonAssignedPersonQueue,
                              ItemList itemList,
                              Assignment assignment,
+                             ParallelBidProcessor bidProcessor,
                              ExecutorService executorService) {
         //==================== Bid making, done in parallel, depends on implementation
 
@@ -101,26 +134,16 @@ public abstract class AbstractSynchronousAuctionImplementation implements Auctio
                 executorService
         );
 
-        //==================== Bid processing =============================
-
-        info("Aggregating bids: %s", bidList);
-        Map<Item, Queue<Bid>> bidMap = aggregateBids(bidList);
-
-        //==================== Assignment ==================================
+        //==================== Bid processing and assignment ==============
 
-        info("Processing aggregated bids: %s", bidMap);
-        processBidsAndUpdateAssignmentForItemList(
+        info("Processing bids: %s", bidList);
+        bidProcessor.processBids(
+                bidList,
                 assignment,
                 priceVector,
-                nonAssignedPersonQueue,
-                itemList,
-                bidMap
+                nonAssignedPersonQueue
         );
     }
 
     public abstract List<Bid> makeBids(BenefitMatrix benefitMatrix, PriceVector priceVector, double epsilon, PersonQueue nonAssignedPersonQueue, ItemList itemList, ExecutorService executorService);
-
-    private static ExecutorService createExecutorService(int numberOfThreads) {
-        return Executors.newFixedThreadPool(numberOfThreads);
-    }
 }
@@ -26,6 +26,11 @@ public class SynchronousGaussSeidel extends AbstractSynchronousAuctionImplementa
         this.numberOfSearchTasksPerPerson = numberOfSearchTasksPerPerson;
     }
 
+    public SynchronousGaussSeidel(int numberOfThreads, int numberOfSearchTasksPerPerson, ExecutorService executorService) {
+        super(numberOfThreads, executorService);
+        this.numberOfSearchTasksPerPerson = numberOfSearchTasksPerPerson;
+    }
+
     public int getNumberOfSearchTasksPerPerson() {
         return numberOfSearchTasksPerPerson;
     }
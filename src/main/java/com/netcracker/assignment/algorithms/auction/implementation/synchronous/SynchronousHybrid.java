@@ -5,26 +5,30 @@ import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregate
 import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.PersonQueue;
 import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.PriceVector;
 import com.netcracker.assignment.algorithms.auction.auxillary.entities.basic.Bid;
-import com.netcracker.assignment.algorithms.auction.auxillary.entities.basic.Person;
-import com.netcracker.assignment.algorithms.auction.auxillary.entities.tasks.ParallelBidTask;
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.tasks.RecursiveBidTask;
 import com.netcracker.assignment.algorithms.auction.implementation.AuctionImplementation;
+import com.netcracker.assignment.utils.ConcurrentUtils;
 
-import java.util.LinkedList;
 import java.util.List;
 import java.util.concurrent.ExecutorService;
-
-import static com.netcracker.assignment.utils.ConcurrentUtils.executeCallableList;
-import static com.netcracker.assignment.utils.GeneralUtils.flatten;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Hybrid synchronous implementation.
  * It creates several separate bid tasks, inside which several search tasks are created for each person.
  * So we achieve parallel execution both across people and within each bid.
+ * <p>
+ * Bid and search tasks are nested, so they are fork/join tasks (see {@link RecursiveBidTask}):
+ * a thread, which waits for its subtasks, executes them instead of blocking, and the implementation
+ * can't deadlock for any combination of parameters. Parameters only bound the adaptive thresholds:
+ * number of persons per bid task is the minimal size of a person range, and number of search tasks
+ * per person is the maximal number of item ranges.
  */
 public class SynchronousHybrid extends AbstractSynchronousAuctionImplementation implements AuctionImplementation {
 
     private final int numberOfPersonsPerBidTasks;
     private final int numberOfSearchTasksPerPerson;
+    private final ForkJoinPool forkJoinPool;
 
     /**
      * @param numberOfThreads
@@ -34,9 +38,22 @@ public class SynchronousHybrid extends AbstractSynchronousAuctionImplementation
     public SynchronousHybrid(int numberOfThreads,
                              int numberOfPersonsPerBidTasks,
                              int numberOfSearchTasksPerPerson) {
-        super(numberOfThreads);
+        this(
+                numberOfThreads,
+                numberOfPersonsPerBidTasks,
+                numberOfSearchTasksPerPerson,
+                ConcurrentUtils.getDefaultExecutorService()
+        );
+    }
+
+    public SynchronousHybrid(int numberOfThreads,
+                             int numberOfPersonsPerBidTasks,
+                             int numberOfSearchTasksPerPerson,
+                             ForkJoinPool forkJoinPool) {
+        super(numberOfThreads, forkJoinPool);
         this.numberOfPersonsPerBidTasks = numberOfPersonsPerBidTasks;
         this.numberOfSearchTasksPerPerson = numberOfSearchTasksPerPerson;
+        this.forkJoinPool = forkJoinPool;
     }
 
     public int getNumberOfPersonsPerBidTasks() {
@@ -54,20 +71,16 @@ public class SynchronousHybrid extends AbstractSynchronousAuctionImplementation
                               PersonQueue nonAssignedPersonQueue,
                               ItemList itemList,
                               ExecutorService executorService) {
-        final List<ParallelBidTask> bidTaskList = new LinkedList<>();
-        while (!nonAssignedPersonQueue.isEmpty()) {
-            List<Person> personList = nonAssignedPersonQueue.removeSeveral(numberOfPersonsPerBidTasks);
-            ParallelBidTask bidTask = new ParallelBidTask(
-                    benefitMatrix,
-                    priceVector,
-                    personList,
-                    itemList,
-                    epsilon,
-                    executorService,
-                    numberOfSearchTasksPerPerson
-            );
-            bidTaskList.add(bidTask);
-        }
-        return flatten(executeCallableList(bidTaskList, executorService));
+        final RecursiveBidTask bidTask = RecursiveBidTask.create(
+                benefitMatrix,
+                priceVector,
+                nonAssignedPersonQueue.removeAll(),
+                itemList,
+                epsilon,
+                forkJoinPool.getParallelism(),
+                numberOfPersonsPerBidTasks,
+                numberOfSearchTasksPerPerson
+        );
+        return forkJoinPool.invoke(bidTask);
     }
 }
@@ -26,6 +26,11 @@ public class SynchronousJacobi extends AbstractSynchronousAuctionImplementation
         this.numberOfPersonsPerBidTasks = numberOfPersonsPerBidTasks;
     }
 
+    public SynchronousJacobi(int numberOfThreads, int numberOfPersonsPerBidTasks, ExecutorService executorService) {
+        super(numberOfThreads, executorService);
+        this.numberOfPersonsPerBidTasks = numberOfPersonsPerBidTasks;
+    }
+
     public int getNumberOfPersonsPerBidTasks() {
         return numberOfPersonsPerBidTasks;
     }
@@ -1,44 +1,73 @@
 package com.netcracker.assignment.algorithms.auction.implementation.truesynchronous;
 
-import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.Assignment;
 import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.BenefitMatrix;
-import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.PersonQueue;
-import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.PriceVector;
-import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.item.ItemList;
-import com.netcracker.assignment.algorithms.auction.auxillary.entities.basic.Bid;
-import com.netcracker.assignment.algorithms.auction.auxillary.entities.basic.Item;
-import com.netcracker.assignment.algorithms.auction.auxillary.entities.basic.Person;
-import com.netcracker.assignment.algorithms.auction.auxillary.entities.basic.SearchTaskResult;
-import com.netcracker.assignment.algorithms.auction.implementation.AuctionImplementation;
-import com.netcracker.assignment.utils.ConcurrentUtils;
-import com.netcracker.assignment.utils.io.logging.Logger;
-import com.netcracker.assignment.utils.io.logging.SystemOutLogger;
-
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
-import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CyclicBarrier;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.atomic.AtomicReference;
-
-import static com.netcracker.assignment.algorithms.auction.auxillary.logic.bids.BidMaker.makeBid;
-import static com.netcracker.assignment.utils.AssertionMaker.makeAssertion;
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.PrimitivePersonQueue;
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.basic.MutableSearchResult;
+import com.netcracker.assignment.algorithms.auction.auxillary.logic.search.SearchKernel;
+import com.netcracker.assignment.algorithms.auction.implementation.primitive.AbstractPrimitiveAuctionImplementation;
+
+import java.util.concurrent.Phaser;
+
+import static com.netcracker.assignment.algorithms.auction.auxillary.logic.bids.BidMaker.computeBidValue;
 
 /**
- * Failed attempt to create synchronous implementation of the auction algorithm
- * for assignment problem, which would have had separate threads, which were
- * synchronized only at the beginning and end of the iteration.
+ * Gauss-Seidel implementation of the auction algorithm, which is parallel within each bid
+ * and has separate threads, which are synchronized only at the beginning and end of the search.
+ * <p>
+ * Items are split into fixed partitions, one per thread, and each thread searches only its own
+ * partition for the whole epsilon scaling phase (so it also keeps its part of prices and benefits
+ * in its cache). The calling thread is the coordinator: it owns the first partition, selects the next
+ * person, merges partial results (top-2 of each partition) and updates price and assignment.
+ * <p>
+ * Each bid goes through two phases of a Phaser:
+ * - start: coordinator has published the person (and the previous price update), workers search;
+ * - finish: all partial results are ready, coordinator merges them, workers wait for the next start.
+ * Phaser gives the needed happens-before edges, so shared state is plain fields and arrays.
+ * Nothing is allocated per bid.
+ * <p>
+ * Workers block on the phaser, so they need dedicated threads (work-stealing pool with smaller
+ * parallelism would deadlock). The threads are owned by the implementation: they are started on the first
+ * phase, live across phases and solves, and are parked on another phaser (jobPhaser) between phases.
+ * They are daemons, but close() should be called, when the implementation is no longer needed.
+ * Phases of different solves on the same instance are serialized, because they share the workers.
+ * <p>
+ * If any thread fails, the phaser of the current phase is terminated, so the others don't wait forever,
+ * and the failure is rethrown by the calling thread. Workers survive it and wait for the next phase.
+ * <p>
+ * Partitions are never smaller than MIN_ITEMS_PER_PARTITION: for small problems the cost of
+ * synchronization is higher than the search itself. Workers without a partition skip the phase.
  */
-@SuppressWarnings("All")
-public class TrueSynchronousGaussSeidel implements AuctionImplementation {
+public class TrueSynchronousGaussSeidel extends AbstractPrimitiveAuctionImplementation implements AutoCloseable {
+
+    private final static int MIN_ITEMS_PER_PARTITION = 256;
+    private final static String THREAD_NAME_PREFIX = "true-synchronous-worker";
 
     private final int numberOfThreads;
-    private final Logger logger = new SystemOutLogger(true);
+
+    /*
+        Workers and the calling thread are its parties, it advances once per phase (and once on close),
+        after the next job is published.
+     */
+    private final Phaser jobPhaser;
+    /*
+        Fields below are guarded by this (workers read the job only after the advance of the job phaser).
+        Null job means that workers have to quit.
+     */
+    private PhaseJob job;
+    private boolean started = false;
+    private boolean closed = false;
 
     public TrueSynchronousGaussSeidel(int numberOfThreads) {
+        this(numberOfThreads, SearchKernel.SCALAR);
+    }
+
+    public TrueSynchronousGaussSeidel(int numberOfThreads, SearchKernel searchKernel) {
+        super(searchKernel);
+        if (numberOfThreads <= 0) {
+            throw new IllegalArgumentException("Number of threads must be positive: " + numberOfThreads);
+        }
         this.numberOfThreads = numberOfThreads;
+        this.jobPhaser = new Phaser(numberOfThreads);
     }
 
     public int getNumberOfThreads() {
@@ -46,98 +75,215 @@ public class TrueSynchronousGaussSeidel implements AuctionImplementation {
     }
 
     @Override
-    public Assignment epsilonScalingPhase(BenefitMatrix benefitMatrix,
-                                          PriceVector priceVector,
-                                          double epsilon) {
-        final int n = benefitMatrix.size();
-
-        final PersonQueue nonAssignedPersonQueue = PersonQueue.createFullPersonQueue(n);
-        final ItemList itemList = ItemList.createFullItemList(n);
-        final Assignment assignment = Assignment.createInitialAssignment(n);
-
-        //shared state, accessed simultaniously by several threads
-        final AtomicReference<Person> currentPerson = new AtomicReference<>();
-        final Set<SearchTaskResult> resultSet = Collections.newSetFromMap(new ConcurrentHashMap<>());
-
-        //bottleneck tasks
-        final Runnable personSelectingTask = () -> {
-//            logger.info("Selecting new person");
-            synchronized (nonAssignedPersonQueue) {
-                makeAssertion(!nonAssignedPersonQueue.isEmpty());
-                final Person nextPerson = nonAssignedPersonQueue.remove();
-                currentPerson.set(nextPerson);
-//                logger.info("Person %s selected", nextPerson);
+    protected synchronized void runPhase(BenefitMatrix benefitMatrix,
+                                         double[] priceArray,
+                                         int[] ownerArray,
+                                         PrimitivePersonQueue nonAssignedPersonQueue,
+                                         double epsilon) {
+        if (closed) {
+            throw new IllegalStateException("Implementation is closed");
+        }
+        final int numberOfItems = priceArray.length;
+        final int numberOfPartitions = Math.max(1, Math.min(numberOfThreads, numberOfItems / MIN_ITEMS_PER_PARTITION));
+        final PhaseJob phaseJob = new PhaseJob(getSearchKernel(), benefitMatrix, priceArray, numberOfPartitions);
+        if (numberOfPartitions > 1) {
+            startWorkers();
+            publishJob(phaseJob);
+        }
+
+        try {
+            coordinate(benefitMatrix, priceArray, ownerArray, nonAssignedPersonQueue, epsilon, phaseJob,
+                    phaseJob.getToItem(0));
+        } catch (RuntimeException | Error e) {
+            // releases workers, which would wait for the coordinator forever
+            phaseJob.phaser.forceTermination();
+            if (phaseJob.failure != null) {
+                throw new IllegalStateException("Partition worker has failed", phaseJob.failure);
             }
-        };
-        final Runnable bidMakingAndProcessingTask = () -> {
-            final SearchTaskResult finalResult = SearchTaskResult.mergeResults(resultSet);
-            final Bid bid = makeBid(
-                    currentPerson.get(),
-                    finalResult,
-                    epsilon
-            );
-            synchronized (assignment) {
-                final Person bidder = bid.getPerson();
-                final Item item = bid.getItem();
-                final double bidValue = bid.getBidValue();
-
-                final Person oldOwner = assignment.getPersonForItem(item);
-                if (oldOwner != Person.NO_PERSON) {
-                    synchronized (nonAssignedPersonQueue) {
-                        nonAssignedPersonQueue.add(oldOwner);
-                    }
-                }
+            throw e;
+        } finally {
+            // the job stays published until the next phase, but it must not keep the problem alive
+            phaseJob.release();
+        }
+    }
 
-                assignment.setPersonForItem(item, bidder);
-                synchronized (item) {
-                    priceVector.increasePrice(item, bidValue);
-                }
+    /**
+     * Releases worker threads. Following phases fail with IllegalStateException.
+     */
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (started) {
+            publishJob(null);
+        }
+    }
+
+    private void startWorkers() {
+        if (started) {
+            return;
+        }
+        started = true;
+        for (int workerIndex = 1; workerIndex < numberOfThreads; workerIndex++) {
+            final Thread thread = new Thread(new PartitionWorker(workerIndex), THREAD_NAME_PREFIX + "-" + workerIndex);
+            thread.setDaemon(true);
+            thread.start();
+        }
+    }
+
+    /**
+     * Workers read the job after the advance of the job phaser, so it needs no other synchronization.
+     */
+    private void publishJob(PhaseJob nextJob) {
+        job = nextJob;
+        awaitAdvance(jobPhaser);
+    }
+
+    private void coordinate(BenefitMatrix benefitMatrix,
+                            double[] priceArray,
+                            int[] ownerArray,
+                            PrimitivePersonQueue nonAssignedPersonQueue,
+                            double epsilon,
+                            PhaseJob state,
+                            int toItem) {
+        final SearchKernel searchKernel = getSearchKernel();
+        final MutableSearchResult mergedResult = new MutableSearchResult();
+        while (true) {
+            //==================== Start: publishing the next person
+            state.person = nonAssignedPersonQueue.poll();
+            awaitAdvance(state.phaser);
+            if (state.person == -1) {
+                return;
             }
-            logger.info("Current price vector: %s", priceVector);
-        };
-
-        //synchronozation barriers, each also associated with a task
-        final CyclicBarrier startSearchBarrier = new CyclicBarrier(numberOfThreads, personSelectingTask);
-        final CyclicBarrier finishSearchBarrier = new CyclicBarrier(numberOfThreads, bidMakingAndProcessingTask);
-
-        final ExecutorService executorService = ConcurrentUtils.createExecutorService(numberOfThreads);
-
-        List<Runnable> runnableList = new ArrayList<>(numberOfThreads);
-        for (ItemList itemListPart : itemList.split(numberOfThreads)) {
-            Runnable runnable = () -> {
-                while (!nonAssignedPersonQueue.isEmpty()) {
-                    ConcurrentUtils.await(startSearchBarrier);
-                    Item currentBestItem = null;
-                    double currentBestValue = -1.0;
-                    double currentSecondBestValue = -1.0;
-                    for (Item item : itemList) {
-                        synchronized (item) {
-                            int benefit = benefitMatrix.getBenefit(currentPerson.get(), item);
-                            double price = priceVector.getPriceFor(item);
-                            double value = benefit - price;
-                            if (value > currentBestValue) {
-                                currentBestItem = item;
-                                currentBestValue = value;
-                                currentSecondBestValue = currentBestValue;
-                            } else if (value > currentSecondBestValue) {
-                                currentSecondBestValue = value;
-                            }
-                        }
-                    }
-                    SearchTaskResult result = new SearchTaskResult(currentBestItem, currentBestValue, currentSecondBestValue);
-                    resultSet.add(result);
-                }
-                ConcurrentUtils.await(finishSearchBarrier);
-            };
-            runnableList.add(runnable);
+
+            searchKernel.searchRange(benefitMatrix, state.person, priceArray, 0, toItem, state.resultArray[0]);
+
+            //==================== Finish: merging partial results and processing the bid
+            awaitAdvance(state.phaser);
+            mergedResult.reset();
+            for (MutableSearchResult result : state.resultArray) {
+                mergedResult.merge(result);
+            }
+            final int bestItem = mergedResult.getBestItem();
+            priceArray[bestItem] += computeBidValue(mergedResult.getBestValue(), mergedResult.getSecondBestValue(), epsilon);
+            final int oldOwner = ownerArray[bestItem];
+            if (oldOwner != -1) {
+                nonAssignedPersonQueue.add(oldOwner);
+            }
+            ownerArray[bestItem] = state.person;
+        }
+    }
+
+    private static void awaitAdvance(Phaser phaser) {
+        if (phaser.arriveAndAwaitAdvance() < 0) {
+            throw new IllegalStateException("Phaser was terminated, because one of the threads has failed");
         }
+    }
 
-        ConcurrentUtils.executeRunnableList(executorService, runnableList);
+    /**
+     * State of the epsilon scaling phase, which is shared by the coordinator and workers.
+     * It is written only between phases of the phaser, so no other synchronization is needed.
+     */
+    private static class PhaseJob {
 
-        makeAssertion(assignment.isComplete());
-        makeAssertion(nonAssignedPersonQueue.isEmpty());
+        private final SearchKernel searchKernel;
+        // released at the end of the phase, workers don't read them after the last bid
+        private BenefitMatrix benefitMatrix;
+        private double[] priceArray;
+        private final int numberOfItems;
+        private final int numberOfPartitions;
+        private final Phaser phaser;
+        // one partial result per partition, each is written only by the owner of the partition
+        private final MutableSearchResult[] resultArray;
+        // current bidder, -1 means the end of the epsilon scaling phase
+        private int person;
+        // failure of a worker, if any
+        private volatile Throwable failure;
 
-        return assignment;
+        private PhaseJob(SearchKernel searchKernel, BenefitMatrix benefitMatrix, double[] priceArray, int numberOfPartitions) {
+            this.searchKernel = searchKernel;
+            this.benefitMatrix = benefitMatrix;
+            this.priceArray = priceArray;
+            this.numberOfItems = priceArray.length;
+            this.numberOfPartitions = numberOfPartitions;
+            this.phaser = new Phaser(numberOfPartitions);
+            this.resultArray = new MutableSearchResult[numberOfPartitions];
+            for (int partition = 0; partition < numberOfPartitions; partition++) {
+                resultArray[partition] = new MutableSearchResult();
+            }
+        }
+
+        private int getFromItem(int partition) {
+            return (int) ((long) numberOfItems * partition / numberOfPartitions);
+        }
+
+        private int getToItem(int partition) {
+            return getFromItem(partition + 1);
+        }
+
+        private void release() {
+            benefitMatrix = null;
+            priceArray = null;
+        }
     }
 
+    /**
+     * Worker thread, which owns partition with the same index in every phase.
+     * <p>
+     * Between phases it's parked on the job phaser. During the phase it searches its partition
+     * of items for the current person, until coordinator runs out of persons.
+     */
+    private class PartitionWorker implements Runnable {
+
+        private final int partition;
+
+        PartitionWorker(int partition) {
+            this.partition = partition;
+        }
+
+        @Override
+        public void run() {
+            while (true) {
+                jobPhaser.arriveAndAwaitAdvance();
+                // job is replaced only after every worker has arrived again, so it's the one of this advance
+                final PhaseJob phaseJob = job;
+                if (phaseJob == null) {
+                    return;
+                }
+                if (partition < phaseJob.numberOfPartitions) {
+                    search(phaseJob);
+                }
+            }
+        }
+
+        private void search(PhaseJob phaseJob) {
+            final MutableSearchResult result = phaseJob.resultArray[partition];
+            final SearchKernel searchKernel = phaseJob.searchKernel;
+            final BenefitMatrix benefitMatrix = phaseJob.benefitMatrix;
+            final double[] priceArray = phaseJob.priceArray;
+            final int fromItem = phaseJob.getFromItem(partition);
+            final int toItem = phaseJob.getToItem(partition);
+            try {
+                while (true) {
+                    if (phaseJob.phaser.arriveAndAwaitAdvance() < 0) {
+                        // coordinator has failed
+                        return;
+                    }
+                    final int person = phaseJob.person;
+                    if (person == -1) {
+                        return;
+                    }
+                    searchKernel.searchRange(benefitMatrix, person, priceArray, fromItem, toItem, result);
+                    if (phaseJob.phaser.arriveAndAwaitAdvance() < 0) {
+                        return;
+                    }
+                }
+            } catch (RuntimeException | Error e) {
+                phaseJob.failure = e;
+                phaseJob.phaser.forceTermination();
+            }
+        }
+    }
 }
@@ -0,0 +1,160 @@
+package com.netcracker.assignment.algorithms.batch;
+
+import com.netcracker.assignment.algorithms.AssignmentProblemSolver;
+import com.netcracker.assignment.algorithms.auction.AuctionAlgorithm;
+import com.netcracker.assignment.algorithms.auction.implementation.primitive.PrimitiveGaussSeidel;
+import com.netcracker.assignment.algorithms.auction.implementation.primitive.PrimitiveJacobi;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import static com.netcracker.assignment.utils.ConcurrentUtils.getResult;
+
+/**
+ * Solves many independent problems using shared executor.
+ * <p>
+ * For small problems intra-problem parallelism is pure overhead (thread hand-offs cost more
+ * than a whole bid), so they are solved by a single threaded solver, and several problems
+ * are solved at the same time by the threads of the executor.
+ * <p>
+ * Problems with number of persons not less than parallelThreshold are solved by the parallel solver,
+ * one at a time, in the calling thread (parallel solver uses its own threads), while the executor
+ * keeps working on small problems.
+ * <p>
+ * Executor is owned by the caller and is not shut down here.
+ */
+public class BatchSolver {
+
+    public final static int DEFAULT_PARALLEL_THRESHOLD = 1000;
+
+    private final ExecutorService executorService;
+    private final AssignmentProblemSolver sequentialSolver;
+    private final AssignmentProblemSolver parallelSolver;
+    private final int parallelThreshold;
+
+    /**
+     * Primitive Gauss-Seidel auction for small problems and primitive Jacobi auction
+     * (with thread per available processor) for large ones.
+     */
+    public static BatchSolver createDefault(ExecutorService executorService) {
+        final int numberOfThreads = Runtime.getRuntime().availableProcessors();
+        return new BatchSolver(
+                executorService,
+                new AuctionAlgorithm(new PrimitiveGaussSeidel()),
+                new AuctionAlgorithm(new PrimitiveJacobi(numberOfThreads, 16)),
+                DEFAULT_PARALLEL_THRESHOLD
+        );
+    }
+
+    /**
+     * @param executorService   shared executor for small problems
+     * @param sequentialSolver  must be thread-safe, used from several threads simultaneously
+     * @param parallelSolver    used only from the calling thread
+     * @param parallelThreshold minimal number of persons, for which parallel solver is used
+     */
+    public BatchSolver(ExecutorService executorService,
+                       AssignmentProblemSolver sequentialSolver,
+                       AssignmentProblemSolver parallelSolver,
+                       int parallelThreshold) {
+        this.executorService = executorService;
+        this.sequentialSolver = sequentialSolver;
+        this.parallelSolver = parallelSolver;
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    public int getParallelThreshold() {
+        return parallelThreshold;
+    }
+
+    /**
+     * @param matrixList
+     * @return assignments in the same order as matrices
+     */
+    public List<int[]> solveAll(List<int[][]> matrixList) {
+        final List<Future<int[]>> futureList = new ArrayList<>(matrixList.size());
+        for (int[][] matrix : matrixList) {
+            futureList.add(isLarge(matrix) ? null : executorService.submit(() -> sequentialSolver.findMaxCostAssignment(matrix)));
+        }
+
+        final List<int[]> resultList = new ArrayList<>(matrixList.size());
+        for (int index = 0; index < matrixList.size(); index++) {
+            final Future<int[]> future = futureList.get(index);
+            resultList.add(future == null
+                    ? parallelSolver.findMaxCostAssignment(matrixList.get(index))
+                    : getResult(future));
+        }
+        return resultList;
+    }
+
+    /**
+     * Passes assignments to the consumer as soon as they are found.
+     * Consumer is always called from the calling thread.
+     *
+     * @param matrixList
+     * @param consumer
+     */
+    public void solveAll(List<int[][]> matrixList, ResultConsumer consumer) {
+        final CompletionService<IndexedResult> completionService = new ExecutorCompletionService<>(executorService);
+        final List<Integer> largeIndexList = new ArrayList<>();
+        int numberOfSubmitted = 0;
+        for (int index = 0; index < matrixList.size(); index++) {
+            final int[][] matrix = matrixList.get(index);
+            if (isLarge(matrix)) {
+                largeIndexList.add(index);
+            } else {
+                final int matrixIndex = index;
+                completionService.submit(() -> new IndexedResult(matrixIndex, sequentialSolver.findMaxCostAssignment(matrix)));
+                numberOfSubmitted++;
+            }
+        }
+
+        int numberOfConsumed = 0;
+        for (int index : largeIndexList) {
+            consumer.accept(index, parallelSolver.findMaxCostAssignment(matrixList.get(index)));
+            // small problems, which were solved in the meantime
+            for (Future<IndexedResult> future = completionService.poll(); future != null; future = completionService.poll()) {
+                getResult(future).passTo(consumer);
+                numberOfConsumed++;
+            }
+        }
+        for (; numberOfConsumed < numberOfSubmitted; numberOfConsumed++) {
+            try {
+                getResult(completionService.take()).passTo(consumer);
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    private boolean isLarge(int[][] matrix) {
+        return matrix.length >= parallelThreshold;
+    }
+
+    @FunctionalInterface
+    public interface ResultConsumer {
+        /**
+         * @param index      index of the matrix in the batch
+         * @param assignment item for each person
+         */
+        void accept(int index, int[] assignment);
+    }
+
+    private static class IndexedResult {
+
+        private final int index;
+        private final int[] assignment;
+
+        private IndexedResult(int index, int[] assignment) {
+            this.index = index;
+            this.assignment = assignment;
+        }
+
+        private void passTo(ResultConsumer consumer) {
+            consumer.accept(index, assignment);
+        }
+    }
+}
@@ -1,185 +1,214 @@
 package com.netcracker.assignment.algorithms.hungarian;
 
 import com.netcracker.assignment.algorithms.AssignmentProblemSolver;
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.BenefitMatrix;
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.PrimitivePersonQueue;
 
 import java.util.Arrays;
-import java.util.LinkedList;
-import java.util.Queue;
 
 import static java.lang.Integer.max;
 
+/**
+ * Hungarian (Kuhn-Munkres) method, O(m * m * n).
+ * <p>
+ * Each augmentation grows alternating tree from one free row using BFS over tight edges,
+ * and updates labels with the minimal slack when the tree can't be extended.
+ * <p>
+ * Augmentations are done in a plain loop (one per row), so large problems don't overflow the stack.
+ * All state is kept in a workspace, which is created per call, so one instance can be used
+ * by several threads.
+ */
 public class HungarianAlgorithm implements AssignmentProblemSolver {
 
-    private int[][] costMatrix;
-    private int n;
-
-    private int maxMatch;
-
-    private int[] xy;
-    private int[] yx;
-    private int[] labelX;
-    private int[] labelY;
-
-    private boolean[] S;
-    private boolean[] T;
-
-    private int[] slack;
-    private int[] slackX;
-
-    private int[] prev;
-
     @Override
     public int[] findMaxCostAssignment(int[][] costMatrix) {
-        initFields(costMatrix);
-        augment();
-        return xy;
+        final Workspace workspace = new Workspace(costMatrix);
+        for (int row = 0; row < workspace.m; row++) {
+            workspace.augment();
+        }
+        return workspace.xy;
     }
 
-    private void initFields(int[][] costMatrix) {
-        this.costMatrix = costMatrix;
-        this.n = costMatrix[0].length;
-
-        this.maxMatch = 0;
-
-        this.labelX = new int[n];
-        this.labelY = new int[n];
-        Arrays.fill(labelX, 0);
-        Arrays.fill(labelY, 0);
-        for (int x = 0; x < n; x++) {
-            for (int y = 0; y < n; y++) {
-                labelX[x] = max(labelX[x], costMatrix[x][y]);
+    /**
+     * State of a single solve.
+     */
+    private static class Workspace {
+
+        /*
+            Row-major storage of the cost matrix, cost of (x, y) is costMatrix[x * n + y],
+            where m is the number of rows (persons) and n is the number of columns (items), m <= n.
+            Columns which stay unmatched keep zero label, so the labeling remains feasible
+            for the rectangular problem without padding it to square.
+         */
+        private final int[] costMatrix;
+        private final int m;
+        private final int n;
+
+        private final int[] xy;
+        private final int[] yx;
+        private final int[] labelX;
+        private final int[] labelY;
+
+        private final boolean[] S;
+        private final boolean[] T;
+
+        private final int[] slack;
+        private final int[] slackX;
+
+        private final int[] prev;
+
+        // each row enters the tree at most once per augmentation, so capacity of m is enough
+        private final PrimitivePersonQueue bfsQueue;
+
+        private Workspace(int[][] costMatrix) {
+            this.costMatrix = BenefitMatrix.createRowMajor(costMatrix).getStorage();
+            this.m = costMatrix.length;
+            this.n = costMatrix[0].length;
+            if (m > n) {
+                throw new IllegalArgumentException(String.format(
+                        "Number of persons (%d) is greater than number of items (%d)", m, n));
             }
-        }
-
-        this.xy = new int[n];
-        this.yx = new int[n];
-        Arrays.fill(xy, -1);
-        Arrays.fill(yx, -1);
 
-        this.S = new boolean[n];
-        this.T = new boolean[n];
-        this.slack = new int[n];
-        this.slackX = new int[n];
-        this.prev = new int[n];
-    }
+            this.labelX = new int[m];
+            this.labelY = new int[n];
+            for (int x = 0; x < m; x++) {
+                final int rowOffset = x * n;
+                int label = Integer.MIN_VALUE;
+                for (int y = 0; y < n; y++) {
+                    label = max(label, this.costMatrix[rowOffset + y]);
+                }
+                labelX[x] = label;
+            }
 
-    private void augment() {
-        if (maxMatch == n) {
-            return;
+            this.xy = new int[m];
+            this.yx = new int[n];
+            Arrays.fill(xy, -1);
+            Arrays.fill(yx, -1);
+
+            this.S = new boolean[m];
+            this.T = new boolean[n];
+            this.slack = new int[n];
+            this.slackX = new int[n];
+            this.prev = new int[m];
+            this.bfsQueue = PrimitivePersonQueue.createEmptyPersonQueue(m);
         }
 
-        int root = 0;
-        Queue<Integer> bfsQueue = new LinkedList<>();
-
-        Arrays.fill(S, false);
-        Arrays.fill(T, false);
-        Arrays.fill(prev, -1);
-        for (int x = 0; x < n; x++) {
-            if (xy[x] == -1) {
-                root = x;
-                bfsQueue.add(x);
-                prev[x] = -2;
-                S[x] = true;
-                break;
+        /**
+         * Finds augmenting path for the first free row and flips it, so the matching grows by one.
+         */
+        private void augment() {
+            int root = -1;
+            Arrays.fill(S, false);
+            Arrays.fill(T, false);
+            Arrays.fill(prev, -1);
+            for (int x = 0; x < m; x++) {
+                if (xy[x] == -1) {
+                    root = x;
+                    bfsQueue.add(x);
+                    prev[x] = -2;
+                    S[x] = true;
+                    break;
+                }
+            }
+            if (root == -1) {
+                return;
             }
-        }
 
-        for (int y = 0; y < n; y++) {
-            slack[y] = labelX[root] + labelY[y] - costMatrix[root][y];
-            slackX[y] = root;
-        }
+            final int rootOffset = root * n;
+            final int rootLabel = labelX[root];
+            for (int y = 0; y < n; y++) {
+                slack[y] = rootLabel + labelY[y] - costMatrix[rootOffset + y];
+                slackX[y] = root;
+            }
 
-        int x = 0;
-        int y = 0;
+            int x = 0;
+            int y = 0;
+
+            outer:
+            while (true) {
+
+                for (x = bfsQueue.poll(); x != -1; x = bfsQueue.poll()) {
+                    final int rowOffset = x * n;
+                    final int rowLabel = labelX[x];
+                    for (y = 0; y < n; y++) {
+                        if (!T[y] && costMatrix[rowOffset + y] == rowLabel + labelY[y]) {
+
+                            if (yx[y] != -1) {
+                                T[y] = true;
+                                bfsQueue.add(yx[y]);
+                                addToTree(yx[y], x);
+                            } else {
+                                break outer;
+                            }
+                        }
+                    }
+                }
 
-        outer:
-        while (true) {
+                updateLabels();
 
-            while (!bfsQueue.isEmpty()) {
-                x = bfsQueue.remove();
                 for (y = 0; y < n; y++) {
-                    if (costMatrix[x][y] == labelX[x] + labelY[y] && !T[y]) {
+                    if (!T[y] && slack[y] == 0) {
 
                         if (yx[y] != -1) {
                             T[y] = true;
-                            bfsQueue.add(yx[y]);
-                            addToTree(yx[y], x);
+                            if (!S[yx[y]]) {
+                                bfsQueue.add(yx[y]);
+                                addToTree(yx[y], slackX[y]);
+                            }
                         } else {
+                            x = slackX[y];
                             break outer;
                         }
                     }
                 }
             }
 
-            updateLabels();
+            // leftovers of the tree aren't needed for the next augmentation
             bfsQueue.clear();
 
-            for (y = 0; y < n; y++) {
-                if (!T[y] && slack[y] == 0) {
-
-                    if (yx[y] != -1) {
-                        T[y] = true;
-                        if (!S[yx[y]]) {
-                            bfsQueue.add(yx[y]);
-                            addToTree(yx[y], slackX[y]);
-                        }
-                    } else {
-                        x = slackX[y];
-                        break outer;
-                    }
-                }
-            }
-        }
-
-        if (y < n) {
-            maxMatch++;
             for (int cx = x, cy = y, ty; cx != -2; cx = prev[cx], cy = ty) {
                 ty = xy[cx];
                 yx[cy] = cx;
                 xy[cx] = cy;
             }
-            augment();
         }
-    }
-
-    private void updateLabels() {
-        int delta = Integer.MAX_VALUE;
 
-        for (int y = 0; y < n; y++) {
-            if (!T[y]) {
-                delta = Integer.min(delta, slack[y]);
-            }
-        }
+        private void updateLabels() {
+            int delta = Integer.MAX_VALUE;
 
-        for (int x = 0; x < n; x++) {
-            if (S[x]) {
-                labelX[x] -= delta;
+            for (int y = 0; y < n; y++) {
+                if (!T[y]) {
+                    delta = Integer.min(delta, slack[y]);
+                }
             }
-        }
 
-        for (int y = 0; y < n; y++) {
-            if (T[y]) {
-                labelY[y] += delta;
+            for (int x = 0; x < m; x++) {
+                if (S[x]) {
+                    labelX[x] -= delta;
+                }
             }
-        }
 
-        for (int y = 0; y < n; y++) {
-            if (!T[y]) {
-                slack[y] -= delta;
+            for (int y = 0; y < n; y++) {
+                if (T[y]) {
+                    labelY[y] += delta;
+                } else {
+                    slack[y] -= delta;
+                }
             }
         }
-    }
 
-    private void addToTree(int x, int prevx) {
-        S[x] = true;
-        prev[x] = prevx;
-        for (int y = 0; y < n; y++) {
-            if (labelX[x] + labelY[y] - costMatrix[x][y] < slack[y]) {
-                slack[y] = labelX[x] + labelY[y] - costMatrix[x][y];
-                slackX[y] = x;
+        private void addToTree(int x, int prevx) {
+            S[x] = true;
+            prev[x] = prevx;
+            final int rowOffset = x * n;
+            final int rowLabel = labelX[x];
+            for (int y = 0; y < n; y++) {
+                final int reducedCost = rowLabel + labelY[y] - costMatrix[rowOffset + y];
+                if (reducedCost < slack[y]) {
+                    slack[y] = reducedCost;
+                    slackX[y] = x;
+                }
             }
         }
     }
-
 }
-
@@ -0,0 +1,260 @@
+package com.netcracker.assignment.algorithms.hungarian;
+
+import com.netcracker.assignment.algorithms.InfeasibleProblemException;
+import com.netcracker.assignment.algorithms.SparseAssignmentProblemSolver;
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.SparseBenefitMatrix;
+
+import java.util.Arrays;
+
+/**
+ * Hungarian method for sparse problems, in the form of successive shortest augmenting paths.
+ * <p>
+ * Benefits are negated into costs. Row and column potentials keep reduced costs of admissible
+ * pairs non-negative (and zero for assigned pairs), so for each person the shortest augmenting
+ * path is found using Dijkstra algorithm, which scans only admissible pairs.
+ * Complexity is O(n * E * log(n)), where E is the number of admissible pairs.
+ * <p>
+ * If Dijkstra can't reach any free item, the problem is infeasible.
+ * <p>
+ * All state is local to the call, so one instance can be used by several threads.
+ */
+public class SparseHungarianAlgorithm implements SparseAssignmentProblemSolver {
+
+    @Override
+    public int[] findMaxCostAssignment(SparseBenefitMatrix benefitMatrix) {
+        final int numberOfPersons = benefitMatrix.getNumberOfPersons();
+        final int numberOfItems = benefitMatrix.getNumberOfItems();
+        if (numberOfPersons > numberOfItems) {
+            throw new IllegalArgumentException(String.format(
+                    "Number of persons (%d) is greater than number of items (%d)", numberOfPersons, numberOfItems));
+        }
+        final int[] columnIndices = benefitMatrix.getColumnIndices();
+        final int[] values = benefitMatrix.getValues();
+
+        // reduced cost of (x, y) is -benefit - labelX[x] - labelY[y]
+        final long[] labelX = new long[numberOfPersons];
+        final long[] labelY = new long[numberOfItems];
+        if (numberOfPersons == numberOfItems) {
+            initColumnLabels(benefitMatrix, labelY);
+        } else {
+            initRowLabels(benefitMatrix, labelX);
+        }
+
+        final int[] xy = new int[numberOfPersons];
+        final int[] yx = new int[numberOfItems];
+        Arrays.fill(xy, -1);
+        Arrays.fill(yx, -1);
+
+        final long[] distance = new long[numberOfItems];
+        final int[] prevX = new int[numberOfItems];
+        // column is finalized when its stamp is equal to the current root + 1
+        final int[] finalizedStamp = new int[numberOfItems];
+        final int[] finalizedList = new int[numberOfItems];
+        final IndexedMinHeap heap = new IndexedMinHeap(distance);
+
+        for (int root = 0; root < numberOfPersons; root++) {
+            final int stamp = root + 1;
+            int numberOfFinalized = 0;
+
+            relax(benefitMatrix, root, 0, labelX, labelY, distance, prevX, finalizedStamp, stamp, heap);
+            int sink = -1;
+            while (!heap.isEmpty()) {
+                final int y = heap.poll();
+                finalizedStamp[y] = stamp;
+                finalizedList[numberOfFinalized++] = y;
+                if (yx[y] == -1) {
+                    sink = y;
+                    break;
+                }
+                relax(benefitMatrix, yx[y], distance[y], labelX, labelY, distance, prevX, finalizedStamp, stamp, heap);
+            }
+            heap.clear();
+            if (sink == -1) {
+                throw new InfeasibleProblemException("Person " + root + " can't be assigned");
+            }
+
+            // update labels, so reduced costs stay non-negative and the path becomes tight
+            final long delta = distance[sink];
+            labelX[root] += delta;
+            for (int i = 0; i < numberOfFinalized; i++) {
+                final int y = finalizedList[i];
+                final long shift = delta - distance[y];
+                labelY[y] -= shift;
+                if (y != sink) {
+                    labelX[yx[y]] += shift;
+                }
+            }
+
+            // augment along the path
+            for (int y = sink; ; ) {
+                final int x = prevX[y];
+                final int nextY = xy[x];
+                xy[x] = y;
+                yx[y] = x;
+                if (x == root) {
+                    break;
+                }
+                y = nextY;
+            }
+        }
+
+        return xy;
+    }
+
+    /**
+     * Column reduction for square problems: every item has to be assigned,
+     * so an item without admissible persons makes the problem infeasible.
+     */
+    private static void initColumnLabels(SparseBenefitMatrix benefitMatrix, long[] labelY) {
+        final int[] columnIndices = benefitMatrix.getColumnIndices();
+        final int[] values = benefitMatrix.getValues();
+        Arrays.fill(labelY, Long.MAX_VALUE);
+        for (int position = 0; position < columnIndices.length; position++) {
+            labelY[columnIndices[position]] = Math.min(labelY[columnIndices[position]], -(long) values[position]);
+        }
+        for (int y = 0; y < labelY.length; y++) {
+            if (labelY[y] == Long.MAX_VALUE) {
+                throw new InfeasibleProblemException("Item " + y + " has no admissible persons");
+            }
+        }
+    }
+
+    /**
+     * Row reduction for problems with more items than persons.
+     * <p>
+     * Item labels start from zero and are only decreased for items on the shortest path tree,
+     * while free items are never shifted, so items which stay unassigned keep zero label
+     * and the labeling remains optimal for the rectangular problem.
+     */
+    private static void initRowLabels(SparseBenefitMatrix benefitMatrix, long[] labelX) {
+        final int[] values = benefitMatrix.getValues();
+        for (int x = 0; x < labelX.length; x++) {
+            if (benefitMatrix.getRowStart(x) == benefitMatrix.getRowEnd(x)) {
+                throw new InfeasibleProblemException("Person " + x + " has no admissible items");
+            }
+            long label = Long.MAX_VALUE;
+            for (int position = benefitMatrix.getRowStart(x); position < benefitMatrix.getRowEnd(x); position++) {
+                label = Math.min(label, -(long) values[position]);
+            }
+            labelX[x] = label;
+        }
+    }
+
+    private static void relax(SparseBenefitMatrix benefitMatrix,
+                              int x,
+                              long distanceX,
+                              long[] labelX,
+                              long[] labelY,
+                              long[] distance,
+                              int[] prevX,
+                              int[] finalizedStamp,
+                              int stamp,
+                              IndexedMinHeap heap) {
+        final int[] columnIndices = benefitMatrix.getColumnIndices();
+        final int[] values = benefitMatrix.getValues();
+        for (int position = benefitMatrix.getRowStart(x); position < benefitMatrix.getRowEnd(x); position++) {
+            final int y = columnIndices[position];
+            if (finalizedStamp[y] == stamp) {
+                continue;
+            }
+            final long newDistance = distanceX - values[position] - labelX[x] - labelY[y];
+            if (!heap.contains(y) || newDistance < distance[y]) {
+                distance[y] = newDistance;
+                prevX[y] = x;
+                heap.addOrDecrease(y);
+            }
+        }
+    }
+
+    /**
+     * Binary min-heap of columns, ordered by their distance.
+     * Position of each column is tracked, so distance can be decreased in place.
+     */
+    private static class IndexedMinHeap {
+
+        private final long[] keys;
+        private final int[] heap;
+        private final int[] positions;
+        private int size;
+
+        IndexedMinHeap(long[] keys) {
+            this.keys = keys;
+            this.heap = new int[keys.length];
+            this.positions = new int[keys.length];
+            Arrays.fill(positions, -1);
+            this.size = 0;
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        boolean contains(int element) {
+            return positions[element] != -1;
+        }
+
+        void addOrDecrease(int element) {
+            if (positions[element] == -1) {
+                heap[size] = element;
+                positions[element] = size;
+                size++;
+            }
+            siftUp(positions[element]);
+        }
+
+        int poll() {
+            final int top = heap[0];
+            positions[top] = -1;
+            size--;
+            if (size > 0) {
+                heap[0] = heap[size];
+                positions[heap[0]] = 0;
+                siftDown(0);
+            }
+            return top;
+        }
+
+        void clear() {
+            for (int i = 0; i < size; i++) {
+                positions[heap[i]] = -1;
+            }
+            size = 0;
+        }
+
+        private void siftUp(int position) {
+            final int element = heap[position];
+            while (position > 0) {
+                final int parent = (position - 1) >>> 1;
+                if (keys[heap[parent]] <= keys[element]) {
+                    break;
+                }
+                heap[position] = heap[parent];
+                positions[heap[position]] = position;
+                position = parent;
+            }
+            heap[position] = element;
+            positions[element] = position;
+        }
+
+        private void siftDown(int position) {
+            final int element = heap[position];
+            while (true) {
+                int child = 2 * position + 1;
+                if (child >= size) {
+                    break;
+                }
+                if (child + 1 < size && keys[heap[child + 1]] < keys[heap[child]]) {
+                    child++;
+                }
+                if (keys[heap[child]] >= keys[element]) {
+                    break;
+                }
+                heap[position] = heap[child];
+                positions[heap[position]] = position;
+                position = child;
+            }
+            heap[position] = element;
+            positions[element] = position;
+        }
+    }
+}
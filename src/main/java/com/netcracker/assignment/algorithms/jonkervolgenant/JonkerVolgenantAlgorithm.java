@@ -0,0 +1,315 @@
+package com.netcracker.assignment.algorithms.jonkervolgenant;
+
+import com.netcracker.assignment.algorithms.AssignmentProblemSolver;
+
+/**
+ * Jonker-Volgenant (LAPJV) method for dense assignment problems.
+ * <p>
+ * Benefits are negated into costs, and the minimal cost assignment is found
+ * in four stages:
+ * - Column reduction: each column is assigned to the row with its minimal cost (if that row is still free).
+ * - Reduction transfer: price of the column of every singly assigned row is lowered,
+ * so the row's reduced cost is transferred to other columns.
+ * - Augmenting row reduction (two passes): each free row takes the column with minimal reduced cost,
+ * lowering its price to the second minimum and evicting the previous owner (auction-like).
+ * - Augmentation: for each row, which is still free, shortest augmenting path is found using
+ * Dijkstra-like scan over reduced costs with column prices as potentials.
+ * <p>
+ * Problems with less persons than items are completed with zero rows, which are implicit
+ * (only the costs of real persons are stored, see Workspace.getCost(...)), so the workspace
+ * takes O(m * n) memory and m * n must fit into int.
+ * All state is kept in a workspace, which is created per call, so one instance can be used
+ * by several threads.
+ */
+public class JonkerVolgenantAlgorithm implements AssignmentProblemSolver {
+
+    @Override
+    public int[] findMaxCostAssignment(int[][] costMatrix) {
+        final int numberOfPersons = costMatrix.length;
+        final int numberOfItems = costMatrix[0].length;
+        if (numberOfPersons > numberOfItems) {
+            throw new IllegalArgumentException(String.format(
+                    "Number of persons (%d) is greater than number of items (%d)", numberOfPersons, numberOfItems));
+        }
+
+        final Workspace workspace = new Workspace(costMatrix, numberOfItems);
+        workspace.columnReduction();
+        workspace.reductionTransfer();
+        for (int pass = 0; pass < 2 && workspace.numberOfFree > 0; pass++) {
+            workspace.augmentingRowReduction();
+        }
+        workspace.augmentation();
+
+        final int[] assignment = new int[numberOfPersons];
+        System.arraycopy(workspace.x, 0, assignment, 0, numberOfPersons);
+        return assignment;
+    }
+
+    /**
+     * State of a single solve.
+     */
+    private static class Workspace {
+
+        /*
+            Row-major storage of benefits of m persons, cost of (i, j) is -benefit[i * n + j] (negated as long,
+            so Integer.MIN_VALUE doesn't overflow). Rows from m to n are dummy rows with zero cost, which aren't stored.
+         */
+        private final int[] benefit;
+        private final int m;
+        private final int n;
+
+        // column prices (dual variables of columns)
+        private final long[] v;
+
+        // x[i] is a column of row i, y[j] is a row of column j, -1 if not assigned
+        private final int[] x;
+        private final int[] y;
+
+        // number of columns, which selected the row during column reduction
+        private final int[] matches;
+
+        private final int[] free;
+        private int numberOfFree;
+
+        // Dijkstra arrays
+        private final long[] d;
+        private final int[] pred;
+        private final int[] columnList;
+
+        private Workspace(int[][] costMatrix, int n) {
+            this.m = costMatrix.length;
+            this.n = n;
+            try {
+                this.benefit = new int[Math.multiplyExact(m, n)];
+            } catch (ArithmeticException e) {
+                throw new IllegalArgumentException("Matrix " + m + "x" + n + " is too large to be stored in a single array", e);
+            }
+            for (int i = 0; i < m; i++) {
+                System.arraycopy(costMatrix[i], 0, benefit, i * n, n);
+            }
+
+            this.v = new long[n];
+            this.x = new int[n];
+            this.y = new int[n];
+            this.matches = new int[n];
+            this.free = new int[n];
+            this.d = new long[n];
+            this.pred = new int[n];
+            this.columnList = new int[n];
+        }
+
+        /**
+         * @param i row, dummy rows (i >= m) have zero cost
+         * @param j column
+         * @return
+         */
+        private long getCost(int i, int j) {
+            return i < m ? -(long) benefit[i * n + j] : 0;
+        }
+
+        private void columnReduction() {
+            // column minima are found in a single row-major pass, y temporarily keeps the row of the minimum
+            for (int j = 0; j < n; j++) {
+                v[j] = -(long) benefit[j];
+                y[j] = 0;
+            }
+            for (int i = 1; i < m; i++) {
+                final int rowOffset = i * n;
+                for (int j = 0; j < n; j++) {
+                    final long c = -(long) benefit[rowOffset + j];
+                    if (c < v[j]) {
+                        v[j] = c;
+                        y[j] = i;
+                    }
+                }
+            }
+            // the first dummy row is the first one with zero cost (the following ones never have smaller cost)
+            if (m < n) {
+                for (int j = 0; j < n; j++) {
+                    if (0 < v[j]) {
+                        v[j] = 0;
+                        y[j] = m;
+                    }
+                }
+            }
+
+            for (int i = 0; i < n; i++) {
+                x[i] = -1;
+            }
+            // assigning columns in reverse order, as in the paper by Jonker and Volgenant
+            for (int j = n - 1; j >= 0; j--) {
+                final int minRow = y[j];
+                if (++matches[minRow] == 1) {
+                    x[minRow] = j;
+                } else {
+                    y[j] = -1;
+                }
+            }
+        }
+
+        private void reductionTransfer() {
+            int numberOfFree = 0;
+            for (int i = 0; i < n; i++) {
+                final int rowMatches = matches[i];
+                if (rowMatches == 0) {
+                    free[numberOfFree++] = i;
+                } else if (rowMatches == 1) {
+                    final int j1 = x[i];
+                    long min = Long.MAX_VALUE;
+                    for (int j = 0; j < n; j++) {
+                        if (j != j1) {
+                            min = Math.min(min, getCost(i, j) - v[j]);
+                        }
+                    }
+                    if (min != Long.MAX_VALUE) {
+                        v[j1] -= min - (getCost(i, j1) - v[j1]);
+                    }
+                }
+            }
+            this.numberOfFree = numberOfFree;
+        }
+
+        /**
+         * Single pass of the augmenting row reduction over the current list of free rows.
+         */
+        private void augmentingRowReduction() {
+            final int previousNumberOfFree = numberOfFree;
+            numberOfFree = 0;
+            int k = 0;
+            while (k < previousNumberOfFree) {
+                final int i = free[k++];
+
+                // minimal and second minimal reduced costs of the row
+                int j1 = 0;
+                int j2 = -1;
+                long min = getCost(i, 0) - v[0];
+                long secondMin = Long.MAX_VALUE;
+                for (int j = 1; j < n; j++) {
+                    final long h = getCost(i, j) - v[j];
+                    if (h < secondMin) {
+                        if (h >= min) {
+                            secondMin = h;
+                            j2 = j;
+                        } else {
+                            secondMin = min;
+                            min = h;
+                            j2 = j1;
+                            j1 = j;
+                        }
+                    }
+                }
+
+                int previousOwner = y[j1];
+                final boolean strictMinimum = min < secondMin;
+                if (strictMinimum) {
+                    // lower the price, so the row stays with the column even after the second best improves
+                    v[j1] -= secondMin - min;
+                } else if (previousOwner != -1) {
+                    // tie: take the second column instead, so the previous owner isn't evicted
+                    j1 = j2;
+                    previousOwner = y[j2];
+                }
+
+                if (previousOwner != -1) {
+                    x[previousOwner] = -1;
+                }
+                x[i] = j1;
+                y[j1] = i;
+                if (previousOwner != -1) {
+                    if (strictMinimum) {
+                        // evicted row is processed right away
+                        free[--k] = previousOwner;
+                    } else {
+                        free[numberOfFree++] = previousOwner;
+                    }
+                }
+            }
+        }
+
+        private void augmentation() {
+            for (int f = 0; f < numberOfFree; f++) {
+                final int freeRow = free[f];
+                for (int j = 0; j < n; j++) {
+                    d[j] = getCost(freeRow, j) - v[j];
+                    pred[j] = freeRow;
+                    columnList[j] = j;
+                }
+
+                /*
+                    columnList[0, low) - columns, which are already scanned;
+                    columnList[low, up) - columns with distance equal to min, which are to be scanned;
+                    columnList[up, n) - columns, which are not reached by shortest paths yet.
+                 */
+                int low = 0;
+                int up = 0;
+                int last = 0;
+                long min = 0;
+                int endOfPath = -1;
+                while (endOfPath == -1) {
+                    if (up == low) {
+                        last = low - 1;
+                        // find columns with new minimal distance
+                        min = d[columnList[up++]];
+                        for (int k = up; k < n; k++) {
+                            final int j = columnList[k];
+                            final long h = d[j];
+                            if (h <= min) {
+                                if (h < min) {
+                                    up = low;
+                                    min = h;
+                                }
+                                columnList[k] = columnList[up];
+                                columnList[up++] = j;
+                            }
+                        }
+                        for (int k = low; k < up; k++) {
+                            if (y[columnList[k]] == -1) {
+                                endOfPath = columnList[k];
+                                break;
+                            }
+                        }
+                    }
+
+                    if (endOfPath == -1) {
+                        // scan the row of the next column with minimal distance
+                        final int j1 = columnList[low++];
+                        final int i = y[j1];
+                        final long h = getCost(i, j1) - v[j1] - min;
+                        for (int k = up; k < n; k++) {
+                            final int j = columnList[k];
+                            final long distance = getCost(i, j) - v[j] - h;
+                            if (distance < d[j]) {
+                                pred[j] = i;
+                                if (distance == min) {
+                                    if (y[j] == -1) {
+                                        endOfPath = j;
+                                        break;
+                                    }
+                                    columnList[k] = columnList[up];
+                                    columnList[up++] = j;
+                                }
+                                d[j] = distance;
+                            }
+                        }
+                    }
+                }
+
+                // update prices of scanned columns
+                for (int k = 0; k <= last; k++) {
+                    final int j = columnList[k];
+                    v[j] += d[j] - min;
+                }
+
+                // augment along the path
+                int i;
+                do {
+                    i = pred[endOfPath];
+                    y[endOfPath] = i;
+                    final int j = endOfPath;
+                    endOfPath = x[i];
+                    x[i] = j;
+                } while (i != freeRow);
+            }
+        }
+    }
+}
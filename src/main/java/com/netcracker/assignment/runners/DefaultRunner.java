@@ -1,8 +1,15 @@
 package com.netcracker.assignment.runners;
 
 import com.netcracker.assignment.algorithms.AssignmentProblemSolver;
+import com.netcracker.assignment.algorithms.auction.AuctionAlgorithm;
+import com.netcracker.assignment.algorithms.auction.AuctionResult;
+import com.netcracker.assignment.algorithms.auction.IntegerAuctionAlgorithm;
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.BenefitMatrix;
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.basic.OptimalityCertificate;
+import com.netcracker.assignment.algorithms.auction.auxillary.logic.certificate.CertificateChecker;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -12,6 +19,7 @@ import static com.netcracker.assignment.utils.GeneralUtils.toLinkedMap;
 import static com.netcracker.assignment.utils.SolverSupplier.createSolverMap;
 import static com.netcracker.assignment.utils.Validator.containsDuplicates;
 import static com.netcracker.assignment.utils.io.MatrixReader.readMatricesFromFile;
+import static com.netcracker.assignment.utils.io.ResultPrinter.findTotalWeightForAssignment;
 import static com.netcracker.assignment.utils.io.ResultPrinter.printResults;
 import static java.lang.Thread.sleep;
 
@@ -27,11 +35,6 @@ public class DefaultRunner {
 
         // Find assignment for each cost matrix using each solver
         Map<int[][], Map<String, List<Integer>>> allAssignments = findAssignmentForEveryMatrix(matrixList, solverMap);
-//        //todo remove loop
-//        for(int i = 0; i < 300; i++){
-//            Map<int[][], Map<String, List<Integer>>> assignmentForEveryMatrix = findAssignmentForEveryMatrix(matrixList, solverMap);
-//            System.out.println(i+": "+assignmentForEveryMatrix);
-//        }
 
         // Make pause in order to clearly separate execution output and result output
         makePause(2000);
@@ -50,20 +53,51 @@ public class DefaultRunner {
                 ));
     }
 
+    /**
+     * Auction solvers are checked by the optimality certificate of their own result, so validation
+     * doesn't solve the problem again. Other solvers are compared with the certified optimum.
+     */
     public static Map<String, List<Integer>> findAssignmentUsingMultipleSolvers(int[][] matrix,
                                                                                 Map<String, AssignmentProblemSolver> solverMap) {
-        final Map<String, List<Integer>> assignmentsForMatrix = solverMap
-                .entrySet()
-                .stream()
-                .collect(toLinkedMap(
-                        Map.Entry::getKey,
-                        solverEntry -> findAssignmentUsingOneSolver(matrix, solverEntry.getValue())
-                ));
-        // todo replace with assertion for same total weight
-//        makeAssertion(assignmentsAreSame(assignmentsForMatrix));
+        final BenefitMatrix benefitMatrix = BenefitMatrix.createRowMajor(matrix);
+        final Map<String, List<Integer>> assignmentsForMatrix = new LinkedHashMap<>();
+        Long certifiedOptimum = null;
+        for (Map.Entry<String, AssignmentProblemSolver> solverEntry : solverMap.entrySet()) {
+            final String solverName = solverEntry.getKey();
+            final AuctionResult result = solveWithCertificate(benefitMatrix, solverEntry.getValue());
+            if (result == null) {
+                assignmentsForMatrix.put(solverName, findAssignmentUsingOneSolver(matrix, solverEntry.getValue()));
+            } else {
+                final OptimalityCertificate certificate = CertificateChecker.check(result);
+                makeAssertion(certificate.isOptimal(), solverName + " is not optimal: " + certificate);
+                certifiedOptimum = certificate.getPrimalValue();
+                final List<Integer> assignmentList = convertArrayToList(result.getAssignment());
+                makeAssertion(!containsDuplicates(assignmentList));
+                assignmentsForMatrix.put(solverName, assignmentList);
+            }
+        }
+        if (certifiedOptimum != null) {
+            final long optimum = certifiedOptimum;
+            assignmentsForMatrix.forEach((solverName, assignment) -> makeAssertion(
+                    findTotalWeightForAssignment(matrix, assignment) == optimum,
+                    solverName + " is not optimal"));
+        }
         return assignmentsForMatrix;
     }
 
+    /**
+     * @return result of auction solver, which can be certified, or null for other solvers
+     */
+    private static AuctionResult solveWithCertificate(BenefitMatrix benefitMatrix, AssignmentProblemSolver solver) {
+        if (solver instanceof AuctionAlgorithm) {
+            return ((AuctionAlgorithm) solver).solve(benefitMatrix);
+        }
+        if (solver instanceof IntegerAuctionAlgorithm) {
+            return ((IntegerAuctionAlgorithm) solver).solve(benefitMatrix).toAuctionResult();
+        }
+        return null;
+    }
+
     public static List<Integer> findAssignmentUsingOneSolver(int[][] matrix,
                                                              AssignmentProblemSolver solver) {
         final int[] assignmentArray = solver.findMaxCostAssignment(matrix);
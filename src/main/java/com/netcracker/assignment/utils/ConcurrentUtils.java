@@ -3,10 +3,60 @@ package com.netcracker.assignment.utils;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 public class ConcurrentUtils {
 
+    public final static String DEFAULT_THREAD_NAME_PREFIX = "auction-worker";
+
+    /**
+     * Shared executor, which is used by parallel auction implementations unless another one is injected.
+     * <p>
+     * It is created on first use and lives as long as the application: its threads are daemons and
+     * are kept alive between phases and solves (thread creation costs more than a whole phase
+     * for mid-sized problems). It must NOT be shut down by implementations.
+     *
+     * @return work-stealing pool with one thread per available processor
+     */
+    public static ForkJoinPool getDefaultExecutorService() {
+        return DefaultExecutorHolder.DEFAULT_EXECUTOR;
+    }
+
+    /**
+     * @param parallelism
+     * @param threadNamePrefix threads are named prefix-1, prefix-2, etc.
+     * @return work-stealing pool with daemon threads, caller is responsible for shutting it down
+     */
+    public static ForkJoinPool createForkJoinPool(int parallelism, String threadNamePrefix) {
+        final AtomicInteger threadCounter = new AtomicInteger();
+        return new ForkJoinPool(
+                parallelism,
+                pool -> {
+                    final ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+                    thread.setName(threadNamePrefix + "-" + threadCounter.incrementAndGet());
+                    return thread;
+                },
+                null,
+                false
+        );
+    }
+
+    /**
+     * Shuts executor down and waits for already submitted tasks.
+     *
+     * @return true if executor terminated before timeout
+     */
+    public static boolean shutdownAndAwaitTermination(ExecutorService executorService, long timeout, TimeUnit unit) {
+        executorService.shutdown();
+        try {
+            return executorService.awaitTermination(timeout, unit);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
 
     public static <T> List<T> executeCallableList(List<? extends Callable<T>> callableList, ExecutorService executorService) {
         try {
@@ -52,9 +102,7 @@ public class ConcurrentUtils {
     }
 
     public static void executeRunnableInParallel(Runnable runnable, int numberOfThreads) {
-        ExecutorService executorService = createExecutorService(numberOfThreads);
-        executeRunnableInParallel(runnable, numberOfThreads, executorService);
-        executorService.shutdown();
+        executeRunnableInParallel(runnable, numberOfThreads, getDefaultExecutorService());
     }
 
     public static void executeRunnableInParallel(Runnable runnable, int numberOfThreads, ExecutorService executorService) {
@@ -78,4 +126,11 @@ public class ConcurrentUtils {
             }
         });
     }
+
+    private static class DefaultExecutorHolder {
+        private final static ForkJoinPool DEFAULT_EXECUTOR = createForkJoinPool(
+                Runtime.getRuntime().availableProcessors(),
+                DEFAULT_THREAD_NAME_PREFIX
+        );
+    }
 }
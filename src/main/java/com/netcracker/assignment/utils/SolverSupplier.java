@@ -2,12 +2,20 @@ package com.netcracker.assignment.utils;
 
 import com.netcracker.assignment.algorithms.AssignmentProblemSolver;
 import com.netcracker.assignment.algorithms.auction.AuctionAlgorithm;
+import com.netcracker.assignment.algorithms.auction.IntegerAuctionAlgorithm;
 import com.netcracker.assignment.algorithms.auction.implementation.AuctionImplementation;
 import com.netcracker.assignment.algorithms.auction.implementation.asynchronous.AsynchronousJacobi;
+import com.netcracker.assignment.algorithms.auction.implementation.asynchronous.LockFreeJacobi;
+import com.netcracker.assignment.algorithms.auction.implementation.primitive.CandidateGaussSeidel;
+import com.netcracker.assignment.algorithms.auction.implementation.primitive.ForwardReverseAuction;
+import com.netcracker.assignment.algorithms.auction.implementation.primitive.PrimitiveGaussSeidel;
+import com.netcracker.assignment.algorithms.auction.implementation.primitive.PrimitiveJacobi;
 import com.netcracker.assignment.algorithms.auction.implementation.synchronous.SynchronousGaussSeidel;
 import com.netcracker.assignment.algorithms.auction.implementation.synchronous.SynchronousHybrid;
 import com.netcracker.assignment.algorithms.auction.implementation.synchronous.SynchronousJacobi;
+import com.netcracker.assignment.algorithms.auction.implementation.truesynchronous.TrueSynchronousGaussSeidel;
 import com.netcracker.assignment.algorithms.hungarian.HungarianAlgorithm;
+import com.netcracker.assignment.algorithms.jonkervolgenant.JonkerVolgenantAlgorithm;
 
 import java.util.LinkedHashMap;
 import java.util.Map;
@@ -17,6 +25,8 @@ public class SolverSupplier {
     public static Map<String, AssignmentProblemSolver> createSolverMap() {
         Map<String, AssignmentProblemSolver> solverMap = new LinkedHashMap<>();
         solverMap.put("Hungarian", new HungarianAlgorithm());
+        solverMap.put("JonkerVolgenant", new JonkerVolgenantAlgorithm());
+        solverMap.put("IntegerAuction", new IntegerAuctionAlgorithm());
         createAuctionImplementationMap().forEach(
                 (name, implementation) ->
                         solverMap.put(name, new AuctionAlgorithm(implementation))
@@ -59,6 +69,43 @@ public class SolverSupplier {
                 )
         );
 
+        auctionImplementationMap.put(
+                "LockFreeJacobi",
+                new LockFreeJacobi(
+                        4
+                )
+        );
+
+        auctionImplementationMap.put(
+                "PrimitiveGaussSeidel",
+                new PrimitiveGaussSeidel()
+        );
+
+        auctionImplementationMap.put(
+                "CandidateGaussSeidel",
+                new CandidateGaussSeidel()
+        );
+
+        auctionImplementationMap.put(
+                "PrimitiveJacobi",
+                new PrimitiveJacobi(
+                        4,
+                        4
+                )
+        );
+
+        auctionImplementationMap.put(
+                "TrueSynchronousGaussSeidel",
+                new TrueSynchronousGaussSeidel(
+                        4
+                )
+        );
+
+        auctionImplementationMap.put(
+                "ForwardReverse",
+                new ForwardReverseAuction()
+        );
+
         return auctionImplementationMap;
     }
 }
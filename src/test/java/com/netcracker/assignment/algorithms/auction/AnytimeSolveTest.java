@@ -0,0 +1,77 @@
+package com.netcracker.assignment.algorithms.auction;
+
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.BenefitMatrix;
+import com.netcracker.assignment.algorithms.auction.implementation.primitive.PrimitiveGaussSeidel;
+import com.netcracker.assignment.algorithms.jonkervolgenant.JonkerVolgenantAlgorithm;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static com.netcracker.assignment.utils.GeneralUtils.convertArrayToList;
+import static com.netcracker.assignment.utils.Validator.containsDuplicates;
+import static com.netcracker.assignment.utils.io.ResultPrinter.findTotalWeightForAssignment;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class AnytimeSolveTest {
+
+    @Test
+    public void expiredDeadlineReturnsFirstPhaseWithinGap() {
+        final int[][] matrix = createMatrix(new Random(20), 100, 100_000);
+        final AuctionResult result = new AuctionAlgorithm(new PrimitiveGaussSeidel())
+                .solve(BenefitMatrix.createRowMajor(matrix), 0, TimeUnit.MILLISECONDS);
+
+        assertEquals(1, result.getNumberOfPhases());
+        assertFalse(result.isFinished());
+        assertFalse(containsDuplicates(convertArrayToList(result.getAssignment())));
+        final int optimalWeight = totalWeight(matrix, new JonkerVolgenantAlgorithm().findMaxCostAssignment(matrix));
+        assertTrue(optimalWeight - totalWeight(matrix, result.getAssignment()) <= result.getMaxSuboptimality());
+    }
+
+    @Test
+    public void generousDeadlineFinishesWholeSequence() {
+        final int[][] matrix = createMatrix(new Random(20), 100, 1000);
+        final AuctionResult result = new AuctionAlgorithm(new PrimitiveGaussSeidel())
+                .solve(BenefitMatrix.createRowMajor(matrix), 1, TimeUnit.MINUTES);
+
+        assertTrue(result.isFinished());
+        assertTrue(result.getMaxSuboptimality() < 1.0);
+        assertEquals(totalWeight(matrix, new JonkerVolgenantAlgorithm().findMaxCostAssignment(matrix)),
+                totalWeight(matrix, result.getAssignment()));
+    }
+
+    @Test
+    public void provablyOptimalPhaseEndsSequence() {
+        // diagonal dominates, so the optimum is found at once and later phases only shrink the gap
+        final int n = 50;
+        final int[][] matrix = createMatrix(new Random(21), n, 10);
+        for (int person = 0; person < n; person++) {
+            matrix[person][person] = 1000;
+        }
+        final AuctionResult result = new AuctionAlgorithm(new PrimitiveGaussSeidel(),
+                problemSize -> Arrays.asList(10.0, 1.0, 0.1, 0.01, 0.001, 1.0 / (problemSize + 1)))
+                .solve(BenefitMatrix.createRowMajor(matrix));
+
+        assertTrue(result.getNumberOfPhases() < 6);
+        assertTrue(result.isFinished());
+        assertTrue(result.getMaxSuboptimality() < 1.0);
+        assertEquals(n * 1000, totalWeight(matrix, result.getAssignment()));
+    }
+
+    private static int[][] createMatrix(Random random, int n, int maxBenefit) {
+        final int[][] matrix = new int[n][n];
+        for (int[] row : matrix) {
+            for (int j = 0; j < n; j++) {
+                row[j] = random.nextInt(maxBenefit);
+            }
+        }
+        return matrix;
+    }
+
+    private static int totalWeight(int[][] matrix, int[] assignment) {
+        return findTotalWeightForAssignment(matrix, convertArrayToList(assignment));
+    }
+}
@@ -0,0 +1,86 @@
+package com.netcracker.assignment.algorithms.auction;
+
+import com.netcracker.assignment.algorithms.auction.auxillary.logic.epsilonscaling.EpsilonSequenceProducer;
+import com.netcracker.assignment.algorithms.auction.implementation.primitive.PrimitiveGaussSeidel;
+import com.netcracker.assignment.algorithms.hungarian.HungarianAlgorithm;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static com.netcracker.assignment.utils.GeneralUtils.convertArrayToList;
+import static com.netcracker.assignment.utils.io.ResultPrinter.findTotalWeightForAssignment;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class AuctionSessionTest {
+
+    private final static EpsilonSequenceProducer EPSILON_PRODUCER =
+            problemSize -> Arrays.asList(10.0, 1.0, 0.25, 1.0 / (problemSize + 1));
+
+    @Test
+    public void sessionStaysOptimalAfterUpdates() throws Exception {
+        final AuctionAlgorithm solver = new AuctionAlgorithm(new PrimitiveGaussSeidel(), EPSILON_PRODUCER);
+        assertSessionStaysOptimal(solver, new Random(31), new int[][]{{30, 30}, {20, 35}}, 30);
+    }
+
+    @Test
+    public void sessionWithDefaultEpsilonSequenceStaysOptimal() throws Exception {
+        // default sequence often stops early, before the epsilon is small enough for the session
+        final AuctionAlgorithm solver = new AuctionAlgorithm(new PrimitiveGaussSeidel());
+        final Random random = new Random(32);
+        for (int session = 0; session < 40; session++) {
+            assertSessionStaysOptimal(solver, random, new int[][]{{5, 5}, {4, 7}}, 60);
+        }
+        assertSessionStaysOptimal(solver, random, new int[][]{{30, 30}}, 30);
+    }
+
+    private static void assertSessionStaysOptimal(AuctionAlgorithm solver, Random random, int[][] sizes, int numberOfTicks) {
+        for (int[] size : sizes) {
+            final int numberOfPersons = size[0];
+            final int numberOfItems = size[1];
+            final int[][] matrix = new int[numberOfPersons][numberOfItems];
+            for (int[] row : matrix) {
+                fillRandom(random, row);
+            }
+            final AuctionSession session = AuctionSession.create(solver, matrix);
+            assertTrue(numberOfPersons * session.getEpsilon() < 1.0);
+
+            for (int tick = 0; tick < numberOfTicks; tick++) {
+                switch (tick % 3) {
+                    case 0: {
+                        final int person = random.nextInt(numberOfPersons);
+                        final int item = random.nextInt(numberOfItems);
+                        matrix[person][item] = random.nextInt(1000);
+                        session.updateBenefit(person, item, matrix[person][item]);
+                        break;
+                    }
+                    case 1: {
+                        final int person = random.nextInt(numberOfPersons);
+                        fillRandom(random, matrix[person]);
+                        session.updatePerson(person, matrix[person].clone());
+                        break;
+                    }
+                    default: {
+                        final int item = random.nextInt(numberOfItems);
+                        final int[] column = new int[numberOfPersons];
+                        fillRandom(random, column);
+                        for (int person = 0; person < numberOfPersons; person++) {
+                            matrix[person][item] = column[person];
+                        }
+                        session.updateItem(item, column);
+                    }
+                }
+                final int expected = findTotalWeightForAssignment(matrix, convertArrayToList(new HungarianAlgorithm().findMaxCostAssignment(matrix)));
+                assertEquals(expected, findTotalWeightForAssignment(matrix, convertArrayToList(session.getAssignment())));
+                assertEquals(0, session.getNumberOfPendingPersons());
+            }
+        }
+    }
+
+    private static void fillRandom(Random random, int[] array) {
+        for (int i = 0; i < array.length; i++) {
+            array[i] = random.nextInt(1000);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.netcracker.assignment.algorithms.auction;
+
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.BenefitMatrix;
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.basic.OptimalityCertificate;
+import com.netcracker.assignment.algorithms.auction.auxillary.logic.certificate.CertificateChecker;
+import com.netcracker.assignment.algorithms.jonkervolgenant.JonkerVolgenantAlgorithm;
+import org.junit.Test;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class IntegerAuctionAlgorithmTest {
+
+    @Test
+    public void findsOptimalAssignment() {
+        final Random random = new Random(19);
+        final IntegerAuctionAlgorithm solver = new IntegerAuctionAlgorithm();
+        for (int[] size : new int[][]{{1, 1}, {1, 4}, {30, 30}, {120, 120}, {50, 90}}) {
+            // small range gives many ties, large one checks that scaled values don't overflow
+            for (int maxBenefit : new int[]{3, 1000, 1_000_000_000}) {
+                final int[][] matrix = new int[size[0]][size[1]];
+                for (int[] row : matrix) {
+                    for (int j = 0; j < row.length; j++) {
+                        row[j] = random.nextInt(maxBenefit) - maxBenefit / 2;
+                    }
+                }
+                final int[] expected = new JonkerVolgenantAlgorithm().findMaxCostAssignment(matrix);
+                assertEquals(totalWeight(matrix, expected), totalWeight(matrix, solver.findMaxCostAssignment(matrix)));
+            }
+        }
+    }
+
+    @Test
+    public void warmStartFromUnchangedMatrixNeedsSinglePhase() {
+        final Random random = new Random(20);
+        final int[][] matrix = new int[40][70];
+        for (int[] row : matrix) {
+            for (int j = 0; j < row.length; j++) {
+                row[j] = random.nextInt(1000);
+            }
+        }
+        final IntegerAuctionAlgorithm solver = new IntegerAuctionAlgorithm();
+        final BenefitMatrix benefitMatrix = BenefitMatrix.createRowMajor(matrix);
+        final IntegerAuctionResult coldResult = solver.solve(benefitMatrix);
+        final IntegerAuctionResult warmResult = solver.solve(benefitMatrix, coldResult);
+
+        assertEquals(1, warmResult.getNumberOfPhases());
+        assertArrayEquals(coldResult.getAssignment(), warmResult.getAssignment());
+        assertTrue(warmResult.isOptimal());
+    }
+
+    @Test
+    public void resultIsCertifiedInOriginalUnits() {
+        final Random random = new Random(21);
+        for (int[] size : new int[][]{{60, 60}, {35, 80}}) {
+            final int[][] matrix = new int[size[0]][size[1]];
+            for (int[] row : matrix) {
+                for (int j = 0; j < row.length; j++) {
+                    row[j] = random.nextInt(100_000);
+                }
+            }
+            final IntegerAuctionResult result = new IntegerAuctionAlgorithm().solve(BenefitMatrix.createRowMajor(matrix));
+            assertTrue(result.isOptimal());
+            assertEquals(size[0] + 1, result.getScale());
+
+            final OptimalityCertificate certificate = CertificateChecker.check(result.toAuctionResult());
+            assertTrue(certificate.toString(), certificate.getGap() < 1.0);
+            assertEquals(totalWeight(matrix, new JonkerVolgenantAlgorithm().findMaxCostAssignment(matrix)), certificate.getPrimalValue());
+        }
+    }
+
+    @Test
+    public void expiredDeadlineReturnsFirstPhase() {
+        final Random random = new Random(22);
+        final int[][] matrix = new int[100][100];
+        for (int[] row : matrix) {
+            for (int j = 0; j < row.length; j++) {
+                row[j] = random.nextInt(100_000);
+            }
+        }
+        final IntegerAuctionResult result = new IntegerAuctionAlgorithm()
+                .solve(BenefitMatrix.createRowMajor(matrix), 0, TimeUnit.MILLISECONDS);
+
+        assertEquals(1, result.getNumberOfPhases());
+        assertFalse(result.isFinished());
+        assertTrue(result.getFinalEpsilon() > 1);
+    }
+
+    private static long totalWeight(int[][] matrix, int[] assignment) {
+        long totalWeight = 0;
+        for (int person = 0; person < assignment.length; person++) {
+            totalWeight += matrix[person][assignment[person]];
+        }
+        return totalWeight;
+    }
+}
@@ -0,0 +1,86 @@
+package com.netcracker.assignment.algorithms.auction;
+
+import com.netcracker.assignment.algorithms.AssignmentProblemSolver;
+import com.netcracker.assignment.algorithms.SparseAssignmentProblemSolver;
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.SparseBenefitMatrix;
+import com.netcracker.assignment.algorithms.auction.auxillary.logic.epsilonscaling.EpsilonSequenceProducer;
+import com.netcracker.assignment.algorithms.auction.implementation.primitive.PrimitiveGaussSeidel;
+import com.netcracker.assignment.algorithms.auction.implementation.primitive.PrimitiveJacobi;
+import com.netcracker.assignment.algorithms.auction.implementation.synchronous.SynchronousJacobi;
+import com.netcracker.assignment.algorithms.hungarian.HungarianAlgorithm;
+import com.netcracker.assignment.algorithms.hungarian.SparseHungarianAlgorithm;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static com.netcracker.assignment.utils.GeneralUtils.convertArrayToList;
+import static com.netcracker.assignment.utils.io.ResultPrinter.findTotalWeightForAssignment;
+import static org.junit.Assert.assertEquals;
+
+public class RectangularAssignmentTest {
+
+    private final static EpsilonSequenceProducer EPSILON_PRODUCER =
+            problemSize -> Arrays.asList(10.0, 1.0, 0.25, 1.0 / (problemSize + 1));
+
+    private final static int[][] SIZES = {{1, 3}, {2, 5}, {5, 6}, {10, 40}, {30, 45}};
+
+    @Test
+    public void hungarianMatchesPaddedSquareProblem() throws Exception {
+        final Random random = new Random(11);
+        for (int[] size : SIZES) {
+            final int[][] matrix = createRandomMatrix(random, size[0], size[1]);
+            final int[][] paddedMatrix = Arrays.copyOf(matrix, size[1]);
+            for (int person = size[0]; person < size[1]; person++) {
+                paddedMatrix[person] = new int[size[1]];
+            }
+            final int expected = findTotalWeightForAssignment(paddedMatrix, convertArrayToList(new HungarianAlgorithm().findMaxCostAssignment(paddedMatrix)));
+            assertEquals(expected, findTotalWeight(matrix, new HungarianAlgorithm().findMaxCostAssignment(matrix)));
+
+            final SparseAssignmentProblemSolver sparseSolver = new SparseHungarianAlgorithm();
+            assertEquals(expected, findTotalWeight(matrix, sparseSolver.findMaxCostAssignment(SparseBenefitMatrix.createFromDense(matrix, -1))));
+        }
+    }
+
+    @Test
+    public void auctionFindsOptimalAssignment() throws Exception {
+        final List<AssignmentProblemSolver> solverList = Arrays.asList(
+                new AuctionAlgorithm(new PrimitiveGaussSeidel(), EPSILON_PRODUCER),
+                new AuctionAlgorithm(new PrimitiveJacobi(4, 2), EPSILON_PRODUCER),
+                new AuctionAlgorithm(new SynchronousJacobi(4, 2), EPSILON_PRODUCER)
+        );
+        final Random random = new Random(12);
+        for (int[] size : SIZES) {
+            final int[][] matrix = createRandomMatrix(random, size[0], size[1]);
+            final int expected = findTotalWeight(matrix, new HungarianAlgorithm().findMaxCostAssignment(matrix));
+            for (AssignmentProblemSolver solver : solverList) {
+                assertEquals(expected, findTotalWeight(matrix, solver.findMaxCostAssignment(matrix)));
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void auctionRejectsMorePersonsThanItems() throws Exception {
+        new AuctionAlgorithm(new PrimitiveGaussSeidel()).findMaxCostAssignment(createRandomMatrix(new Random(13), 3, 2));
+    }
+
+    private static int findTotalWeight(int[][] matrix, int[] assignment) {
+        final Set<Integer> itemSet = new HashSet<>(convertArrayToList(assignment));
+        assertEquals(matrix.length, assignment.length);
+        assertEquals(matrix.length, itemSet.size());
+        return findTotalWeightForAssignment(matrix, convertArrayToList(assignment));
+    }
+
+    private static int[][] createRandomMatrix(Random random, int numberOfPersons, int numberOfItems) {
+        final int[][] matrix = new int[numberOfPersons][numberOfItems];
+        for (int i = 0; i < numberOfPersons; i++) {
+            for (int j = 0; j < numberOfItems; j++) {
+                matrix[i][j] = random.nextInt(100);
+            }
+        }
+        return matrix;
+    }
+}
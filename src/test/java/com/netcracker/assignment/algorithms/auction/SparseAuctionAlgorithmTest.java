@@ -0,0 +1,113 @@
+package com.netcracker.assignment.algorithms.auction;
+
+import com.netcracker.assignment.algorithms.InfeasibleProblemException;
+import com.netcracker.assignment.algorithms.SparseAssignmentProblemSolver;
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.SparseBenefitMatrix;
+import com.netcracker.assignment.algorithms.auction.auxillary.logic.epsilonscaling.EpsilonSequenceProducer;
+import com.netcracker.assignment.algorithms.auction.implementation.sparse.SparseGaussSeidel;
+import com.netcracker.assignment.algorithms.auction.implementation.sparse.SparseJacobi;
+import com.netcracker.assignment.algorithms.hungarian.HungarianAlgorithm;
+import com.netcracker.assignment.algorithms.hungarian.SparseHungarianAlgorithm;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static com.netcracker.assignment.utils.GeneralUtils.convertArrayToList;
+import static com.netcracker.assignment.utils.io.ResultPrinter.findTotalWeightForAssignment;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+public class SparseAuctionAlgorithmTest {
+
+    private final static int FORBIDDEN = -1_000_000;
+
+    private final static EpsilonSequenceProducer EPSILON_PRODUCER =
+            problemSize -> Arrays.asList(10.0, 1.0, 0.25, 1.0 / (problemSize + 1));
+
+    @Test
+    public void sparseSolversFindOptimalAssignment() throws Exception {
+        final List<SparseAssignmentProblemSolver> solverList = Arrays.asList(
+                new SparseAuctionAlgorithm(new SparseGaussSeidel(), EPSILON_PRODUCER),
+                new SparseAuctionAlgorithm(new SparseJacobi(4, 2), EPSILON_PRODUCER),
+                new SparseHungarianAlgorithm()
+        );
+        final Random random = new Random(42);
+        for (int n : new int[]{1, 2, 7, 30, 80}) {
+            final int[][] matrix = createRandomSparseMatrix(random, n);
+            final SparseBenefitMatrix sparseMatrix = SparseBenefitMatrix.createFromDense(matrix, FORBIDDEN);
+            final int expected = findTotalWeightForAssignment(matrix, convertArrayToList(new HungarianAlgorithm().findMaxCostAssignment(matrix)));
+            for (SparseAssignmentProblemSolver solver : solverList) {
+                final int[] assignment = solver.findMaxCostAssignment(sparseMatrix);
+                assertEquals(expected, findTotalWeightForAssignment(matrix, convertArrayToList(assignment)));
+                for (int person = 0; person < n; person++) {
+                    assertNotEquals(FORBIDDEN, matrix[person][assignment[person]]);
+                }
+            }
+        }
+    }
+
+    // default epsilon sequence must end below 1/n, otherwise the result is only n * epsilon away from optimal
+    @Test
+    public void defaultEpsilonSequenceFindsOptimalAssignment() throws Exception {
+        for (int n : new int[]{1, 2, 100, 150, 1000}) {
+            final List<Double> epsilonSequence = SparseAuctionAlgorithm.DEFAULT_EPSILON_PRODUCER.getEpsilonSequence(n);
+            assertTrue(n * epsilonSequence.get(epsilonSequence.size() - 1) < 1.0);
+        }
+
+        // small differences on top of a wide range of benefits
+        final SparseAuctionAlgorithm solver = new SparseAuctionAlgorithm(new SparseGaussSeidel());
+        final Random random = new Random(5);
+        for (int n : new int[]{100, 150}) {
+            final int[][] matrix = new int[n][n];
+            for (int i = 0; i < n; i++) {
+                for (int j = 0; j < n; j++) {
+                    matrix[i][j] = i == j || random.nextInt(4) == 0
+                            ? 1_000_000 * random.nextInt(2) + random.nextInt(3)
+                            : FORBIDDEN;
+                }
+            }
+            final int expected = findTotalWeightForAssignment(matrix, convertArrayToList(new HungarianAlgorithm().findMaxCostAssignment(matrix)));
+            final int[] assignment = solver.findMaxCostAssignment(SparseBenefitMatrix.createFromDense(matrix, FORBIDDEN));
+            assertEquals(expected, findTotalWeightForAssignment(matrix, convertArrayToList(assignment)));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void jacobiRejectsNonPositiveNumberOfThreads() throws Exception {
+        new SparseJacobi(0, 2);
+    }
+
+    @Test(expected = InfeasibleProblemException.class)
+    public void auctionDetectsInfeasibleProblem() throws Exception {
+        new SparseAuctionAlgorithm(new SparseGaussSeidel()).findMaxCostAssignment(createInfeasibleMatrix());
+    }
+
+    @Test(expected = InfeasibleProblemException.class)
+    public void hungarianDetectsInfeasibleProblem() throws Exception {
+        new SparseHungarianAlgorithm().findMaxCostAssignment(createInfeasibleMatrix());
+    }
+
+    private static SparseBenefitMatrix createInfeasibleMatrix() {
+        // persons 0 and 1 can only take item 0
+        return SparseBenefitMatrix.create(
+                3,
+                new int[]{0, 1, 2, 5},
+                new int[]{0, 0, 0, 1, 2},
+                new int[]{5, 7, 1, 2, 3}
+        );
+    }
+
+    private static int[][] createRandomSparseMatrix(Random random, int n) {
+        final int[][] matrix = new int[n][n];
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                // diagonal is always admissible, so the problem is feasible
+                matrix[i][j] = i == j || random.nextInt(10) == 0 ? random.nextInt(100) : FORBIDDEN;
+            }
+        }
+        return matrix;
+    }
+}
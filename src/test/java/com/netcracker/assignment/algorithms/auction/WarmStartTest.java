@@ -0,0 +1,79 @@
+package com.netcracker.assignment.algorithms.auction;
+
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.BenefitMatrix;
+import com.netcracker.assignment.algorithms.auction.auxillary.logic.epsilonscaling.EpsilonSequenceProducer;
+import com.netcracker.assignment.algorithms.auction.implementation.primitive.PrimitiveGaussSeidel;
+import com.netcracker.assignment.algorithms.hungarian.HungarianAlgorithm;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static com.netcracker.assignment.utils.GeneralUtils.convertArrayToList;
+import static com.netcracker.assignment.utils.io.ResultPrinter.findTotalWeightForAssignment;
+import static org.junit.Assert.assertEquals;
+
+public class WarmStartTest {
+
+    private final static EpsilonSequenceProducer EPSILON_PRODUCER =
+            problemSize -> Arrays.asList(100.0, 10.0, 1.0, 0.25, 1.0 / (problemSize + 1));
+
+    @Test
+    public void warmStartFindsOptimalAssignmentForChangedMatrix() throws Exception {
+        final AuctionAlgorithm solver = new AuctionAlgorithm(new PrimitiveGaussSeidel(), EPSILON_PRODUCER);
+        final Random random = new Random(21);
+        for (int[] size : new int[][]{{40, 40}, {25, 60}}) {
+            int[][] matrix = createRandomMatrix(random, size[0], size[1]);
+            AuctionResult result = solver.solve(BenefitMatrix.createRowMajor(matrix));
+            for (int step = 0; step < 5; step++) {
+                matrix = perturb(random, matrix, 3);
+                result = solver.solve(BenefitMatrix.createRowMajor(matrix), result);
+                final int expected = findTotalWeightForAssignment(matrix, convertArrayToList(new HungarianAlgorithm().findMaxCostAssignment(matrix)));
+                assertEquals(expected, findTotalWeightForAssignment(matrix, convertArrayToList(result.getAssignment())));
+            }
+        }
+    }
+
+    @Test
+    public void unchangedMatrixNeedsSinglePhase() throws Exception {
+        final AuctionAlgorithm solver = new AuctionAlgorithm(new PrimitiveGaussSeidel(), EPSILON_PRODUCER);
+        final BenefitMatrix benefitMatrix = BenefitMatrix.createRowMajor(createRandomMatrix(new Random(22), 30, 30));
+        final AuctionResult coldResult = solver.solve(benefitMatrix);
+        final AuctionResult warmResult = solver.solve(benefitMatrix, coldResult);
+        assertEquals(1, warmResult.getNumberOfPhases());
+        assertEquals(coldResult.getFinalEpsilon(), warmResult.getFinalEpsilon(), 0.0);
+    }
+
+    @Test
+    public void warmSequenceSkipsCoarseEpsilons() throws Exception {
+        assertEquals(
+                Arrays.asList(5.0, 1.0, 0.25),
+                AuctionAlgorithm.createWarmEpsilonSequence(Arrays.asList(100.0, 10.0, 1.0, 0.25), 5.0)
+        );
+        assertEquals(
+                Arrays.asList(100.0, 10.0, 1.0, 0.25),
+                AuctionAlgorithm.createWarmEpsilonSequence(Arrays.asList(100.0, 10.0, 1.0, 0.25), 500.0)
+        );
+    }
+
+    private static int[][] perturb(Random random, int[][] matrix, int maxChange) {
+        final int[][] perturbed = new int[matrix.length][];
+        for (int i = 0; i < matrix.length; i++) {
+            perturbed[i] = matrix[i].clone();
+            for (int j = 0; j < perturbed[i].length; j++) {
+                perturbed[i][j] = Math.max(0, perturbed[i][j] + random.nextInt(2 * maxChange + 1) - maxChange);
+            }
+        }
+        return perturbed;
+    }
+
+    private static int[][] createRandomMatrix(Random random, int numberOfPersons, int numberOfItems) {
+        final int[][] matrix = new int[numberOfPersons][numberOfItems];
+        for (int i = 0; i < numberOfPersons; i++) {
+            for (int j = 0; j < numberOfItems; j++) {
+                matrix[i][j] = random.nextInt(1000);
+            }
+        }
+        return matrix;
+    }
+}
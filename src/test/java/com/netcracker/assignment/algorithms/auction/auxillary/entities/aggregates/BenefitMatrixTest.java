@@ -0,0 +1,95 @@
+package com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class BenefitMatrixTest {
+
+    private final static int[][] BENEFIT_MATRIX = {
+            {13, 2, 4, 8, 2, 19, 6},
+            {2, 0, 3, 19, 19, 9, 4},
+            {4, 15, 9, 0, 1, 4, 15},
+            {1, 0, 3, 5, 11, 3, 9},
+            {18, 14, 6, 4, 3, 14, 13}
+    };
+
+    @Test
+    public void allLayoutsContainSameBenefits() throws Exception {
+        for (BenefitMatrix benefitMatrix : createAllLayouts()) {
+            assertEquals(5, benefitMatrix.getNumberOfPersons());
+            assertEquals(7, benefitMatrix.getNumberOfItems());
+            for (int person = 0; person < 5; person++) {
+                for (int item = 0; item < 7; item++) {
+                    assertEquals(BENEFIT_MATRIX[person][item], benefitMatrix.getBenefit(person, item));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void rowSegmentsCoverWholeRow() throws Exception {
+        for (BenefitMatrix benefitMatrix : createAllLayouts()) {
+            final int[] storage = benefitMatrix.getStorage();
+            for (int person = 0; person < 5; person++) {
+                int item = 0;
+                while (item < 7) {
+                    final int segmentEnd = benefitMatrix.getSegmentEnd(item);
+                    final int offset = benefitMatrix.getOffset(person, item);
+                    for (int i = 0; item < segmentEnd; i++, item++) {
+                        assertEquals(BENEFIT_MATRIX[person][item], storage[offset + i]);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void transposeSwapsPersonsAndItems() throws Exception {
+        for (BenefitMatrix benefitMatrix : createAllLayouts()) {
+            final BenefitMatrix transposed = benefitMatrix.transpose();
+            assertEquals(7, transposed.getNumberOfPersons());
+            assertEquals(5, transposed.getNumberOfItems());
+            assertEquals(BENEFIT_MATRIX[3][4], transposed.getBenefit(4, 3));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void tooLargeMatrixIsRejected() throws Exception {
+        BenefitMatrix.getNumberOfCells(65536, 65537);
+    }
+
+    @Test
+    public void sortedRowIndexListsEveryItemByDescendingBenefit() throws Exception {
+        for (BenefitMatrix benefitMatrix : createAllLayouts()) {
+            final SortedRowIndex sortedRowIndex = benefitMatrix.attachSortedRowIndex().getSortedRowIndex();
+            assertSame(sortedRowIndex, benefitMatrix.attachSortedRowIndex().getSortedRowIndex());
+            for (int person = 0; person < 5; person++) {
+                final boolean[] visited = new boolean[7];
+                for (int rank = 0; rank < 7; rank++) {
+                    final int item = sortedRowIndex.getItem(person, rank);
+                    visited[item] = true;
+                    if (rank > 0) {
+                        assertTrue(BENEFIT_MATRIX[person][sortedRowIndex.getItem(person, rank - 1)] >= BENEFIT_MATRIX[person][item]);
+                    }
+                }
+                for (boolean isVisited : visited) {
+                    assertTrue(isVisited);
+                }
+            }
+        }
+    }
+
+    private static List<BenefitMatrix> createAllLayouts() {
+        return Arrays.asList(
+                BenefitMatrix.createRowMajor(BENEFIT_MATRIX),
+                BenefitMatrix.createTiled(BENEFIT_MATRIX, 3),
+                BenefitMatrix.createColumnMajor(BENEFIT_MATRIX)
+        );
+    }
+}
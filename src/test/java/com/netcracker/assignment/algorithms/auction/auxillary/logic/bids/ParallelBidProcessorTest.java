@@ -0,0 +1,74 @@
+package com.netcracker.assignment.algorithms.auction.auxillary.logic.bids;
+
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.Assignment;
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.PersonQueue;
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.PriceVector;
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.item.ItemList;
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.basic.Bid;
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.basic.Item;
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.basic.Person;
+import com.netcracker.assignment.utils.ConcurrentUtils;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static com.netcracker.assignment.algorithms.auction.auxillary.logic.bids.BidAggregator.aggregateBids;
+import static com.netcracker.assignment.algorithms.auction.auxillary.logic.bids.BidProcessor.processBidsAndUpdateAssignmentForItemList;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class ParallelBidProcessorTest {
+
+    // several rounds with the same processor check that its arrays are reset between rounds
+    @Test
+    public void matchesSequentialAggregationAndProcessing() {
+        final Random random = new Random(16);
+        final int numberOfBidders = 5000;
+        final int numberOfItems = 3000;
+        final int numberOfPersons = numberOfBidders + numberOfItems;
+        final ParallelBidProcessor bidProcessor = ParallelBidProcessor.create(
+                numberOfPersons, numberOfItems, 4, ConcurrentUtils.getDefaultExecutorService());
+
+        for (int round = 0; round < 3; round++) {
+            // bidders are not owners, owners (if any) are the persons after the bidders
+            final Assignment expectedAssignment = Assignment.createInitialAssignment(numberOfPersons, numberOfItems);
+            final Assignment actualAssignment = Assignment.createInitialAssignment(numberOfPersons, numberOfItems);
+            for (int item = 0; item < numberOfItems; item++) {
+                if (random.nextBoolean()) {
+                    expectedAssignment.setPersonForItem(new Item(item), new Person(numberOfBidders + item));
+                    actualAssignment.setPersonForItem(new Item(item), new Person(numberOfBidders + item));
+                }
+            }
+            // distinct values, so the highest bid is unambiguous
+            final List<Bid> bidList = new ArrayList<>();
+            for (int person = 0; person < numberOfBidders; person++) {
+                bidList.add(new Bid(new Person(person), new Item(random.nextInt(numberOfItems)), person * 7919 % numberOfBidders + 0.5));
+            }
+
+            final PriceVector expectedPriceVector = PriceVector.createInitialPriceVector(numberOfItems);
+            final PersonQueue expectedQueue = PersonQueue.createFullPersonQueue(0);
+            processBidsAndUpdateAssignmentForItemList(
+                    expectedAssignment, expectedPriceVector, expectedQueue, ItemList.createFullItemList(numberOfItems), aggregateBids(bidList));
+
+            final PriceVector actualPriceVector = PriceVector.createInitialPriceVector(numberOfItems);
+            final PersonQueue actualQueue = PersonQueue.createFullPersonQueue(0);
+            bidProcessor.processBids(bidList, actualAssignment, actualPriceVector, actualQueue);
+
+            assertArrayEquals(expectedPriceVector.getPriceArray(), actualPriceVector.getPriceArray(), 0.0);
+            for (int item = 0; item < numberOfItems; item++) {
+                assertEquals(expectedAssignment.getPersonForItem(new Item(item)), actualAssignment.getPersonForItem(new Item(item)));
+            }
+            assertEquals(toSet(expectedQueue), toSet(actualQueue));
+        }
+    }
+
+    private static Set<Person> toSet(PersonQueue personQueue) {
+        final Set<Person> personSet = new HashSet<>();
+        personQueue.forEach(personSet::add);
+        return personSet;
+    }
+}
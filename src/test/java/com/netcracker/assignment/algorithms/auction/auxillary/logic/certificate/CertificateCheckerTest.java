@@ -0,0 +1,87 @@
+package com.netcracker.assignment.algorithms.auction.auxillary.logic.certificate;
+
+import com.netcracker.assignment.algorithms.auction.AuctionAlgorithm;
+import com.netcracker.assignment.algorithms.auction.AuctionResult;
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.BenefitMatrix;
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.basic.OptimalityCertificate;
+import com.netcracker.assignment.algorithms.auction.implementation.primitive.PrimitiveGaussSeidel;
+import com.netcracker.assignment.algorithms.jonkervolgenant.JonkerVolgenantAlgorithm;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static com.netcracker.assignment.utils.GeneralUtils.convertArrayToList;
+import static com.netcracker.assignment.utils.io.ResultPrinter.findTotalWeightForAssignment;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class CertificateCheckerTest {
+
+    private final static int[][] SIZES = {{5, 5}, {100, 100}, {300, 300}, {10, 40}, {150, 200}};
+
+    @Test
+    public void auctionResultIsCertifiedAsOptimal() throws Exception {
+        final Random random = new Random(21);
+        for (int[] size : SIZES) {
+            final int[][] matrix = createRandomMatrix(random, size[0], size[1]);
+            final AuctionResult result = new AuctionAlgorithm(new PrimitiveGaussSeidel()).solve(BenefitMatrix.createRowMajor(matrix));
+            final OptimalityCertificate certificate = CertificateChecker.check(result);
+
+            assertTrue(certificate.toString(), certificate.isOptimal());
+            assertTrue(certificate.satisfiesComplementarySlackness(result.getFinalEpsilon() + 1e-9));
+            final int optimalWeight = findTotalWeightForAssignment(matrix,
+                    convertArrayToList(new JonkerVolgenantAlgorithm().findMaxCostAssignment(matrix)));
+            assertEquals(optimalWeight, certificate.getPrimalValue());
+            assertTrue(certificate.getDualValue() >= optimalWeight - 1e-6);
+        }
+    }
+
+    @Test
+    public void gapBoundsLossOfSuboptimalAssignment() throws Exception {
+        final int[][] matrix = createRandomMatrix(new Random(22), 100, 100);
+        final AuctionResult result = new AuctionAlgorithm(new PrimitiveGaussSeidel()).solve(BenefitMatrix.createRowMajor(matrix));
+        final int[] assignment = result.getAssignment().clone();
+        final int optimalWeight = findTotalWeightForAssignment(matrix, convertArrayToList(assignment));
+        // swapping items of two persons can't make an optimal assignment better
+        int first = 0;
+        int second = 1;
+        for (int person = 1; person < matrix.length; person++) {
+            if (swapLoss(matrix, assignment, 0, person) > swapLoss(matrix, assignment, first, second)) {
+                second = person;
+            }
+        }
+        final int tmp = assignment[first];
+        assignment[first] = assignment[second];
+        assignment[second] = tmp;
+
+        final OptimalityCertificate certificate = CertificateChecker.check(
+                result.getBenefitMatrix(), assignment, result.getPriceVector());
+        final long loss = optimalWeight - certificate.getPrimalValue();
+        assertTrue(loss > 0);
+        assertFalse(certificate.isOptimal());
+        assertTrue(certificate.getGap() >= loss);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void duplicateItemIsRejected() throws Exception {
+        final int[][] matrix = createRandomMatrix(new Random(23), 3, 3);
+        final AuctionResult result = new AuctionAlgorithm(new PrimitiveGaussSeidel()).solve(BenefitMatrix.createRowMajor(matrix));
+        CertificateChecker.check(result.getBenefitMatrix(), new int[]{0, 0, 1}, result.getPriceVector());
+    }
+
+    private static int swapLoss(int[][] matrix, int[] assignment, int first, int second) {
+        return matrix[first][assignment[first]] + matrix[second][assignment[second]]
+                - matrix[first][assignment[second]] - matrix[second][assignment[first]];
+    }
+
+    private static int[][] createRandomMatrix(Random random, int numberOfPersons, int numberOfItems) {
+        final int[][] matrix = new int[numberOfPersons][numberOfItems];
+        for (int[] row : matrix) {
+            for (int j = 0; j < numberOfItems; j++) {
+                row[j] = random.nextInt(1000);
+            }
+        }
+        return matrix;
+    }
+}
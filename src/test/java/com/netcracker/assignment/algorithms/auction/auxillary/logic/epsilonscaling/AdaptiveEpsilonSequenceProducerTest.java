@@ -0,0 +1,86 @@
+package com.netcracker.assignment.algorithms.auction.auxillary.logic.epsilonscaling;
+
+import com.netcracker.assignment.algorithms.auction.AuctionAlgorithm;
+import com.netcracker.assignment.algorithms.auction.AuctionResult;
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.BenefitMatrix;
+import com.netcracker.assignment.algorithms.auction.implementation.primitive.PrimitiveGaussSeidel;
+import com.netcracker.assignment.algorithms.jonkervolgenant.JonkerVolgenantAlgorithm;
+import org.junit.Test;
+
+import java.util.OptionalDouble;
+import java.util.Random;
+
+import static com.netcracker.assignment.utils.GeneralUtils.convertArrayToList;
+import static com.netcracker.assignment.utils.io.ResultPrinter.findTotalWeightForAssignment;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class AdaptiveEpsilonSequenceProducerTest {
+
+    @Test
+    public void startsFromBenefitRangeAndEndsWithOptimalEpsilon() {
+        final BenefitMatrix benefitMatrix = BenefitMatrix.createRowMajor(new int[][]{{-500, 1500}, {0, 100}, {7, 8}});
+        final EpsilonSequence epsilonSequence = new AdaptiveEpsilonSequenceProducer().createEpsilonSequence(benefitMatrix);
+
+        assertEquals(0.2 * 2000, epsilonSequence.next(null).getAsDouble(), 0.0);
+
+        // cheap phases: epsilon drops by the minimal multiplier, until it reaches 1 / (n + 1)
+        final double[] noGrowth = new double[2];
+        double epsilon = 400.0;
+        int numberOfPhases = 1;
+        for (OptionalDouble next = nextAfterPhase(epsilonSequence, epsilon, noGrowth, noGrowth);
+             next.isPresent();
+             next = nextAfterPhase(epsilonSequence, epsilon, noGrowth, noGrowth)) {
+            assertTrue(next.getAsDouble() < epsilon);
+            epsilon = next.getAsDouble();
+            numberOfPhases++;
+        }
+        assertEquals(0.25, epsilon, 0.0);
+        assertEquals(5, numberOfPhases);
+    }
+
+    @Test
+    public void expensivePhaseIsFollowedBySmallerReduction() {
+        final AdaptiveEpsilonSequenceProducer producer = new AdaptiveEpsilonSequenceProducer();
+        final double[] pricesBefore = new double[10];
+        final double[] cheapPrices = new double[10];
+        final double[] expensivePrices = new double[10];
+        for (int item = 0; item < 10; item++) {
+            cheapPrices[item] = 1.0;
+            expensivePrices[item] = 1000.0;
+        }
+        final double cheapMultiplier = producer.chooseMultiplier(PhaseStatistics.create(0, 1.0, 10, 0, pricesBefore, cheapPrices));
+        final double expensiveMultiplier = producer.chooseMultiplier(PhaseStatistics.create(0, 1.0, 10, 0, pricesBefore, expensivePrices));
+        assertEquals(AdaptiveEpsilonSequenceProducer.DEFAULT_MIN_MULTIPLIER, cheapMultiplier, 0.0);
+        assertEquals(AdaptiveEpsilonSequenceProducer.DEFAULT_MAX_MULTIPLIER, expensiveMultiplier, 0.0);
+    }
+
+    @Test
+    public void solvesProblemWithLargeBenefits() {
+        final Random random = new Random(18);
+        final int[][] matrix = new int[150][200];
+        for (int[] row : matrix) {
+            for (int j = 0; j < row.length; j++) {
+                row[j] = random.nextInt(10_000_000);
+            }
+        }
+        final AuctionAlgorithm solver = new AuctionAlgorithm(new PrimitiveGaussSeidel(), new AdaptiveEpsilonSequenceProducer());
+        final AuctionResult result = solver.solve(BenefitMatrix.createRowMajor(matrix));
+
+        final int[] expected = new JonkerVolgenantAlgorithm().findMaxCostAssignment(matrix);
+        assertEquals(findTotalWeightForAssignment(matrix, convertArrayToList(expected)),
+                findTotalWeightForAssignment(matrix, convertArrayToList(result.getAssignment())));
+        // sequence ends at 1 / (m + 1), unless optimality is proven earlier
+        assertTrue(result.getFinalEpsilon() >= 1.0 / 151);
+        assertTrue(result.getMaxSuboptimality() < 1.0);
+        assertFalse(result.getNumberOfPhases() > 30);
+    }
+
+    private static OptionalDouble nextAfterPhase(EpsilonSequence epsilonSequence,
+                                                 double epsilon,
+                                                 double[] pricesBefore,
+                                                 double[] pricesAfter) {
+        return epsilonSequence.next(PhaseStatistics.create(0, epsilon, 3, 0, pricesBefore, pricesAfter));
+    }
+}
@@ -0,0 +1,102 @@
+package com.netcracker.assignment.algorithms.auction.auxillary.logic.epsilonscaling;
+
+import com.netcracker.assignment.algorithms.auction.AuctionAlgorithm;
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.Assignment;
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.BenefitMatrix;
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.PriceVector;
+import com.netcracker.assignment.algorithms.auction.implementation.AuctionImplementation;
+import com.netcracker.assignment.algorithms.auction.implementation.asynchronous.AsynchronousJacobi;
+import com.netcracker.assignment.algorithms.auction.implementation.asynchronous.LockFreeJacobi;
+import com.netcracker.assignment.algorithms.auction.implementation.primitive.ForwardReverseAuction;
+import com.netcracker.assignment.algorithms.auction.implementation.primitive.PrimitiveGaussSeidel;
+import com.netcracker.assignment.algorithms.auction.implementation.synchronous.SynchronousJacobi;
+import com.netcracker.assignment.algorithms.auction.implementation.truesynchronous.TrueSynchronousGaussSeidel;
+import com.netcracker.assignment.algorithms.jonkervolgenant.JonkerVolgenantAlgorithm;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static com.netcracker.assignment.utils.GeneralUtils.convertArrayToList;
+import static com.netcracker.assignment.utils.io.ResultPrinter.findTotalWeightForAssignment;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class PhaseTransitionTest {
+
+    private final static EpsilonSequenceProducer EPSILON_PRODUCER =
+            problemSize -> Arrays.asList(10.0, 1.0, 0.25, 1.0 / (problemSize + 1));
+
+    @Test
+    public void keptPersonsDontChangeOptimum() throws Exception {
+        final List<AuctionImplementation> implementationList = Arrays.asList(
+                new PrimitiveGaussSeidel(),
+                new TrueSynchronousGaussSeidel(2),
+                new LockFreeJacobi(2),
+                new SynchronousJacobi(2, 4),
+                new AsynchronousJacobi(2)
+        );
+        final Random random = new Random(23);
+        for (int[] size : new int[][]{{40, 40}, {30, 45}}) {
+            final int[][] matrix = createRandomMatrix(random, size[0], size[1]);
+            final int expected = findTotalWeight(matrix, new JonkerVolgenantAlgorithm().findMaxCostAssignment(matrix));
+            for (AuctionImplementation implementation : implementationList) {
+                final AuctionAlgorithm solver = new AuctionAlgorithm(
+                        implementation, EPSILON_PRODUCER, PhaseTransition.KEEP_HAPPY_PERSONS);
+                assertEquals(implementation.getClass().getSimpleName(),
+                        expected, findTotalWeight(matrix, solver.findMaxCostAssignment(matrix)));
+            }
+        }
+        final int[][] squareMatrix = createRandomMatrix(random, 40, 40);
+        assertEquals(findTotalWeight(squareMatrix, new JonkerVolgenantAlgorithm().findMaxCostAssignment(squareMatrix)),
+                findTotalWeight(squareMatrix, new AuctionAlgorithm(new ForwardReverseAuction(), EPSILON_PRODUCER,
+                        PhaseTransition.KEEP_HAPPY_PERSONS).findMaxCostAssignment(squareMatrix)));
+    }
+
+    @Test
+    public void happyPersonsKeepTheirItems() throws Exception {
+        final int[][] matrix = createRandomMatrix(new Random(24), 50, 50);
+        final BenefitMatrix benefitMatrix = BenefitMatrix.createRowMajor(matrix);
+        final PriceVector priceVector = PriceVector.createInitialPriceVector(50);
+        final Assignment assignment = new PrimitiveGaussSeidel().epsilonScalingPhase(benefitMatrix, priceVector, 1.0);
+
+        // every person is happy within the same epsilon (twice as much, to tolerate rounding)
+        final Assignment keptAssignment = PhaseTransition.KEEP_HAPPY_PERSONS
+                .createStartingAssignment(benefitMatrix, priceVector, assignment, 2.0);
+        assertEquals(0, keptAssignment.getNonAssignedPersons().length);
+
+        // with zero epsilon only persons with the best items are kept
+        final int[] reassigned = PhaseTransition.KEEP_HAPPY_PERSONS
+                .createStartingAssignment(benefitMatrix, priceVector, assignment, 0.0)
+                .getNonAssignedPersons();
+        final double[] priceArray = priceVector.getPriceArray();
+        final int[] personAssignment = assignment.getPersonAssignment();
+        for (int person : reassigned) {
+            final int item = personAssignment[person];
+            double bestValue = Double.NEGATIVE_INFINITY;
+            for (int j = 0; j < 50; j++) {
+                bestValue = Math.max(bestValue, matrix[person][j] - priceArray[j]);
+            }
+            assertTrue(matrix[person][item] - priceArray[item] < bestValue);
+        }
+
+        final Assignment emptyAssignment = PhaseTransition.REASSIGN_ALL
+                .createStartingAssignment(benefitMatrix, priceVector, assignment, 2.0);
+        assertEquals(50, emptyAssignment.getNonAssignedPersons().length);
+    }
+
+    private static int findTotalWeight(int[][] matrix, int[] assignment) {
+        return findTotalWeightForAssignment(matrix, convertArrayToList(assignment));
+    }
+
+    private static int[][] createRandomMatrix(Random random, int numberOfPersons, int numberOfItems) {
+        final int[][] matrix = new int[numberOfPersons][numberOfItems];
+        for (int[] row : matrix) {
+            for (int j = 0; j < numberOfItems; j++) {
+                row[j] = random.nextInt(100);
+            }
+        }
+        return matrix;
+    }
+}
@@ -0,0 +1,87 @@
+package com.netcracker.assignment.algorithms.auction.auxillary.logic.search;
+
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.BenefitMatrix;
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.CandidateLists;
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.basic.MutableSearchResult;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class SearchKernelTest {
+
+    @Test
+    public void multiLaneSearchMatchesScalarSearch() throws Exception {
+        final Random random = new Random(42);
+        final int n = 37;
+        final int[][] matrix = new int[n][n];
+        final double[] priceArray = new double[n];
+        for (int i = 0; i < n; i++) {
+            priceArray[i] = random.nextInt(50) / 4.0;
+            for (int j = 0; j < n; j++) {
+                matrix[i][j] = random.nextInt(100);
+            }
+        }
+
+        final MutableSearchResult expected = new MutableSearchResult();
+        final MutableSearchResult actual = new MutableSearchResult();
+        for (BenefitMatrix benefitMatrix : new BenefitMatrix[]{
+                BenefitMatrix.createRowMajor(matrix),
+                BenefitMatrix.createTiled(matrix, 6)}) {
+            for (int person = 0; person < n; person++) {
+                for (int[] range : new int[][]{{0, n}, {3, 30}, {5, 7}, {10, 11}}) {
+                    SearchKernel.SCALAR.searchRange(benefitMatrix, person, priceArray, range[0], range[1], expected);
+                    SearchKernel.MULTI_LANE.searchRange(benefitMatrix, person, priceArray, range[0], range[1], actual);
+                    assertEquals(expected.getBestValue(), actual.getBestValue(), 0.0);
+                    assertEquals(expected.getSecondBestValue(), actual.getSecondBestValue(), 0.0);
+                    assertEquals(expected.getBestValue(),
+                                 matrix[person][actual.getBestItem()] - priceArray[actual.getBestItem()], 0.0);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void candidateSearchIsExactWheneverItClaims() throws Exception {
+        final Random random = new Random(43);
+        final int n = 41;
+        final int[][] matrix = new int[n][n];
+        for (int[] row : matrix) {
+            for (int j = 0; j < n; j++) {
+                row[j] = random.nextInt(100);
+            }
+        }
+        final BenefitMatrix benefitMatrix = BenefitMatrix.createRowMajor(matrix);
+        final CandidateLists candidateLists = CandidateLists.create(benefitMatrix, 5);
+
+        // with equal prices the best candidates are the best items
+        final double[] priceArray = new double[n];
+        final MutableSearchResult expected = new MutableSearchResult();
+        final MutableSearchResult actual = new MutableSearchResult();
+        for (int person = 0; person < n; person++) {
+            assertTrue(CandidateSearch.search(benefitMatrix, candidateLists, person, priceArray, 0.0, actual));
+        }
+
+        int numberOfExact = 0;
+        for (int round = 0; round < 20; round++) {
+            for (int j = 0; j < n; j++) {
+                priceArray[j] += random.nextInt(20) / 4.0;
+            }
+            double minPrice = Double.POSITIVE_INFINITY;
+            for (double price : priceArray) {
+                minPrice = Math.min(minPrice, price);
+            }
+            for (int person = 0; person < n; person++) {
+                if (CandidateSearch.search(benefitMatrix, candidateLists, person, priceArray, minPrice, actual)) {
+                    numberOfExact++;
+                    SearchKernel.SCALAR.searchRange(benefitMatrix, person, priceArray, 0, n, expected);
+                    assertEquals(expected.getBestValue(), actual.getBestValue(), 0.0);
+                    assertEquals(expected.getSecondBestValue(), actual.getSecondBestValue(), 0.0);
+                }
+            }
+        }
+        assertTrue(numberOfExact > 0);
+    }
+}
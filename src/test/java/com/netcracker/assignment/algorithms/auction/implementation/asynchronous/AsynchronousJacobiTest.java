@@ -0,0 +1,75 @@
+package com.netcracker.assignment.algorithms.auction.implementation.asynchronous;
+
+import com.netcracker.assignment.algorithms.auction.AuctionAlgorithm;
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.BenefitMatrix;
+import com.netcracker.assignment.algorithms.auction.auxillary.logic.epsilonscaling.EpsilonSequenceProducer;
+import com.netcracker.assignment.algorithms.auction.implementation.AuctionImplementation;
+import com.netcracker.assignment.algorithms.auction.implementation.synchronous.SynchronousGaussSeidel;
+import com.netcracker.assignment.algorithms.auction.implementation.synchronous.SynchronousJacobi;
+import com.netcracker.assignment.algorithms.hungarian.HungarianAlgorithm;
+import com.netcracker.assignment.utils.ConcurrentUtils;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import static com.netcracker.assignment.utils.GeneralUtils.convertArrayToList;
+import static com.netcracker.assignment.utils.io.ResultPrinter.findTotalWeightForAssignment;
+import static org.junit.Assert.assertEquals;
+
+public class AsynchronousJacobiTest {
+
+    private final static EpsilonSequenceProducer EPSILON_PRODUCER =
+            problemSize -> Arrays.asList(10.0, 1.0, 0.25, 1.0 / (problemSize + 1));
+
+    // more tasks than pool threads: persons of the tasks, which haven't started yet, have to be stolen
+    @Test(timeout = 60_000)
+    public void finishesWhenTasksOutnumberPoolThreads() {
+        final Random random = new Random(15);
+        final ForkJoinPool forkJoinPool = ConcurrentUtils.createForkJoinPool(2, "asynchronous-test");
+        try {
+            final AuctionAlgorithm solver = new AuctionAlgorithm(new AsynchronousJacobi(6, forkJoinPool), EPSILON_PRODUCER);
+            for (int[] size : new int[][]{{1, 1}, {5, 5}, {80, 80}, {30, 70}}) {
+                final int[][] matrix = new int[size[0]][size[1]];
+                for (int[] row : matrix) {
+                    for (int j = 0; j < row.length; j++) {
+                        row[j] = random.nextInt(100);
+                    }
+                }
+                final int expected = findTotalWeightForAssignment(matrix, convertArrayToList(new HungarianAlgorithm().findMaxCostAssignment(matrix)));
+                assertEquals(expected, findTotalWeightForAssignment(matrix, convertArrayToList(solver.findMaxCostAssignment(matrix))));
+            }
+        } finally {
+            ConcurrentUtils.shutdownAndAwaitTermination(forkJoinPool, 10, TimeUnit.SECONDS);
+        }
+    }
+
+    // early exit over the sorted row index must find the same optimum as the full scan
+    @Test(timeout = 60_000)
+    public void sortedRowIndexKeepsOptimum() {
+        final Random random = new Random(25);
+        final List<AuctionImplementation> implementationList = Arrays.asList(
+                new AsynchronousJacobi(2),
+                new SynchronousJacobi(2, 4),
+                new SynchronousGaussSeidel(2, 3)
+        );
+        for (int[] size : new int[][]{{60, 60}, {30, 70}}) {
+            final int[][] matrix = new int[size[0]][size[1]];
+            for (int[] row : matrix) {
+                for (int j = 0; j < row.length; j++) {
+                    row[j] = random.nextInt(100);
+                }
+            }
+            final int expected = findTotalWeightForAssignment(matrix, convertArrayToList(new HungarianAlgorithm().findMaxCostAssignment(matrix)));
+            final BenefitMatrix benefitMatrix = BenefitMatrix.createRowMajor(matrix).attachSortedRowIndex();
+            for (AuctionImplementation implementation : implementationList) {
+                final AuctionAlgorithm solver = new AuctionAlgorithm(implementation, EPSILON_PRODUCER);
+                assertEquals(implementation.getClass().getSimpleName(), expected,
+                        findTotalWeightForAssignment(matrix, convertArrayToList(solver.findMaxCostAssignment(benefitMatrix))));
+            }
+        }
+    }
+}
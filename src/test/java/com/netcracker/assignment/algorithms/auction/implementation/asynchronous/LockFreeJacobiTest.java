@@ -0,0 +1,65 @@
+package com.netcracker.assignment.algorithms.auction.implementation.asynchronous;
+
+import com.netcracker.assignment.algorithms.auction.AuctionAlgorithm;
+import com.netcracker.assignment.algorithms.auction.auxillary.logic.epsilonscaling.EpsilonSequenceProducer;
+import com.netcracker.assignment.algorithms.hungarian.HungarianAlgorithm;
+import com.netcracker.assignment.algorithms.jonkervolgenant.JonkerVolgenantAlgorithm;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static com.netcracker.assignment.utils.GeneralUtils.convertArrayToList;
+import static com.netcracker.assignment.utils.io.ResultPrinter.findTotalWeightForAssignment;
+import static org.junit.Assert.assertEquals;
+
+public class LockFreeJacobiTest {
+
+    private final static EpsilonSequenceProducer EPSILON_PRODUCER =
+            problemSize -> Arrays.asList(10.0, 1.0, 0.25, 1.0 / (problemSize + 1));
+
+    @Test(timeout = 60_000)
+    public void findsOptimalAssignmentWithContendedBids() {
+        final Random random = new Random(14);
+        final AuctionAlgorithm solver = new AuctionAlgorithm(new LockFreeJacobi(8), EPSILON_PRODUCER);
+        // narrow range of benefits makes many persons bid for the same items
+        for (int[] size : new int[][]{{1, 1}, {60, 60}, {200, 200}, {40, 90}}) {
+            for (int maxBenefit : new int[]{5, 1000}) {
+                final int[][] matrix = new int[size[0]][size[1]];
+                for (int[] row : matrix) {
+                    for (int j = 0; j < row.length; j++) {
+                        row[j] = random.nextInt(maxBenefit);
+                    }
+                }
+                final int expected = findTotalWeightForAssignment(matrix, convertArrayToList(new HungarianAlgorithm().findMaxCostAssignment(matrix)));
+                assertEquals(expected, findTotalWeightForAssignment(matrix, convertArrayToList(solver.findMaxCostAssignment(matrix))));
+            }
+        }
+    }
+
+    // full int range of benefits leaves too few fixed-point units for epsilon = 1 / (n + 1), so double prices are used
+    @Test(timeout = 60_000)
+    public void findsOptimalAssignmentForFullRangeOfBenefits() {
+        final Random random = new Random(16);
+        final AuctionAlgorithm solver = new AuctionAlgorithm(new LockFreeJacobi(4));
+        for (int[] size : new int[][]{{600, 600}, {300, 700}}) {
+            final int[][] matrix = new int[size[0]][size[1]];
+            for (int[] row : matrix) {
+                for (int j = 0; j < row.length; j++) {
+                    row[j] = random.nextInt() / 2;
+                }
+            }
+            assertEquals(findTotalWeight(matrix, new JonkerVolgenantAlgorithm().findMaxCostAssignment(matrix)),
+                         findTotalWeight(matrix, solver.findMaxCostAssignment(matrix)));
+        }
+    }
+
+    // sum of benefits doesn't fit into int
+    private static long findTotalWeight(int[][] matrix, int[] assignment) {
+        long totalWeight = 0;
+        for (int person = 0; person < assignment.length; person++) {
+            totalWeight += matrix[person][assignment[person]];
+        }
+        return totalWeight;
+    }
+}
@@ -0,0 +1,107 @@
+package com.netcracker.assignment.algorithms.auction.implementation.primitive;
+
+import com.netcracker.assignment.algorithms.AssignmentProblemSolver;
+import com.netcracker.assignment.algorithms.auction.AuctionAlgorithm;
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.Assignment;
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.BenefitMatrix;
+import com.netcracker.assignment.algorithms.auction.auxillary.entities.aggregates.PriceVector;
+import com.netcracker.assignment.algorithms.auction.auxillary.logic.epsilonscaling.EpsilonSequenceProducer;
+import com.netcracker.assignment.algorithms.auction.auxillary.logic.search.SearchKernel;
+import com.netcracker.assignment.algorithms.hungarian.HungarianAlgorithm;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static com.netcracker.assignment.utils.GeneralUtils.convertArrayToList;
+import static com.netcracker.assignment.utils.io.ResultPrinter.findTotalWeightForAssignment;
+import static org.junit.Assert.assertEquals;
+
+public class PrimitiveAuctionTest {
+
+    // last epsilon is less than 1/n, so the auction result is guaranteed to be optimal
+    private final static EpsilonSequenceProducer EPSILON_PRODUCER =
+            problemSize -> Arrays.asList(10.0, 1.0, 0.25, 1.0 / (problemSize + 1));
+
+    @Test
+    public void gaussSeidelFindsOptimalAssignment() throws Exception {
+        assertOptimal(new AuctionAlgorithm(new PrimitiveGaussSeidel(), EPSILON_PRODUCER));
+    }
+
+    @Test
+    public void jacobiFindsOptimalAssignment() throws Exception {
+        assertOptimal(new AuctionAlgorithm(new PrimitiveJacobi(4, 2), EPSILON_PRODUCER));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void jacobiRejectsNonPositiveNumberOfThreads() throws Exception {
+        new PrimitiveJacobi(0, 2);
+    }
+
+    @Test
+    public void forwardReverseFindsOptimalAssignment() throws Exception {
+        assertOptimal(new AuctionAlgorithm(new ForwardReverseAuction(), EPSILON_PRODUCER));
+        assertOptimal(new AuctionAlgorithm(new ForwardReverseAuction(5, SearchKernel.MULTI_LANE), EPSILON_PRODUCER));
+
+        // unbound instance transposes the matrix by itself
+        final int[][] matrix = createRandomMatrix(new Random(4), 30, 30);
+        final int expected = findTotalWeightForAssignment(matrix, convertArrayToList(new HungarianAlgorithm().findMaxCostAssignment(matrix)));
+        final BenefitMatrix benefitMatrix = BenefitMatrix.createRowMajor(matrix);
+        final PriceVector priceVector = PriceVector.createInitialPriceVector(30);
+        final ForwardReverseAuction implementation = new ForwardReverseAuction();
+        implementation.epsilonScalingPhase(benefitMatrix, priceVector, 1.0);
+        final Assignment assignment = implementation.bind(benefitMatrix).epsilonScalingPhase(benefitMatrix, priceVector, 1.0 / 31);
+        assertEquals(expected, findTotalWeightForAssignment(matrix, convertArrayToList(assignment.getPersonAssignment())));
+    }
+
+    @Test
+    public void candidateGaussSeidelFindsOptimalAssignment() throws Exception {
+        assertOptimal(new AuctionAlgorithm(new CandidateGaussSeidel(2), EPSILON_PRODUCER));
+        assertOptimal(new AuctionAlgorithm(new CandidateGaussSeidel(), EPSILON_PRODUCER));
+
+        // unbound instance builds candidate lists by itself
+        final int[][] matrix = createRandomMatrix(new Random(5), 30, 30);
+        final int expected = findTotalWeightForAssignment(matrix, convertArrayToList(new HungarianAlgorithm().findMaxCostAssignment(matrix)));
+        final BenefitMatrix benefitMatrix = BenefitMatrix.createRowMajor(matrix);
+        final PriceVector priceVector = PriceVector.createInitialPriceVector(30);
+        final CandidateGaussSeidel implementation = new CandidateGaussSeidel(4);
+        implementation.epsilonScalingPhase(benefitMatrix, priceVector, 1.0);
+        final Assignment assignment = implementation.bind(benefitMatrix).epsilonScalingPhase(benefitMatrix, priceVector, 1.0 / 31);
+        assertEquals(expected, findTotalWeightForAssignment(matrix, convertArrayToList(assignment.getPersonAssignment())));
+    }
+
+    @Test
+    public void multiLaneSearchFindsOptimalAssignment() throws Exception {
+        assertOptimal(new AuctionAlgorithm(new PrimitiveGaussSeidel(SearchKernel.MULTI_LANE), EPSILON_PRODUCER));
+        assertOptimal(new AuctionAlgorithm(new PrimitiveJacobi(4, 2, SearchKernel.MULTI_LANE), EPSILON_PRODUCER));
+    }
+
+    @Test
+    public void jacobiFindsOptimalAssignmentForTiledMatrix() throws Exception {
+        final AuctionAlgorithm solver = new AuctionAlgorithm(new PrimitiveJacobi(4, 2), EPSILON_PRODUCER);
+        final int[][] matrix = createRandomMatrix(new Random(7), 50, 1000);
+        final int expected = findTotalWeightForAssignment(matrix, convertArrayToList(new HungarianAlgorithm().findMaxCostAssignment(matrix)));
+        final int[] assignment = solver.findMaxCostAssignment(BenefitMatrix.createTiled(matrix, 16));
+        assertEquals(expected, findTotalWeightForAssignment(matrix, convertArrayToList(assignment)));
+    }
+
+    private static void assertOptimal(AssignmentProblemSolver solver) {
+        final Random random = new Random(42);
+        for (int n : new int[]{1, 2, 5, 20, 60}) {
+            final int[][] matrix = createRandomMatrix(random, n, 100);
+            final int expected = findTotalWeightForAssignment(matrix, convertArrayToList(new HungarianAlgorithm().findMaxCostAssignment(matrix)));
+            final int actual = findTotalWeightForAssignment(matrix, convertArrayToList(solver.findMaxCostAssignment(matrix)));
+            assertEquals(expected, actual);
+        }
+    }
+
+    private static int[][] createRandomMatrix(Random random, int n, int maxBenefit) {
+        final int[][] matrix = new int[n][n];
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                matrix[i][j] = random.nextInt(maxBenefit);
+            }
+        }
+        return matrix;
+    }
+}
@@ -0,0 +1,48 @@
+package com.netcracker.assignment.algorithms.auction.implementation.synchronous;
+
+import com.netcracker.assignment.algorithms.auction.AuctionAlgorithm;
+import com.netcracker.assignment.algorithms.auction.auxillary.logic.epsilonscaling.EpsilonSequenceProducer;
+import com.netcracker.assignment.algorithms.hungarian.HungarianAlgorithm;
+import com.netcracker.assignment.utils.ConcurrentUtils;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import static com.netcracker.assignment.utils.GeneralUtils.convertArrayToList;
+import static com.netcracker.assignment.utils.io.ResultPrinter.findTotalWeightForAssignment;
+import static org.junit.Assert.assertEquals;
+
+public class SynchronousHybridTest {
+
+    private final static EpsilonSequenceProducer EPSILON_PRODUCER =
+            problemSize -> Arrays.asList(10.0, 1.0, 0.25, 1.0 / (problemSize + 1));
+
+    // used to deadlock on a bounded pool, when all threads were waiting for nested search tasks
+    @Test(timeout = 60_000)
+    public void nestedTasksDontDeadlockOnSmallPool() throws Exception {
+        final Random random = new Random(51);
+        final int[][] matrix = new int[150][150];
+        for (int[] row : matrix) {
+            for (int j = 0; j < row.length; j++) {
+                row[j] = random.nextInt(1000);
+            }
+        }
+        final int expected = findTotalWeightForAssignment(matrix, convertArrayToList(new HungarianAlgorithm().findMaxCostAssignment(matrix)));
+
+        final ForkJoinPool forkJoinPool = ConcurrentUtils.createForkJoinPool(2, "hybrid-test");
+        try {
+            for (int[] parameters : new int[][]{{1, 64}, {1, 1}, {200, 8}}) {
+                final AuctionAlgorithm solver = new AuctionAlgorithm(
+                        new SynchronousHybrid(2, parameters[0], parameters[1], forkJoinPool),
+                        EPSILON_PRODUCER
+                );
+                assertEquals(expected, findTotalWeightForAssignment(matrix, convertArrayToList(solver.findMaxCostAssignment(matrix))));
+            }
+        } finally {
+            ConcurrentUtils.shutdownAndAwaitTermination(forkJoinPool, 10, TimeUnit.SECONDS);
+        }
+    }
+}
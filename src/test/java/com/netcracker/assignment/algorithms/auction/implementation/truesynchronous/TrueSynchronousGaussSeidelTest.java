@@ -0,0 +1,84 @@
+package com.netcracker.assignment.algorithms.auction.implementation.truesynchronous;
+
+import com.netcracker.assignment.algorithms.auction.AuctionAlgorithm;
+import com.netcracker.assignment.algorithms.auction.auxillary.logic.epsilonscaling.EpsilonSequenceProducer;
+import com.netcracker.assignment.algorithms.auction.implementation.primitive.PrimitiveGaussSeidel;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public class TrueSynchronousGaussSeidelTest {
+
+    private final static EpsilonSequenceProducer EPSILON_PRODUCER =
+            problemSize -> Arrays.asList(10.0, 1.0, 0.25, 1.0 / (problemSize + 1));
+
+    // partitioned search sees the same prices as the single threaded one, so bids are the same
+    @Test(timeout = 60_000)
+    public void makesSameBidsAsSingleThreadedGaussSeidel() {
+        final Random random = new Random(17);
+        final AuctionAlgorithm expectedSolver = new AuctionAlgorithm(new PrimitiveGaussSeidel(), EPSILON_PRODUCER);
+        final AuctionAlgorithm actualSolver = new AuctionAlgorithm(new TrueSynchronousGaussSeidel(3), EPSILON_PRODUCER);
+        for (int[] size : new int[][]{{1, 1}, {50, 50}, {700, 700}, {300, 800}}) {
+            final int[][] matrix = new int[size[0]][size[1]];
+            for (int[] row : matrix) {
+                for (int j = 0; j < row.length; j++) {
+                    row[j] = random.nextInt(1000);
+                }
+            }
+            assertArrayEquals(expectedSolver.findMaxCostAssignment(matrix), actualSolver.findMaxCostAssignment(matrix));
+        }
+    }
+
+    // workers are started once and parked between phases and solves, close() releases them
+    @Test(timeout = 60_000)
+    public void reusesWorkersUntilClosed() throws Exception {
+        final int[][] matrix = new int[600][600];
+        final Random random = new Random(18);
+        for (int[] row : matrix) {
+            for (int j = 0; j < row.length; j++) {
+                row[j] = random.nextInt(1000);
+            }
+        }
+        // other tests may leave workers of their own instances
+        final List<Thread> otherWorkers = findWorkerThreads();
+        final TrueSynchronousGaussSeidel implementation = new TrueSynchronousGaussSeidel(3);
+        final AuctionAlgorithm solver = new AuctionAlgorithm(implementation, EPSILON_PRODUCER);
+        final int[] expected = new AuctionAlgorithm(new PrimitiveGaussSeidel(), EPSILON_PRODUCER).findMaxCostAssignment(matrix);
+        for (int solve = 0; solve < 3; solve++) {
+            assertArrayEquals(expected, solver.findMaxCostAssignment(matrix));
+            final List<Thread> workers = findWorkerThreads();
+            workers.removeAll(otherWorkers);
+            assertEquals(2, workers.size());
+        }
+
+        final List<Thread> workers = findWorkerThreads();
+        workers.removeAll(otherWorkers);
+        implementation.close();
+        for (Thread thread : workers) {
+            thread.join();
+        }
+        try {
+            solver.findMaxCostAssignment(matrix);
+            fail("Closed implementation must not solve");
+        } catch (IllegalStateException e) {
+            // expected
+        }
+    }
+
+    private static List<Thread> findWorkerThreads() {
+        final List<Thread> threadList = new ArrayList<>();
+        for (Thread thread : Thread.getAllStackTraces().keySet()) {
+            if (thread.getName().startsWith("true-synchronous-worker") && thread.isAlive()) {
+                threadList.add(thread);
+            }
+        }
+        return threadList;
+    }
+}
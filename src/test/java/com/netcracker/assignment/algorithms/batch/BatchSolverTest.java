@@ -0,0 +1,67 @@
+package com.netcracker.assignment.algorithms.batch;
+
+import com.netcracker.assignment.algorithms.auction.AuctionAlgorithm;
+import com.netcracker.assignment.algorithms.auction.auxillary.logic.epsilonscaling.EpsilonSequenceProducer;
+import com.netcracker.assignment.algorithms.auction.implementation.primitive.PrimitiveGaussSeidel;
+import com.netcracker.assignment.algorithms.auction.implementation.primitive.PrimitiveJacobi;
+import com.netcracker.assignment.algorithms.hungarian.HungarianAlgorithm;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static com.netcracker.assignment.utils.GeneralUtils.convertArrayToList;
+import static com.netcracker.assignment.utils.io.ResultPrinter.findTotalWeightForAssignment;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+public class BatchSolverTest {
+
+    private final static EpsilonSequenceProducer EPSILON_PRODUCER =
+            problemSize -> Arrays.asList(10.0, 1.0, 0.25, 1.0 / (problemSize + 1));
+
+    @Test
+    public void batchResultsAreOptimalInBothModes() throws Exception {
+        final Random random = new Random(41);
+        final List<int[][]> matrixList = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            // every tenth problem is above the threshold
+            final int n = i % 10 == 0 ? 70 : 5 + random.nextInt(30);
+            final int[][] matrix = new int[n][n];
+            for (int[] row : matrix) {
+                for (int j = 0; j < n; j++) {
+                    row[j] = random.nextInt(1000);
+                }
+            }
+            matrixList.add(matrix);
+        }
+
+        final ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            final BatchSolver batchSolver = new BatchSolver(
+                    executorService,
+                    new AuctionAlgorithm(new PrimitiveGaussSeidel(), EPSILON_PRODUCER),
+                    new AuctionAlgorithm(new PrimitiveJacobi(2, 8), EPSILON_PRODUCER),
+                    50
+            );
+
+            final List<int[]> orderedList = batchSolver.solveAll(matrixList);
+            final int[][] completedArray = new int[matrixList.size()][];
+            batchSolver.solveAll(matrixList, (index, assignment) -> completedArray[index] = assignment);
+
+            for (int i = 0; i < matrixList.size(); i++) {
+                final int[][] matrix = matrixList.get(i);
+                final int expected = findTotalWeightForAssignment(matrix, convertArrayToList(new HungarianAlgorithm().findMaxCostAssignment(matrix)));
+                assertEquals(expected, findTotalWeightForAssignment(matrix, convertArrayToList(orderedList.get(i))));
+                assertNotNull(completedArray[i]);
+                assertEquals(expected, findTotalWeightForAssignment(matrix, convertArrayToList(completedArray[i])));
+            }
+        } finally {
+            executorService.shutdown();
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.netcracker.assignment.algorithms.hungarian;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static com.netcracker.assignment.utils.GeneralUtils.convertArrayToList;
+import static com.netcracker.assignment.utils.io.ResultPrinter.findTotalWeightForAssignment;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class HungarianAlgorithmTest {
+
+    @Test
+    public void matchesBruteForceOnSmallMatrices() throws Exception {
+        final Random random = new Random(2);
+        for (int n = 1; n <= 6; n++) {
+            final int[][] matrix = createRandomMatrix(random, n);
+            final int[] assignment = new HungarianAlgorithm().findMaxCostAssignment(matrix);
+            assertEquals(findBestTotalWeight(matrix, 0, new boolean[n]), findTotalWeightForAssignment(matrix, convertArrayToList(assignment)));
+        }
+    }
+
+    @Test
+    public void sharedInstanceIsReentrant() throws Exception {
+        final HungarianAlgorithm solver = new HungarianAlgorithm();
+        final Random random = new Random(3);
+        final List<int[][]> matrixList = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            matrixList.add(createRandomMatrix(random, 120));
+        }
+
+        final ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<int[]>> futureList = new ArrayList<>();
+            for (int[][] matrix : matrixList) {
+                futureList.add(executorService.submit(() -> solver.findMaxCostAssignment(matrix)));
+            }
+            for (int i = 0; i < matrixList.size(); i++) {
+                assertArrayEquals(solver.findMaxCostAssignment(matrixList.get(i)), futureList.get(i).get());
+            }
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    private static int findBestTotalWeight(int[][] matrix, int person, boolean[] used) {
+        if (person == matrix.length) {
+            return 0;
+        }
+        int best = Integer.MIN_VALUE;
+        for (int item = 0; item < used.length; item++) {
+            if (!used[item]) {
+                used[item] = true;
+                best = Math.max(best, matrix[person][item] + findBestTotalWeight(matrix, person + 1, used));
+                used[item] = false;
+            }
+        }
+        return best;
+    }
+
+    private static int[][] createRandomMatrix(Random random, int n) {
+        final int[][] matrix = new int[n][n];
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                matrix[i][j] = random.nextInt(1000);
+            }
+        }
+        return matrix;
+    }
+}
@@ -0,0 +1,71 @@
+package com.netcracker.assignment.algorithms.jonkervolgenant;
+
+import com.netcracker.assignment.algorithms.hungarian.HungarianAlgorithm;
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static com.netcracker.assignment.utils.GeneralUtils.convertArrayToList;
+import static com.netcracker.assignment.utils.io.ResultPrinter.findTotalWeightForAssignment;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class JonkerVolgenantAlgorithmTest {
+
+    @Test
+    public void matchesHungarianOnRandomMatrices() throws Exception {
+        final Random random = new Random(5);
+        // small benefit range produces a lot of ties, which are the hard cases for row reduction
+        for (int maxBenefit : new int[]{3, 100, 1_000_000}) {
+            for (int[] size : new int[][]{{1, 1}, {2, 2}, {3, 7}, {17, 17}, {40, 55}, {150, 150}}) {
+                final int[][] matrix = new int[size[0]][size[1]];
+                for (int[] row : matrix) {
+                    for (int j = 0; j < row.length; j++) {
+                        row[j] = random.nextInt(maxBenefit);
+                    }
+                }
+                final int[] assignment = new JonkerVolgenantAlgorithm().findMaxCostAssignment(matrix);
+                final Set<Integer> itemSet = new HashSet<>(convertArrayToList(assignment));
+                assertEquals(size[0], itemSet.size());
+                assertEquals(
+                        findTotalWeightForAssignment(matrix, convertArrayToList(new HungarianAlgorithm().findMaxCostAssignment(matrix))),
+                        findTotalWeightForAssignment(matrix, convertArrayToList(assignment))
+                );
+            }
+        }
+    }
+
+    // dummy rows aren't stored, so the workspace must not depend on them for anything but zero costs
+    @Test
+    public void solvesProblemsWithMuchLessPersonsThanItems() throws Exception {
+        final Random random = new Random(6);
+        for (int maxBenefit : new int[]{3, 1_000_000}) {
+            for (int[] size : new int[][]{{1, 300}, {5, 1000}, {20, 600}}) {
+                final int[][] matrix = new int[size[0]][size[1]];
+                for (int[] row : matrix) {
+                    for (int j = 0; j < row.length; j++) {
+                        row[j] = random.nextInt(maxBenefit);
+                    }
+                }
+                final int[] assignment = new JonkerVolgenantAlgorithm().findMaxCostAssignment(matrix);
+                assertEquals(size[0], new HashSet<>(convertArrayToList(assignment)).size());
+                assertEquals(
+                        findTotalWeightForAssignment(matrix, convertArrayToList(new HungarianAlgorithm().findMaxCostAssignment(matrix))),
+                        findTotalWeightForAssignment(matrix, convertArrayToList(assignment))
+                );
+            }
+        }
+    }
+
+    // negated Integer.MIN_VALUE doesn't fit into int
+    @Test
+    public void handlesExtremeBenefits() throws Exception {
+        final int[][] matrix = {
+                {Integer.MIN_VALUE, 0, Integer.MAX_VALUE},
+                {0, Integer.MIN_VALUE, Integer.MIN_VALUE}
+        };
+        assertArrayEquals(new int[]{2, 0}, new JonkerVolgenantAlgorithm().findMaxCostAssignment(matrix));
+    }
+}
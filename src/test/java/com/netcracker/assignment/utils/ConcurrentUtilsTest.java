@@ -0,0 +1,27 @@
+package com.netcracker.assignment.utils;
+
+import org.junit.Test;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class ConcurrentUtilsTest {
+
+    @Test
+    public void forkJoinPoolThreadsAreNamedAndPoolCanBeShutDown() throws Exception {
+        final ForkJoinPool pool = ConcurrentUtils.createForkJoinPool(2, "test-pool");
+        final String threadName = pool.submit(() -> Thread.currentThread().getName()).get();
+        assertTrue(threadName, threadName.startsWith("test-pool-"));
+        assertTrue(ConcurrentUtils.shutdownAndAwaitTermination(pool, 10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void defaultExecutorIsShared() throws Exception {
+        assertSame(ConcurrentUtils.getDefaultExecutorService(), ConcurrentUtils.getDefaultExecutorService());
+        final String threadName = ConcurrentUtils.getDefaultExecutorService().submit(() -> Thread.currentThread().getName()).get();
+        assertTrue(threadName, threadName.startsWith(ConcurrentUtils.DEFAULT_THREAD_NAME_PREFIX));
+    }
+}